@@ -0,0 +1,179 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory availability index of booked interview time per panelist and per candidate.
+ * It is warmed from the interviews table once the application is ready and kept current by this
+ * replica's InterviewService create/reschedule/delete, so it lets a conflicting booking be rejected
+ * without a query. Bookings made on other replicas are not in it, so a free answer must still be
+ * confirmed against the database. Interviews that have ended are evicted on
+ * {@code availability-index.evict-interval} and the horizon moves up with them; probes that start
+ * before the horizon are not covered.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityIndex {
+
+    private final InterviewRepository interviewRepository;
+
+    private final Map<Integer, IntervalSet> panelistBookings = new ConcurrentHashMap<>();
+    private final Map<Integer, IntervalSet> candidateBookings = new ConcurrentHashMap<>();
+    private final Map<Integer, Booking> bookings = new ConcurrentHashMap<>();
+    private volatile LocalDateTime horizon;
+
+    private record Booking(Integer candidateId, List<Integer> panelistIds, LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * Loads every active interview that has not ended yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        LocalDateTime now = LocalDateTime.now();
+        log.info("Warming up availability index from interviews ending after {}", now);
+        try {
+            List<Interview> interviews = interviewRepository.findByIsDeletedFalseAndEndTimeAfter(now);
+            interviews.forEach(this::apply);
+            horizon = now;
+            log.info("Availability index ready with {} interviews", bookings.size());
+        } catch (Exception e) {
+            log.error("Unable to warm up availability index, conflict checks stay on the database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     *
+     * @param start start of the probe window
+     * @return true when the index holds every booking that could overlap a window starting at start
+     */
+    public boolean covers(LocalDateTime start) {
+        LocalDateTime loadedFrom = horizon;
+        return loadedFrom != null && !start.isBefore(loadedFrom);
+    }
+
+    public boolean isCandidateBusy(Integer candidateId, LocalDateTime start, LocalDateTime end) {
+        IntervalSet intervals = candidateId == null ? null : candidateBookings.get(candidateId);
+        return intervals != null && intervals.overlaps(start, end);
+    }
+
+    public boolean isPanelistBusy(Integer panelistId, LocalDateTime start, LocalDateTime end) {
+        IntervalSet intervals = panelistId == null ? null : panelistBookings.get(panelistId);
+        return intervals != null && intervals.overlaps(start, end);
+    }
+
+    /**
+     * Drops interviews that have ended, they can no longer overlap a probe inside the horizon.
+     */
+    @Scheduled(fixedDelayString = "${availability-index.evict-interval:PT1H}")
+    public synchronized void evictEnded() {
+        if (horizon == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> ended = bookings.entrySet().stream()
+                .filter(entry -> !entry.getValue().end().isAfter(now))
+                .map(Map.Entry::getKey)
+                .toList();
+        ended.forEach(this::unindex);
+        panelistBookings.values().removeIf(IntervalSet::isEmpty);
+        candidateBookings.values().removeIf(IntervalSet::isEmpty);
+        horizon = now;
+        if (!ended.isEmpty()) {
+            log.debug("Evicted {} ended interviews from the availability index", ended.size());
+        }
+    }
+
+    /**
+     * Adds or replaces the interview once the surrounding transaction commits.
+     *
+     * @param interview saved interview
+     */
+    public void put(Interview interview) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                apply(interview);
+            }
+        });
+    }
+
+    /**
+     * Drops the interview once the surrounding transaction commits.
+     *
+     * @param interviewId interview id
+     */
+    public void remove(Integer interviewId) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                unindex(interviewId);
+            }
+        });
+    }
+
+    private void apply(Interview interview) {
+        unindex(interview.getInterviewId());
+        if (Boolean.TRUE.equals(interview.getIsDeleted())
+                || interview.getStartTime() == null || interview.getEndTime() == null) {
+            return;
+        }
+        Booking booking = new Booking(interview.getCandidateId(), PanelistIds.parse(interview.getPanelistIds()),
+                interview.getStartTime(), interview.getEndTime());
+        bookings.put(interview.getInterviewId(), booking);
+        if (booking.candidateId() != null) {
+            candidateBookings.computeIfAbsent(booking.candidateId(), k -> new IntervalSet())
+                    .add(interview.getInterviewId(), booking.start(), booking.end());
+        }
+        for (Integer panelistId : booking.panelistIds()) {
+            panelistBookings.computeIfAbsent(panelistId, k -> new IntervalSet())
+                    .add(interview.getInterviewId(), booking.start(), booking.end());
+        }
+    }
+
+    private void unindex(Integer interviewId) {
+        Booking booking = bookings.remove(interviewId);
+        if (booking == null) {
+            return;
+        }
+        if (booking.candidateId() != null) {
+            IntervalSet candidateIntervals = candidateBookings.get(booking.candidateId());
+            if (candidateIntervals != null) {
+                candidateIntervals.remove(interviewId, booking.start());
+            }
+        }
+        for (Integer panelistId : booking.panelistIds()) {
+            IntervalSet panelIntervals = panelistBookings.get(panelistId);
+            if (panelIntervals != null) {
+                panelIntervals.remove(interviewId, booking.start());
+            }
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
+import com.ibs.interview_scheduler.dtos.projection.IdCount;
+import com.ibs.interview_scheduler.entity.DashboardCounter;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.InterviewResult;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.events.DashboardDeltaEvent;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
+import com.ibs.interview_scheduler.repository.DashboardCounterRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory read model behind the HR dashboard totals. Slot and interview mutations adjust striped
+ * counters once their transaction commits, so reading a total is a sum over a few cells instead of
+ * a query. Kept per key:
+ * <ul>
+ *     <li>slots per status and interviews per result, checkpointed to {@code dashboard_counters}</li>
+ *     <li>slots per panelist and interviews per candidate, rebuilt by every recount</li>
+ * </ul>
+ * Counts skip soft deleted rows, as the dashboard queries do through the {@code @Where} on the
+ * entities, so deletes take their rows off the counters once they commit.
+ * A scheduled full recount replaces the counters, recording how far each one had drifted in the
+ * {@code dashboard.counters.drift} summary, and checkpoints the recounted values. The checkpoint is
+ * only a seed for the next startup; since it holds table counts, replicas writing it in turn do not
+ * overwrite each other's increments.
+ * <p>
+ * Each replica only sees its own mutations, so with several replicas the counters miss the others'
+ * writes until the next recount. When a recount finds more than {@code dashboard-counters.max-drift}
+ * total drift the counters are not trusted: {@link #totals()} is empty and {@link #coverageLoaded()}
+ * false, so callers query instead, until a recount finds them within the threshold again. Until
+ * a checkpoint or recount has loaded them, {@link #totals()} is empty too.
+ * <p>
+ * Every applied change is also published as a {@link DashboardDeltaEvent} for the live dashboard
+ * streams, deleted and moved interviews included. A recount that changes an HR dashboard counter
+ * publishes a resync instead of its corrections.
+ */
+@Component
+@Slf4j
+public class DashboardCounters {
+
+    static final String SLOT_STATUS = "slots.status.";
+    static final String INTERVIEW_RESULT = "interviews.result.";
+    // counters shown on the HR dashboard, by the response field they feed
+    private static final Map<String, String> HR_FIELDS = Map.of(
+            SLOT_STATUS + SlotStatus.UNBOOKED, "availableSlots",
+            INTERVIEW_RESULT + InterviewResult.SELECTED, "selected",
+            INTERVIEW_RESULT + InterviewResult.REJECTED, "rejected");
+
+    private final InterviewRepository interviewRepository;
+    private final SlotRepository slotRepository;
+    private final DashboardCounterRepository counterRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxDrift;
+
+    private final Map<String, LongAdder> totals = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> interviewsByCandidate = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> slotsByPanelist = new ConcurrentHashMap<>();
+    private volatile boolean totalsLoaded;
+    private volatile boolean coverageLoaded;
+    private volatile long lastDrift;
+
+    public DashboardCounters(InterviewRepository interviewRepository, SlotRepository slotRepository,
+                             DashboardCounterRepository counterRepository, MeterRegistry meterRegistry,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${dashboard-counters.max-drift:10}") long maxDrift) {
+        this.interviewRepository = interviewRepository;
+        this.slotRepository = slotRepository;
+        this.counterRepository = counterRepository;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.maxDrift = maxDrift;
+        Gauge.builder("dashboard.counters.last.drift", this, counters -> counters.lastDrift)
+                .description("Total absolute drift found by the last dashboard counter recount")
+                .register(meterRegistry);
+    }
+
+    public record Totals(long availableSlots, long selected, long rejected) {
+    }
+
+    /**
+     *
+     * @return slot and result totals, empty until the checkpoint or the first recount has loaded them
+     *         and while the last recount found them drifted past the threshold
+     */
+    public Optional<Totals> totals() {
+        if (!totalsLoaded || drifted()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Totals(get(SLOT_STATUS + SlotStatus.UNBOOKED),
+                get(INTERVIEW_RESULT + InterviewResult.SELECTED), get(INTERVIEW_RESULT + InterviewResult.REJECTED)));
+    }
+
+    /**
+     *
+     * @return true once a recount has filled the per candidate and per panelist counts, false while
+     *         the last recount found the counters drifted past the threshold
+     */
+    public boolean coverageLoaded() {
+        return coverageLoaded && !drifted();
+    }
+
+    public boolean hasInterviews(Integer candidateId) {
+        LongAdder count = interviewsByCandidate.get(candidateId);
+        return count != null && count.sum() > 0;
+    }
+
+    public boolean hasSlots(Integer panelistId) {
+        LongAdder count = slotsByPanelist.get(panelistId);
+        return count != null && count.sum() > 0;
+    }
+
+    /**
+     * Counts created slots once the surrounding transaction commits.
+     *
+     * @param slots inserted slots
+     */
+    public void slotsAdded(Collection<Slot> slots) {
+        runAfterCommit(() -> {
+            Map<String, Long> delta = new HashMap<>();
+            slots.forEach(slot -> {
+                delta.merge(key(SLOT_STATUS, slot.getStatus()), 1L, Long::sum);
+                add(slotsByPanelist, slot.getPanelistId(), 1);
+            });
+            apply(delta, List.of(), List.of());
+        });
+    }
+
+    /**
+     * Takes soft deleted slots off their status and panelist counters once the surrounding
+     * transaction commits.
+     *
+     * @param slots slots as they were before the delete
+     */
+    public void slotsRemoved(Collection<Slot> slots) {
+        runAfterCommit(() -> {
+            Map<String, Long> delta = new HashMap<>();
+            slots.forEach(slot -> {
+                delta.merge(key(SLOT_STATUS, slot.getStatus()), -1L, Long::sum);
+                add(slotsByPanelist, slot.getPanelistId(), -1);
+            });
+            apply(delta, List.of(), List.of());
+        });
+    }
+
+    // already delivered after commit, so applied straight away
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsTransitioned(SlotsTransitionedEvent event) {
+        moveSlots(event.getFrom().toString(), event.getTo().toString(), event.getAffected());
+    }
+
+    /**
+     * Counts created interviews once the surrounding transaction commits.
+     *
+     * @param interviews inserted interviews
+     */
+    public void interviewsAdded(Collection<Interview> interviews) {
+        runAfterCommit(() -> {
+            Map<String, Long> delta = new HashMap<>();
+            interviews.forEach(interview -> {
+                delta.merge(key(INTERVIEW_RESULT, interview.getResult()), 1L, Long::sum);
+                add(interviewsByCandidate, interview.getCandidateId(), 1);
+            });
+            apply(delta, List.copyOf(interviews), List.of());
+        });
+    }
+
+    /**
+     * Takes soft deleted interviews off their result and candidate counters once the surrounding
+     * transaction commits.
+     *
+     * @param interviews deleted interviews
+     */
+    public void interviewsRemoved(Collection<Interview> interviews) {
+        runAfterCommit(() -> {
+            Map<String, Long> delta = new HashMap<>();
+            interviews.forEach(interview -> {
+                delta.merge(key(INTERVIEW_RESULT, interview.getResult()), -1L, Long::sum);
+                add(interviewsByCandidate, interview.getCandidateId(), -1);
+            });
+            apply(delta, List.of(), List.copyOf(interviews));
+        });
+    }
+
+    /**
+     * Reports a rescheduled or completed interview to the dashboard streams once the surrounding
+     * transaction commits. No counter changes, result changes go through {@link #interviewResultChanged}.
+     *
+     * @param previous the interview as it was, with its start time, panelists and status
+     * @param current  the interview as it is
+     */
+    public void interviewChanged(Interview previous, Interview current) {
+        runAfterCommit(() -> apply(Map.of(), List.of(current), List.of(previous)));
+    }
+
+    /**
+     * Moves one interview between result counters once the surrounding transaction commits.
+     *
+     * @param from previous result
+     * @param to   new result
+     */
+    public void interviewResultChanged(String from, String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        runAfterCommit(() -> {
+            Map<String, Long> delta = new HashMap<>();
+            delta.put(key(INTERVIEW_RESULT, from), -1L);
+            delta.merge(key(INTERVIEW_RESULT, to), 1L, Long::sum);
+            apply(delta, List.of(), List.of());
+        });
+    }
+
+    /**
+     * Seeds the totals from the last recount's checkpoint until this replica's first recount finishes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+        if (totalsLoaded) {
+            return;
+        }
+        try {
+            List<DashboardCounter> saved = counterRepository.findAll();
+            if (saved.isEmpty()) {
+                return;
+            }
+            saved.forEach(counter -> set(counter.getName(), counter.getCounterValue()));
+            totalsLoaded = true;
+            log.info("Restored {} dashboard counters from checkpoint", saved.size());
+        } catch (Exception e) {
+            log.warn("Unable to restore dashboard counters, waiting for the first recount: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recounts everything from the tables, replaces the counters and checkpoints the recounted
+     * values. A mutation that commits while the recount runs can be missed or counted twice, and the
+     * next recount corrects it.
+     */
+    @Scheduled(fixedDelayString = "${dashboard-counters.reconcile-interval:PT15M}")
+    public synchronized void reconcile() {
+        Map<String, Long> recounted = new HashMap<>();
+        try {
+            for (GroupCount row : slotRepository.countGroupedByStatus()) {
+                recounted.put(SLOT_STATUS + row.key(), row.count());
+            }
+            for (GroupCount row : interviewRepository.countByResult()) {
+                recounted.put(INTERVIEW_RESULT + row.key(), row.count());
+            }
+            List<IdCount> byCandidate = interviewRepository.countByCandidate();
+            List<IdCount> byPanelist = slotRepository.countByPanelist();
+
+            // the first recount has nothing to compare against, a checkpoint seed is only as old as the
+            // recount that wrote it; later recounts measure what this replica's increments missed
+            long drift = 0;
+            boolean hrChanged = false;
+            Set<String> names = new HashSet<>(recounted.keySet());
+            names.addAll(totals.keySet());
+            for (String name : names) {
+                long counterDrift = Math.abs(recounted.getOrDefault(name, 0L) - get(name));
+                if (totalsLoaded && HR_FIELDS.containsKey(name) && recounted.getOrDefault(name, 0L) != get(name)) {
+                    hrChanged = true;
+                }
+                if (coverageLoaded) {
+                    DistributionSummary.builder("dashboard.counters.drift").tag("counter", name)
+                            .register(meterRegistry).record(counterDrift);
+                    drift += counterDrift;
+                }
+                // counters with no rows left are checkpointed as zero, not left at their old value
+                recounted.putIfAbsent(name, 0L);
+                set(name, recounted.get(name));
+            }
+            replace(interviewsByCandidate, byCandidate);
+            replace(slotsByPanelist, byPanelist);
+            if (drift > maxDrift) {
+                log.warn("Dashboard counters drifted by {} since the last recount, querying until they settle", drift);
+            } else if (drift > 0) {
+                log.warn("Dashboard counters drifted by {} since the last recount", drift);
+            }
+            lastDrift = drift;
+            totalsLoaded = true;
+            coverageLoaded = true;
+            // open HR dashboards hold the old values, corrections are not deltas they could apply
+            if (hrChanged) {
+                eventPublisher.publishEvent(new DashboardDeltaEvent(Map.of(), List.of(), List.of(), true));
+            }
+        } catch (Exception e) {
+            log.error("Dashboard counter recount failed, keeping current counters: {}", e.getMessage());
+            return;
+        }
+        checkpoint(recounted);
+    }
+
+    private boolean drifted() {
+        return lastDrift > maxDrift;
+    }
+
+    // table counts rather than this replica's running totals, so every replica writes the same thing
+    private void checkpoint(Map<String, Long> recounted) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            counterRepository.saveAll(recounted.entrySet().stream()
+                    .map(e -> new DashboardCounter(e.getKey(), e.getValue(), now))
+                    .toList());
+        } catch (Exception e) {
+            log.warn("Unable to checkpoint dashboard counters: {}", e.getMessage());
+        }
+    }
+
+    private long get(String name) {
+        LongAdder count = totals.get(name);
+        return count == null ? 0 : count.sum();
+    }
+
+    private void set(String name, Long value) {
+        LongAdder count = totals.computeIfAbsent(name, key -> new LongAdder());
+        count.add((value == null ? 0 : value) - count.sum());
+    }
+
+    private void moveSlots(String from, String to, long count) {
+        Map<String, Long> delta = new HashMap<>();
+        delta.put(key(SLOT_STATUS, from), -count);
+        delta.merge(key(SLOT_STATUS, to), count, Long::sum);
+        apply(delta, List.of(), List.of());
+    }
+
+    // delta keys may be null for a slot or interview without a status or result, those are skipped
+    private void apply(Map<String, Long> delta, List<Interview> addedInterviews, List<Interview> removedInterviews) {
+        Map<String, Long> hrCounters = new HashMap<>();
+        delta.forEach((name, change) -> {
+            add(totals, name, change);
+            String field = name == null ? null : HR_FIELDS.get(name);
+            if (field != null && change != 0) {
+                hrCounters.put(field, change);
+            }
+        });
+        if (!hrCounters.isEmpty() || !addedInterviews.isEmpty() || !removedInterviews.isEmpty()) {
+            eventPublisher.publishEvent(new DashboardDeltaEvent(hrCounters, addedInterviews, removedInterviews, false));
+        }
+    }
+
+    private static String key(String prefix, String value) {
+        return value == null ? null : prefix + value;
+    }
+
+    private static <K> void add(Map<K, LongAdder> counters, K key, long delta) {
+        if (key != null) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static void replace(Map<Integer, LongAdder> counters, List<IdCount> rows) {
+        Map<Integer, Long> recounted = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> recounted.put(row.id(), row.count()));
+        counters.keySet().retainAll(recounted.keySet());
+        recounted.forEach((id, value) -> {
+            LongAdder count = counters.computeIfAbsent(id, key -> new LongAdder());
+            count.add(value - count.sum());
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
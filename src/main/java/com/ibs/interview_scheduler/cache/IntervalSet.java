@@ -0,0 +1,77 @@
+package com.ibs.interview_scheduler.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sorted set of half-open [start, end) intervals belonging to one person, keyed by start time.
+ * An overlap probe only scans intervals starting between (probeStart - longest interval) and
+ * probeEnd, so lookups cost O(log n + k) instead of a table scan.
+ */
+public class IntervalSet {
+
+    private final NavigableMap<LocalDateTime, Map<Integer, LocalDateTime>> byStart = new TreeMap<>();
+    private Duration longest = Duration.ZERO;
+    private int size;
+
+    /**
+     *
+     * @param id    owner id of the interval, used to remove it later
+     * @param start interval start (inclusive)
+     * @param end   interval end (exclusive)
+     */
+    public synchronized void add(Integer id, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime previous = byStart.computeIfAbsent(start, k -> new HashMap<>()).put(id, end);
+        if (previous == null) {
+            size++;
+        }
+        Duration length = Duration.between(start, end);
+        if (length.compareTo(longest) > 0) {
+            longest = length;
+        }
+    }
+
+    /**
+     *
+     * @param id    owner id of the interval
+     * @param start start time the interval was added with
+     */
+    public synchronized void remove(Integer id, LocalDateTime start) {
+        Map<Integer, LocalDateTime> atStart = byStart.get(start);
+        if (atStart != null && atStart.remove(id) != null) {
+            size--;
+            if (atStart.isEmpty()) {
+                byStart.remove(start);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param start probe start (inclusive)
+     * @param end   probe end (exclusive)
+     * @return true when any stored interval intersects [start, end)
+     */
+    public synchronized boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        for (Map<Integer, LocalDateTime> atStart : byStart.subMap(start.minus(longest), true, end, false).values()) {
+            for (LocalDateTime intervalEnd : atStart.values()) {
+                if (intervalEnd.isAfter(start)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,216 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.entity.InterviewTypeDailyStats;
+import com.ibs.interview_scheduler.entity.PanelistResultDailyStats;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.repository.InterviewStatsJdbcRepository;
+import com.ibs.interview_scheduler.repository.InterviewTypeDailyStatsRepository;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the daily interview stats buckets behind the analytics endpoint in step with interview
+ * writes. Writers report the interviews or panelist rows they touched; the affected (day, type) and
+ * (day, panelist) buckets are collected per transaction and recomputed once it commits, in a
+ * transaction of their own. History is backfilled one month per task on
+ * {@code interview-stats.backfill-parallelism} threads, at startup when the buckets are empty and
+ * nightly to correct buckets whose refresh was lost. {@link #isReady()} stays false until the first
+ * backfill has finished.
+ */
+@Component
+@Slf4j
+public class InterviewStatsRollup {
+
+    private final InterviewTypeDailyStatsRepository typeStatsRepository;
+    private final InterviewStatsJdbcRepository statsJdbcRepository;
+    private final InterviewRepository interviewRepository;
+    private final TransactionTemplate requiresNew;
+    private final int backfillParallelism;
+    private volatile boolean ready;
+
+    public InterviewStatsRollup(InterviewTypeDailyStatsRepository typeStatsRepository,
+                                InterviewStatsJdbcRepository statsJdbcRepository,
+                                InterviewRepository interviewRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${interview-stats.backfill-parallelism:4}") int backfillParallelism) {
+        this.typeStatsRepository = typeStatsRepository;
+        this.statsJdbcRepository = statsJdbcRepository;
+        this.interviewRepository = interviewRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backfillParallelism = Math.max(1, backfillParallelism);
+    }
+
+    /**
+     *
+     * @return true once the buckets have been restored or backfilled
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Refreshes the type and panelist buckets of the given interviews once the surrounding
+     * transaction commits. For a moved interview pass it as it was and as it is, so both days are
+     * refreshed.
+     *
+     * @param interviews created, updated, rescheduled or deleted interviews
+     */
+    public void interviewsChanged(Collection<Interview> interviews) {
+        Touched touched = new Touched();
+        for (Interview interview : interviews) {
+            if (interview.getStartTime() == null) {
+                continue;
+            }
+            LocalDate day = interview.getStartTime().toLocalDate();
+            if (interview.getInterviewType() != null) {
+                touched.types.add(new InterviewTypeDailyStats.Key(day, interview.getInterviewType()));
+            }
+            PanelistIds.parse(interview.getPanelistIds())
+                    .forEach(panelistId -> touched.panelists.add(new PanelistResultDailyStats.Key(day, panelistId)));
+        }
+        touch(touched);
+    }
+
+    /**
+     * Refreshes the panelist buckets of the given interview_panelist rows once the surrounding
+     * transaction commits.
+     *
+     * @param rows inserted or removed rows
+     */
+    public void panelistsChanged(Collection<InterviewPanelist> rows) {
+        Touched touched = new Touched();
+        rows.stream()
+                .filter(row -> row.getPanelistId() != null && row.getStartTime() != null)
+                .forEach(row -> touched.panelists.add(
+                        new PanelistResultDailyStats.Key(row.getStartTime().toLocalDate(), row.getPanelistId())));
+        touch(touched);
+    }
+
+    /**
+     * Backfills history on first start, later starts reuse the stored buckets.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            if (typeStatsRepository.count() > 0) {
+                ready = true;
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Unable to read interview_type_daily_stats, backfilling it: {}", e.getMessage());
+        }
+        backfill();
+    }
+
+    /**
+     * Recomputes every bucket from the source tables, one calendar month per task. Each month is
+     * replaced in its own transaction, so a failed month keeps its previous buckets and the others
+     * still land. A write that commits while this runs refreshes its buckets again afterwards.
+     */
+    @Scheduled(cron = "${interview-stats.backfill-cron:0 45 2 * * *}")
+    public synchronized void backfill() {
+        try {
+            long started = System.nanoTime();
+            LocalDateTime earliest = interviewRepository.findEarliestStartTime();
+            LocalDateTime latest = interviewRepository.findLatestStartTime();
+            if (earliest == null || latest == null) {
+                requiresNew.executeWithoutResult(status -> statsJdbcRepository.clear());
+                ready = true;
+                return;
+            }
+            LocalDate first = earliest.toLocalDate().withDayOfMonth(1);
+            LocalDate end = latest.toLocalDate().withDayOfMonth(1).plusMonths(1);
+            List<CompletableFuture<Void>> months = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(backfillParallelism)) {
+                for (LocalDate month = first; month.isBefore(end); month = month.plusMonths(1)) {
+                    LocalDate from = month;
+                    months.add(CompletableFuture.runAsync(() -> requiresNew.executeWithoutResult(
+                            status -> statsJdbcRepository.backfill(from, from.plusMonths(1))), executor));
+                }
+                requiresNew.executeWithoutResult(status -> statsJdbcRepository.clearOutside(first, end));
+            }
+            long failed = months.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+            if (failed > 0) {
+                log.error("Interview stats backfill failed for {} of {} months", failed, months.size());
+            }
+            if (failed < months.size()) {
+                ready = true;
+            }
+            log.info("Backfilled {} months of interview stats in {} ms", months.size() - failed,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Interview stats backfill failed: {}", e.getMessage());
+        }
+    }
+
+    private void touch(Touched touched) {
+        if (touched.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(touched);
+            return;
+        }
+        // one set per transaction, so a batch refreshes each bucket once however many rows it wrote
+        Touched pending = (Touched) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Touched created = new Touched();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InterviewStatsRollup.this);
+                }
+            });
+            pending = created;
+        }
+        pending.types.addAll(touched.types);
+        pending.panelists.addAll(touched.panelists);
+    }
+
+    // runs in a new transaction, the caller's one has already committed or never existed
+    private void refresh(Touched touched) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                statsJdbcRepository.refreshTypes(touched.types);
+                statsJdbcRepository.refreshPanelists(touched.panelists);
+            });
+        } catch (Exception e) {
+            log.warn("Unable to refresh interview stats, the next backfill corrects them: {}", e.getMessage());
+        }
+    }
+
+    private static final class Touched {
+        private final Set<InterviewTypeDailyStats.Key> types = new LinkedHashSet<>();
+        private final Set<PanelistResultDailyStats.Key> panelists = new LinkedHashSet<>();
+
+        private boolean isEmpty() {
+            return types.isEmpty() && panelists.isEmpty();
+        }
+    }
+}
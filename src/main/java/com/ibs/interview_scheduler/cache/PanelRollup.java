@@ -0,0 +1,226 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.entity.PanelDailyRollup;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.events.PanelRollupRefreshedEvent;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
+import com.ibs.interview_scheduler.repository.PanelDailyRollupRepository;
+import com.ibs.interview_scheduler.repository.PanelRollupJdbcRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Keeps {@code panel_daily_rollup} in step with slot and interview writes and serves the panel
+ * dashboard totals from it. Writers report the slots or panelist rows they touched; the affected
+ * (panelist, day) buckets are collected per transaction and recomputed once it commits, in a
+ * transaction of their own. A bucket whose refresh fails stays stale until the next write to it or
+ * the scheduled rebuild. The table is rebuilt at startup when it is empty, and {@link #isReady()}
+ * stays false until it holds data, so callers count from the source tables instead. Each successful
+ * refresh is announced with a {@link PanelRollupRefreshedEvent} for the live panel dashboards.
+ */
+@Component
+@Slf4j
+public class PanelRollup {
+
+    private final PanelDailyRollupRepository rollupRepository;
+    private final PanelRollupJdbcRepository rollupJdbcRepository;
+    private final SlotRepository slotRepository;
+    private final TransactionTemplate requiresNew;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile boolean ready;
+
+    public PanelRollup(PanelDailyRollupRepository rollupRepository, PanelRollupJdbcRepository rollupJdbcRepository,
+                       SlotRepository slotRepository, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher) {
+        this.rollupRepository = rollupRepository;
+        this.rollupJdbcRepository = rollupJdbcRepository;
+        this.slotRepository = slotRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Panel dashboard figures. Months run from the first of the month, weeks from Monday.
+     */
+    public record Totals(long slotsThisMonth, long bookedThisMonth, long slotsThisWeek, long assignedThisMonth) {
+        public static final Totals NONE = new Totals(0, 0, 0, 0);
+    }
+
+    /**
+     *
+     * @return true once the rollup has been restored or rebuilt
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Sums the buckets of the month and the week around {@code today} with one primary key range read.
+     *
+     * @param panelistId panelist
+     * @param today      day the month and week are taken from
+     * @return month and week totals
+     */
+    public Totals totals(Integer panelistId, LocalDate today) {
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate monthEnd = monthStart.plusMonths(1);
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+        LocalDate weekEnd = weekStart.plusWeeks(1);
+        LocalDate from = monthStart.isBefore(weekStart) ? monthStart : weekStart;
+        LocalDate to = monthEnd.isAfter(weekEnd) ? monthEnd : weekEnd;
+        long slotsThisMonth = 0;
+        long bookedThisMonth = 0;
+        long slotsThisWeek = 0;
+        long assignedThisMonth = 0;
+        for (PanelDailyRollup row : rollupRepository.findByPanelistBetween(panelistId, from, to)) {
+            LocalDate day = row.getRollupDate();
+            if (!day.isBefore(monthStart) && day.isBefore(monthEnd)) {
+                slotsThisMonth += row.getSlotsCreated();
+                bookedThisMonth += row.getSlotsBooked();
+                assignedThisMonth += row.getInterviewsAssigned();
+            }
+            if (!day.isBefore(weekStart) && day.isBefore(weekEnd)) {
+                slotsThisWeek += row.getSlotsCreated();
+            }
+        }
+        return new Totals(slotsThisMonth, bookedThisMonth, slotsThisWeek, assignedThisMonth);
+    }
+
+    /**
+     * Refreshes the buckets of the given slots once the surrounding transaction commits. For a moved
+     * slot pass it as it was and as it is, so both days are refreshed.
+     *
+     * @param slots created, updated or deleted slots
+     */
+    public void slotsChanged(Collection<Slot> slots) {
+        touch(slots.stream().map(slot -> key(slot.getPanelistId(), slot.getStartTime())).toList());
+    }
+
+    /**
+     * Refreshes the buckets of the given interview_panelist rows once the surrounding transaction commits.
+     *
+     * @param rows inserted or removed rows
+     */
+    public void panelistsChanged(Collection<InterviewPanelist> rows) {
+        touch(rows.stream().map(row -> key(row.getPanelistId(), row.getStartTime())).toList());
+    }
+
+    // already delivered after commit, only the slot ids are known so they are looked up first
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsTransitioned(SlotsTransitionedEvent event) {
+        refresh(() -> keys(slotRepository.findAllById(event.getSlotIds()).stream()
+                .map(slot -> key(slot.getPanelistId(), slot.getStartTime())).toList()));
+    }
+
+    /**
+     * Builds the rollup on first start, later starts reuse the stored buckets.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            if (rollupRepository.count() > 0) {
+                ready = true;
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Unable to read panel_daily_rollup, rebuilding it: {}", e.getMessage());
+        }
+        rebuild();
+    }
+
+    /**
+     * Recomputes every bucket from the source tables, fixing buckets whose refresh was lost. A write
+     * that commits while this runs refreshes its buckets again afterwards.
+     */
+    @Scheduled(cron = "${panel-rollup.rebuild-cron:0 30 2 * * *}")
+    public synchronized void rebuild() {
+        try {
+            long started = System.nanoTime();
+            requiresNew.executeWithoutResult(status -> rollupJdbcRepository.rebuild());
+            ready = true;
+            log.info("Rebuilt panel_daily_rollup in {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Panel rollup rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private void touch(List<PanelDailyRollup.Key> keys) {
+        Set<PanelDailyRollup.Key> touched = keys(keys);
+        if (touched.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(() -> touched);
+            return;
+        }
+        // one set per transaction, so a batch refreshes each bucket once however many rows it wrote
+        @SuppressWarnings("unchecked")
+        Set<PanelDailyRollup.Key> pending = (Set<PanelDailyRollup.Key>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<PanelDailyRollup.Key> created = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(() -> created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PanelRollup.this);
+                }
+            });
+            pending = created;
+        }
+        pending.addAll(touched);
+    }
+
+    // runs in a new transaction, the caller's one has already committed or never existed
+    private void refresh(Supplier<Set<PanelDailyRollup.Key>> keys) {
+        Set<PanelDailyRollup.Key> refreshed;
+        try {
+            refreshed = requiresNew.execute(status -> {
+                Set<PanelDailyRollup.Key> touched = keys.get();
+                rollupJdbcRepository.refresh(touched);
+                return touched;
+            });
+        } catch (Exception e) {
+            log.warn("Unable to refresh panel_daily_rollup, the next rebuild corrects it: {}", e.getMessage());
+            return;
+        }
+        if (refreshed != null && !refreshed.isEmpty()) {
+            Set<Integer> panelistIds = new HashSet<>();
+            refreshed.forEach(key -> panelistIds.add(key.getPanelistId()));
+            eventPublisher.publishEvent(new PanelRollupRefreshedEvent(panelistIds));
+        }
+    }
+
+    private static Set<PanelDailyRollup.Key> keys(List<PanelDailyRollup.Key> keys) {
+        Set<PanelDailyRollup.Key> distinct = new LinkedHashSet<>();
+        keys.stream().filter(Objects::nonNull).forEach(distinct::add);
+        return distinct;
+    }
+
+    private static PanelDailyRollup.Key key(Integer panelistId, LocalDateTime startTime) {
+        return panelistId == null || startTime == null ? null : new PanelDailyRollup.Key(panelistId, startTime.toLocalDate());
+    }
+}
@@ -0,0 +1,75 @@
+package com.ibs.interview_scheduler.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key. The first caller runs the loader on its own thread,
+ * every caller that arrives while it is running waits on the same future and gets the same value or
+ * the same exception. The flight is forgotten once it completes, so a failed load is retried by the
+ * next caller rather than cached.
+ * <p>
+ * Counts leader loads in {@code singleflight.loads} and callers that joined a running load in
+ * {@code singleflight.coalesced}, both tagged with the flight name.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.loads = Counter.builder("singleflight.loads")
+                .description("Loads run by the first caller of a key")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.coalesced")
+                .description("Callers that waited on a load already in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     *
+     * @param key    load key
+     * @param loader runs at most once at a time per key
+     * @return loaded value
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return join(running);
+        }
+        loads.increment();
+        try {
+            mine.complete(loader.get());
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return join(mine);
+    }
+
+    private V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ibs.interview_scheduler.cache;
+
+/**
+ * Two bitsets over the calendar horizon for one panelist, one bit per quantum. A quantum is free when
+ * its available bit is set and its booked bit is clear. Range operations work a 64-bit word at a time.
+ */
+class SlotBitmap {
+
+    private final long[] available;
+    private final long[] booked;
+
+    SlotBitmap(int quanta) {
+        int words = (quanta + 63) >>> 6;
+        available = new long[words];
+        booked = new long[words];
+    }
+
+    synchronized void setAvailable(int from, int to, boolean value) {
+        set(available, from, to, value);
+    }
+
+    synchronized void setBooked(int from, int to, boolean value) {
+        set(booked, from, to, value);
+    }
+
+    /**
+     *
+     * @param from first quantum (inclusive)
+     * @param to   last quantum (exclusive)
+     * @return true when every quantum in the range is available and none is booked
+     */
+    synchronized boolean isFree(int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        int lastWord = (to - 1) >>> 6;
+        for (int word = from >>> 6; word <= lastWord; word++) {
+            long mask = mask(word, from, to);
+            if ((available[word] & mask) != mask || (booked[word] & mask) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void set(long[] bits, int from, int to, boolean value) {
+        if (from >= to) {
+            return;
+        }
+        int lastWord = (to - 1) >>> 6;
+        for (int word = from >>> 6; word <= lastWord; word++) {
+            long mask = mask(word, from, to);
+            bits[word] = value ? bits[word] | mask : bits[word] & ~mask;
+        }
+    }
+
+    private static long mask(int word, int from, int to) {
+        int wordStart = word << 6;
+        long low = from > wordStart ? -1L << (from - wordStart) : -1L;
+        long high = to < wordStart + 64 ? -1L >>> (wordStart + 64 - to) : -1L;
+        return low & high;
+    }
+}
@@ -0,0 +1,226 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bitmap calendar of slot availability per panelist for the next {@link #HORIZON_DAYS} days at
+ * {@link #QUANTUM} granularity. It is built from the slots table once the application is ready and
+ * kept current by slot mutations, so "is this panelist free" is a few word-level mask checks and
+ * "who is free" is one pass over the panelists. Only windows aligned to the quantum and inside the
+ * horizon are covered; callers fall back to the repository otherwise. The horizon moves to the
+ * current day the first time it is probed on a new day.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotCalendar {
+
+    static final Duration QUANTUM = Duration.ofMinutes(15);
+    static final int HORIZON_DAYS = 90;
+    static final int QUANTA = (int) (Duration.ofDays(HORIZON_DAYS).toMinutes() / QUANTUM.toMinutes());
+
+    private final SlotRepository slotRepository;
+
+    private volatile State state;
+    private volatile LocalDate lastBuildAttempt;
+
+    private record State(LocalDateTime origin, Map<Integer, SlotBitmap> panelists) {
+    }
+
+    /**
+     * Loads every active slot that overlaps the horizon starting today.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        lastBuildAttempt = today;
+        LocalDateTime from = today.atStartOfDay();
+        log.info("Building slot calendar from {}", from);
+        try {
+            Map<Integer, SlotBitmap> built = new ConcurrentHashMap<>();
+            List<Slot> slots = slotRepository.findAllOverlapping(from, from.plusDays(HORIZON_DAYS));
+            for (Slot slot : slots) {
+                apply(built, from, slot);
+            }
+            state = new State(from, built);
+            log.info("Slot calendar ready with {} slots for {} panelists", slots.size(), built.size());
+        } catch (Exception e) {
+            log.error("Unable to build slot calendar, availability checks stay on the database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     *
+     * @param start window start
+     * @param end   window end
+     * @return true when the calendar can answer for the window
+     */
+    public boolean covers(LocalDateTime start, LocalDateTime end) {
+        if (lastBuildAttempt != null && LocalDate.now().isAfter(lastBuildAttempt)) {
+            rollForward();
+        }
+        State current = state;
+        return current != null && start.isBefore(end) && isAligned(start) && isAligned(end)
+                && !start.isBefore(current.origin()) && !end.isAfter(current.origin().plusDays(HORIZON_DAYS));
+    }
+
+    public boolean isFree(Integer panelistId, LocalDateTime start, LocalDateTime end) {
+        State current = state;
+        SlotBitmap bitmap = current == null || panelistId == null ? null : current.panelists().get(panelistId);
+        return bitmap != null && bitmap.isFree(quantum(current.origin(), start), quantum(current.origin(), end));
+    }
+
+    /**
+     *
+     * @param start window start
+     * @param end   window end
+     * @return panelists with free slots covering the whole window
+     */
+    public List<Integer> freePanelists(LocalDateTime start, LocalDateTime end) {
+        State current = state;
+        if (current == null) {
+            return List.of();
+        }
+        int first = quantum(current.origin(), start);
+        int last = quantum(current.origin(), end);
+        List<Integer> free = new ArrayList<>();
+        current.panelists().forEach((panelistId, bitmap) -> {
+            if (bitmap.isFree(first, last)) {
+                free.add(panelistId);
+            }
+        });
+        return free;
+    }
+
+    /**
+     * Marks created or updated slots once the surrounding transaction commits.
+     *
+     * @param slots saved slots
+     */
+    public void put(Collection<Slot> slots) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                State current = state;
+                if (current != null) {
+                    slots.forEach(slot -> apply(current.panelists(), current.origin(), slot));
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears slots that were deleted or moved once the surrounding transaction commits.
+     *
+     * @param slots slots as they were before the change
+     */
+    public void remove(Collection<Slot> slots) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                State current = state;
+                if (current != null) {
+                    slots.forEach(slot -> clear(current.panelists(), current.origin(), slot));
+                }
+            }
+        });
+    }
+
+    /**
+     * Re-reads the transitioned slots after commit and applies their new status.
+     *
+     * @param event bulk transition
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSlotsTransitioned(SlotsTransitionedEvent event) {
+        State current = state;
+        if (current == null) {
+            return;
+        }
+        try {
+            slotRepository.findAllById(event.getSlotIds())
+                    .forEach(slot -> apply(current.panelists(), current.origin(), slot));
+        } catch (Exception e) {
+            log.error("Unable to apply slot transition to calendar, rebuilding: {}", e.getMessage());
+            rebuild();
+        }
+    }
+
+    private synchronized void rollForward() {
+        if (LocalDate.now().isAfter(lastBuildAttempt)) {
+            rebuild();
+        }
+    }
+
+    private void apply(Map<Integer, SlotBitmap> target, LocalDateTime from, Slot slot) {
+        if (slot.getStartTime() == null || slot.getEndTime() == null || slot.getPanelistId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(slot.getIsDeleted())) {
+            clear(target, from, slot);
+            return;
+        }
+        SlotBitmap bitmap = target.computeIfAbsent(slot.getPanelistId(), id -> new SlotBitmap(QUANTA));
+        // available only where the slot covers a whole quantum, booked wherever it touches one
+        bitmap.setAvailable(ceilQuantum(from, slot.getStartTime()), quantum(from, slot.getEndTime()), true);
+        bitmap.setBooked(quantum(from, slot.getStartTime()), ceilQuantum(from, slot.getEndTime()),
+                SlotStatus.BOOKED.toString().equals(slot.getStatus()));
+    }
+
+    private void clear(Map<Integer, SlotBitmap> target, LocalDateTime from, Slot slot) {
+        SlotBitmap bitmap = slot.getPanelistId() == null ? null : target.get(slot.getPanelistId());
+        if (bitmap == null || slot.getStartTime() == null || slot.getEndTime() == null) {
+            return;
+        }
+        bitmap.setAvailable(quantum(from, slot.getStartTime()), ceilQuantum(from, slot.getEndTime()), false);
+        bitmap.setBooked(quantum(from, slot.getStartTime()), ceilQuantum(from, slot.getEndTime()), false);
+    }
+
+    private static boolean isAligned(LocalDateTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0 && time.getMinute() % QUANTUM.toMinutes() == 0;
+    }
+
+    // quantum containing time, clamped to the horizon
+    private static int quantum(LocalDateTime from, LocalDateTime time) {
+        long index = Math.floorDiv(Duration.between(from, time).toMinutes(), QUANTUM.toMinutes());
+        return (int) Math.max(0, Math.min(QUANTA, index));
+    }
+
+    private static int ceilQuantum(LocalDateTime from, LocalDateTime time) {
+        long minutes = Duration.between(from, time).toMinutes();
+        boolean partial = minutes % QUANTUM.toMinutes() != 0 || time.getSecond() != 0 || time.getNano() != 0;
+        long index = Math.floorDiv(minutes, QUANTUM.toMinutes()) + (partial ? 1 : 0);
+        return (int) Math.max(0, Math.min(QUANTA, index));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
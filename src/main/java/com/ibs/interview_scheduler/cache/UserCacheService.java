@@ -1,67 +1,197 @@
 package com.ibs.interview_scheduler.cache;
 
+import com.ibs.interview_scheduler.dtos.responseDto.UserChangesResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
 import com.ibs.interview_scheduler.feign.UserClient;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * Keeps the {@link UserDirectory} every reader uses. It is built once from the full user list and
+ * then kept current by a scheduled delta sync; a failed sync keeps serving the current directory.
+ * Each userservice call is timed in {@code users.directory.load} and counted in
+ * {@code users.directory.refresh}, both tagged with {@code type} (full or delta) and
+ * {@code outcome}. {@code users.directory.last.success.age} is the number of seconds since the last
+ * successful call, NaN until there has been one.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserCacheService {
 
+    private static final String ALL_USERS = "all";
+    private static final String FULL = "full";
+    private static final String DELTA = "delta";
+
     private final UserClient userClient;
-    private Map<Integer, String> userIdNameMap = new ConcurrentHashMap<>();
+    // concurrent cold loads share one userservice call instead of each fetching the full list
+    private final SingleFlight<String, UserDirectory> directoryLoads;
+    private final UserDirectorySnapshot snapshot;
+    private final MeterRegistry meterRegistry;
+    private volatile UserDirectory directory = UserDirectory.EMPTY;
+    private volatile long lastSuccessNanos;
+    private volatile boolean synced;
+    // updatedAt watermark of the directory, only read and written under this lock
+    private String syncToken;
+
+    public UserCacheService(UserClient userClient, MeterRegistry meterRegistry, UserDirectorySnapshot snapshot) {
+        this.userClient = userClient;
+        this.directoryLoads = new SingleFlight<>("users.directory", meterRegistry);
+        this.snapshot = snapshot;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("users.directory.last.success.age", this, UserCacheService::lastSuccessAgeSeconds)
+                .description("Seconds since the user directory last synced with userservice")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts from the directory saved by the last run, if there is one, so names are served before
+     * userservice has been reached. The scheduled refresh then catches up from its sync token.
+     */
+    @PostConstruct
+    public synchronized void restoreSnapshot() {
+        snapshot.load().ifPresent(saved -> {
+            directory = saved.directory();
+            syncToken = saved.syncToken();
+        });
+    }
 
-    @Cacheable("usersCache")
-    @CircuitBreaker(name = "userServiceCircuitBreaker", fallbackMethod = "fallbackGetAllUsers")
-    public List<UserResponseDTO> getAllUsers() {
-        log.info("Fetching users from UserService via Feign...");
-        return userClient.getAllUsers();
+    /**
+     * Builds the directory once the application is up, so the first requests do not wait on
+     * userservice. A failure here is retried by the scheduled refresh.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            getDirectory();
+        } catch (Exception e) {
+            log.warn("User directory warm-up failed, it will be retried on refresh: {}", e.getMessage());
+        }
     }
 
     /**
-     * this is the fallback method for user service
-     * @param t throwable object
-     * @return empty list
+     * Current user snapshot. Built on first use and replaced as a whole on every refresh, so the
+     * returned directory never changes under the caller.
+     *
+     * @return UserDirectory
      */
-    public List<UserResponseDTO> fallbackGetAllUsers(Throwable t) {
-        log.error("User Service unavailable. Returning fallback response. Error: {}", t.getMessage());
-        return Collections.emptyList();
+    public UserDirectory getDirectory() {
+        UserDirectory current = directory;
+        if (!current.isEmpty()) {
+            return current;
+        }
+        return directoryLoads.load(ALL_USERS, () -> {
+            synchronized (this) {
+                if (directory.isEmpty()) {
+                    log.info("User directory is empty, building from userservice...");
+                    return reload();
+                }
+                return directory;
+            }
+        });
     }
+
     /**
      *
      * @return Map<Integer, String> with user id as key and  full name as value
      */
     public Map<Integer, String> getUserIdNameMap() {
-        if (userIdNameMap.isEmpty()) {
-            log.info("User map cache is empty, building from getAllUsers()...");
-            updateUserMapCache(userClient.getAllUsers());
+        return getDirectory().names();
+    }
+
+    /**
+     * Pulls the users changed since the last sync token and merges them into the directory. The
+     * full list is only fetched on a cold start, when no watermark is known yet, or when the user
+     * service reports a token gap. A failed delta call keeps the current directory until the next run.
+     */
+    @Scheduled(fixedDelayString = "${user-cache.refresh-interval:PT10M}")
+    public synchronized void refreshUserCache() {
+        if (directory.isEmpty() || syncToken == null) {
+            log.info("No user sync token, reloading users cache from UserService...");
+            reload();
+            return;
+        }
+        UserChangesResponseDto changes;
+        try {
+            String since = syncToken;
+            changes = timed(DELTA, () -> userClient.getUserChanges(since));
+        } catch (Exception e) {
+            log.warn("User delta sync since {} failed, keeping current directory: {}", syncToken, e.getMessage());
+            return;
+        }
+        if (changes.isResetRequired()) {
+            log.info("User sync token {} expired, reloading users cache from UserService...", syncToken);
+            reload();
+            return;
+        }
+        List<UserResponseDTO> changed = changes.getUsers() == null ? List.of() : changes.getUsers();
+        List<Integer> deleted = changes.getDeletedUserIds() == null ? List.of() : changes.getDeletedUserIds();
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+            log.info("Merging {} changed and {} deleted users into users cache", changed.size(), deleted.size());
+            directory = directory.merge(changed, deleted);
+        }
+        String next = changes.getNextToken() != null ? changes.getNextToken() : watermark(changed);
+        if (next != null) {
+            syncToken = next;
         }
-        return userIdNameMap;
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+            snapshot.save(directory, syncToken);
+        }
+    }
+
+    private UserDirectory reload() {
+        UserDirectory next = timed(FULL, userClient::getUserDirectory);
+        directory = next;
+        syncToken = next.lastChangedAt() == null ? null : next.lastChangedAt().toString();
+        snapshot.save(next, syncToken);
+        return next;
     }
 
-    private void updateUserMapCache(List<UserResponseDTO> users) {
-        userIdNameMap = users.stream()
-                .collect(Collectors.toConcurrentMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
+    private <T> T timed(String type, Supplier<T> call) {
+        long started = System.nanoTime();
+        String outcome = "failure";
+        try {
+            T result = call.get();
+            outcome = "success";
+            lastSuccessNanos = System.nanoTime();
+            synced = true;
+            return result;
+        } finally {
+            Timer.builder("users.directory.load").tag("type", type).tag("outcome", outcome)
+                    .register(meterRegistry).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            Counter.builder("users.directory.refresh").tag("type", type).tag("outcome", outcome)
+                    .register(meterRegistry).increment();
+        }
+    }
+
+    private double lastSuccessAgeSeconds() {
+        return synced ? (System.nanoTime() - lastSuccessNanos) / 1e9 : Double.NaN;
     }
 
     /**
-     * Periodically refresh cache (optional)
+     *
+     * @param users users from the user service
+     * @return latest updatedAt (or createdAt) of the users as a sync token, null when none is set
      */
-    @Scheduled(fixedRate = 600000) // every 10 minutes
-    public void refreshUserCache() {
-        log.info("Refreshing users cache from UserService...");
-        updateUserMapCache(userClient.getAllUsers());
+    static String watermark(Collection<UserResponseDTO> users) {
+        return users.stream()
+                .map(u -> u.getUpdatedAt() != null ? u.getUpdatedAt() : u.getCreatedAt())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(LocalDateTime::toString)
+                .orElse(null);
     }
 }
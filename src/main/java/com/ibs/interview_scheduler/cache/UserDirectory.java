@@ -0,0 +1,355 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Immutable snapshot of the user list with its lookups built once. {@link UserCacheService} builds a
+ * new directory on every refresh and swaps the reference, so readers never see a half built index
+ * and request paths never copy the user list.
+ * <p>
+ * Users are held as columns sorted by id rather than as one DTO per user, and only the fields the
+ * scheduler reads are kept: full name, email, role and the active flag. Passwords, phone numbers
+ * and per-user timestamps are never stored; the latest change time is kept once for the sync token.
+ */
+public final class UserDirectory {
+
+    public static final UserDirectory EMPTY = new UserDirectory(new int[0], new String[0], new String[0], new int[0],
+            new String[0], new BitSet(), null);
+
+    private static final int NO_ROLE = Integer.MIN_VALUE;
+
+    private final int[] ids;
+    private final String[] names;
+    private final String[] emails;
+    private final int[] roleIds;
+    private final String[] roleNames;
+    private final BitSet active;
+    private final LocalDateTime lastChangedAt;
+    private final Map<Integer, String> nameView;
+    private final Map<Integer, String> emailView;
+    private final Map<String, List<Integer>> idsByRole;
+    private final Map<String, long[]> activeInactiveByRole;
+
+    private UserDirectory(int[] ids, String[] names, String[] emails, int[] roleIds, String[] roleNames,
+                          BitSet active, LocalDateTime lastChangedAt) {
+        Map<String, List<Integer>> roleIndex = new HashMap<>();
+        Map<String, long[]> roleCounts = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (roleNames[i] != null) {
+                roleIndex.computeIfAbsent(roleNames[i], role -> new ArrayList<>()).add(ids[i]);
+                roleCounts.computeIfAbsent(roleNames[i], role -> new long[2])[active.get(i) ? 0 : 1]++;
+            }
+        }
+        roleIndex.replaceAll((role, userIds) -> List.copyOf(userIds));
+        this.ids = ids;
+        this.names = names;
+        this.emails = emails;
+        this.roleIds = roleIds;
+        this.roleNames = roleNames;
+        this.active = active;
+        this.lastChangedAt = lastChangedAt;
+        this.nameView = new ColumnView(names);
+        this.emailView = new ColumnView(emails);
+        this.idsByRole = Collections.unmodifiableMap(roleIndex);
+        this.activeInactiveByRole = roleCounts;
+    }
+
+    public static UserDirectory of(Collection<UserResponseDTO> users) {
+        if (users == null || users.isEmpty()) {
+            return EMPTY;
+        }
+        Builder builder = new Builder();
+        users.stream().filter(Objects::nonNull).forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * New directory with the changed users added or replaced by id and the removed ids dropped.
+     * This directory is left as it is.
+     *
+     * @param changed    added or updated users
+     * @param removedIds ids of deleted users
+     * @return merged directory
+     */
+    public UserDirectory merge(Collection<UserResponseDTO> changed, Collection<Integer> removedIds) {
+        Set<Integer> removed = new HashSet<>(removedIds);
+        Builder builder = new Builder();
+        builder.changedAt(lastChangedAt);
+        for (int i = 0; i < ids.length; i++) {
+            if (!removed.contains(ids[i])) {
+                builder.add(ids[i], names[i], emails[i], roleIds[i] == NO_ROLE ? null : roleIds[i], roleNames[i], active.get(i));
+            }
+        }
+        // added after the current rows, so a changed user replaces the row with the same id
+        for (UserResponseDTO user : changed) {
+            if (user.getUserId() != null && !removed.contains(user.getUserId())) {
+                builder.add(user);
+            }
+        }
+        return builder.build();
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Users rebuilt from the stored columns, in id order. Only id, full name, email, role and the
+     * active flag are filled in.
+     *
+     * @return new list of users
+     */
+    public List<UserResponseDTO> users() {
+        List<UserResponseDTO> users = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            UserResponseDTO user = new UserResponseDTO();
+            user.setUserId(ids[i]);
+            user.setFullName(names[i]);
+            user.setEmail(emails[i]);
+            user.setActive(active.get(i));
+            user.setRoleId(roleIds[i] == NO_ROLE ? null : roleIds[i]);
+            user.setRoleName(roleNames[i]);
+            users.add(user);
+        }
+        return users;
+    }
+
+    /**
+     *
+     * @return latest updatedAt (or createdAt) seen while building the directory, null when none was set
+     */
+    public LocalDateTime lastChangedAt() {
+        return lastChangedAt;
+    }
+
+    /**
+     *
+     * @return read-only user id to full name index
+     */
+    public Map<Integer, String> names() {
+        return nameView;
+    }
+
+    /**
+     *
+     * @return read-only user id to email index
+     */
+    public Map<Integer, String> emails() {
+        return emailView;
+    }
+
+    public String name(Integer userId) {
+        return nameView.get(userId);
+    }
+
+    public String email(Integer userId) {
+        return emailView.get(userId);
+    }
+
+    /**
+     *
+     * @param roleName role name such as HR, PANEL or CANDIDATE
+     * @return ids of the users with that role, empty for an unknown role
+     */
+    public List<Integer> idsByRole(String roleName) {
+        return idsByRole.getOrDefault(roleName, List.of());
+    }
+
+    /**
+     *
+     * @param roleId role id as assigned by userservice
+     * @return ids of the users with that role id, in id order
+     */
+    public List<Integer> idsByRoleId(int roleId) {
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (roleIds[i] == roleId) {
+                matches.add(ids[i]);
+            }
+        }
+        return matches;
+    }
+
+    public long activeCount(String roleName) {
+        long[] counts = activeInactiveByRole.get(roleName);
+        return counts == null ? 0 : counts[0];
+    }
+
+    public long inactiveCount(String roleName) {
+        long[] counts = activeInactiveByRole.get(roleName);
+        return counts == null ? 0 : counts[1];
+    }
+
+    private int indexOf(Object userId) {
+        return userId instanceof Integer id ? Arrays.binarySearch(ids, id) : -1;
+    }
+
+    /**
+     * Collects users one at a time, for example straight from a JSON stream, without building a DTO
+     * per user. A later row with the same id replaces the earlier one, and rows without an id are
+     * dropped.
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] ids = new int[16];
+        private String[] names = new String[16];
+        private String[] emails = new String[16];
+        private int[] roleIds = new int[16];
+        private String[] roleNames = new String[16];
+        private final BitSet active = new BitSet();
+        // role names repeat on every row, one shared instance per distinct name
+        private final Map<String, String> rolePool = new HashMap<>();
+        private LocalDateTime lastChangedAt;
+
+        public Builder add(UserResponseDTO user) {
+            changedAt(user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt());
+            return user.getUserId() == null ? this
+                    : add(user.getUserId(), user.getFullName(), user.getEmail(), user.getRoleId(), user.getRoleName(), user.isActive());
+        }
+
+        public Builder add(int userId, String fullName, String email, Integer roleId, String roleName, boolean isActive) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                emails = Arrays.copyOf(emails, capacity);
+                roleIds = Arrays.copyOf(roleIds, capacity);
+                roleNames = Arrays.copyOf(roleNames, capacity);
+            }
+            ids[size] = userId;
+            names[size] = fullName;
+            emails[size] = email;
+            roleIds[size] = roleId == null ? NO_ROLE : roleId;
+            roleNames[size] = roleName == null ? null : rolePool.computeIfAbsent(roleName, r -> r);
+            active.set(size, isActive);
+            size++;
+            return this;
+        }
+
+        /**
+         *
+         * @param time updatedAt or createdAt of a user, the latest one becomes the directory's
+         * @return this builder
+         */
+        public Builder changedAt(LocalDateTime time) {
+            if (time != null && (lastChangedAt == null || time.isAfter(lastChangedAt))) {
+                lastChangedAt = time;
+            }
+            return this;
+        }
+
+        public UserDirectory build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            // id in the high bits and row in the low bits, so sorting orders by id and then by arrival
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long) ids[i] << 32) | i;
+            }
+            Arrays.sort(order);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (i + 1 < size && (int) (order[i + 1] >> 32) == (int) (order[i] >> 32)) {
+                    continue;
+                }
+                order[unique++] = order[i];
+            }
+            int[] sortedIds = new int[unique];
+            String[] sortedNames = new String[unique];
+            String[] sortedEmails = new String[unique];
+            int[] sortedRoleIds = new int[unique];
+            String[] sortedRoleNames = new String[unique];
+            BitSet sortedActive = new BitSet(unique);
+            for (int i = 0; i < unique; i++) {
+                int row = (int) order[i];
+                sortedIds[i] = ids[row];
+                sortedNames[i] = names[row];
+                sortedEmails[i] = emails[row];
+                sortedRoleIds[i] = roleIds[row];
+                sortedRoleNames[i] = roleNames[row];
+                sortedActive.set(i, active.get(row));
+            }
+            return new UserDirectory(sortedIds, sortedNames, sortedEmails, sortedRoleIds, sortedRoleNames,
+                    sortedActive, lastChangedAt);
+        }
+    }
+
+    /**
+     * Read-only map over one column, looked up by binary search on the id column. Users with no
+     * value in the column are not in the map.
+     */
+    private final class ColumnView extends AbstractMap<Integer, String> {
+
+        private final String[] column;
+        private final int size;
+
+        private ColumnView(String[] column) {
+            this.column = column;
+            this.size = (int) Arrays.stream(column).filter(Objects::nonNull).count();
+        }
+
+        @Override
+        public String get(Object key) {
+            int index = indexOf(key);
+            return index < 0 ? null : column[index];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<Integer, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Integer, String>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < column.length && column[from] == null) {
+                                from++;
+                            }
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < column.length;
+                        }
+
+                        @Override
+                        public Entry<Integer, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<Integer, String> entry = new SimpleImmutableEntry<>(ids[next], column[next]);
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Local copy of the user directory so a restarted pod can serve names before userservice answers.
+ * The file is written to a temporary file and renamed over the old one after every change, and
+ * read back through a read-only memory map at startup.
+ * <p>
+ * Layout, big endian: magic "UDIR", format version, save time in epoch millis, sync token, user
+ * count, the users, then a CRC32 of every preceding byte. A user is its id, full name, email,
+ * active flag, role id and role name, the same fields the directory keeps. Strings are an int byte
+ * length (-1 for null) followed by UTF-8. A file with another magic, version or checksum is ignored.
+ */
+@Component
+@Slf4j
+public class UserDirectorySnapshot {
+
+    static final int MAGIC = 0x55444952;
+    static final short VERSION = 2;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+
+    private final Path path;
+
+    public UserDirectorySnapshot(@Value("${user-cache.snapshot-path:}") String path) {
+        this.path = path == null || path.isBlank() ? null : Paths.get(path);
+    }
+
+    public static UserDirectorySnapshot disabled() {
+        return new UserDirectorySnapshot(null);
+    }
+
+    public record Saved(UserDirectory directory, String syncToken, Instant savedAt) {}
+
+    /**
+     *
+     * @param directory directory to persist, an empty one is not written
+     * @param syncToken watermark the directory is current to
+     */
+    public void save(UserDirectory directory, String syncToken) {
+        if (path == null || directory.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] bytes = encode(directory, syncToken, Instant.now());
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            log.info("Saved user directory snapshot of {} users to {}", directory.size(), path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not save user directory snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     *
+     * @return the saved directory, empty when there is no file or it cannot be trusted
+     */
+    public Optional<Saved> load() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Saved saved = decode(buffer);
+            log.info("Loaded user directory snapshot of {} users saved at {}", saved.directory().size(), saved.savedAt());
+            return Optional.of(saved);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring user directory snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    static byte[] encode(UserDirectory directory, String syncToken, Instant savedAt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + directory.size() * 96);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(savedAt.toEpochMilli());
+        writeString(out, syncToken);
+        out.writeInt(directory.size());
+        for (UserResponseDTO user : directory.users()) {
+            out.writeInt(user.getUserId());
+            writeString(out, user.getEmail());
+            writeString(out, user.getFullName());
+            out.writeBoolean(user.isActive());
+            out.writeInt(user.getRoleId() == null ? -1 : user.getRoleId());
+            writeString(out, user.getRoleName());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static Saved decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES + CHECKSUM_BYTES) {
+            throw new IllegalStateException("snapshot is truncated");
+        }
+        int payloadEnd = buffer.limit() - CHECKSUM_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(payloadEnd));
+        if ((int) crc.getValue() != buffer.getInt(payloadEnd)) {
+            throw new IllegalStateException("snapshot checksum mismatch");
+        }
+        ByteBuffer in = buffer.duplicate().limit(payloadEnd);
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalStateException("not a user directory snapshot");
+            }
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IllegalStateException("unsupported snapshot version " + version);
+            }
+            Instant savedAt = Instant.ofEpochMilli(in.getLong());
+            String syncToken = readString(in);
+            int count = in.getInt();
+            UserDirectory.Builder users = new UserDirectory.Builder();
+            for (int i = 0; i < count; i++) {
+                int userId = in.getInt();
+                String email = readString(in);
+                String fullName = readString(in);
+                boolean active = in.get() != 0;
+                int roleId = in.getInt();
+                String roleName = readString(in);
+                users.add(userId, fullName, email, roleId == -1 ? null : roleId, roleName, active);
+            }
+            return new Saved(users.build(), syncToken, savedAt);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("snapshot is truncated");
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalStateException("snapshot string length out of range");
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ibs.interview_scheduler.controller;
+
+import com.ibs.interview_scheduler.dtos.responseDto.InterviewTrendsResponseDto;
+import com.ibs.interview_scheduler.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/interview-trends")
+    public ResponseEntity<InterviewTrendsResponseDto> getInterviewTrends(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "week") String granularity,
+            @RequestParam(required = false) Integer panelistId,
+            @RequestHeader(value = "X-User-Role") String role) {
+        if (!"HR".equalsIgnoreCase(role)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(analyticsService.getInterviewTrends(from, to, granularity, panelistId));
+    }
+}
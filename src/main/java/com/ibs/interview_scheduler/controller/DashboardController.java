@@ -3,11 +3,14 @@ package com.ibs.interview_scheduler.controller;
 import com.ibs.interview_scheduler.dtos.responseDto.AdminDashboardResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.HrDashboardResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.PanelDashboardResponseDto;
+import com.ibs.interview_scheduler.publisher.DashboardStreamPublisher;
 import com.ibs.interview_scheduler.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/dashboard")
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamPublisher dashboardStreamPublisher;
 
     @GetMapping("/hr-summary")
     public ResponseEntity<HrDashboardResponseDto> getHrDashboardSummary(
@@ -25,6 +29,17 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getHrDashboardSummary());
     }
 
+    /**
+     * Live changes to the HR summary. The first event asks the client to fetch {@code /hr-summary}.
+     */
+    @GetMapping(value = "/hr-summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamHrDashboard(@RequestHeader(value = "X-User-Role") String role) {
+        if (!"HR".equalsIgnoreCase(role)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(dashboardStreamPublisher.subscribeHr());
+    }
+
     @GetMapping("/panel-summary/{panelId}")
     public ResponseEntity<PanelDashboardResponseDto> getPanelDashboard(@PathVariable Integer panelId,@RequestHeader(value = "X-User-Role") String role) {
         if (!"PANEL".equalsIgnoreCase(role)) {
@@ -32,6 +47,18 @@ public class DashboardController {
         }
         return ResponseEntity.ok(dashboardService.getPanelDashboard(panelId));
     }
+
+    /**
+     * Live changes to a panel summary. The first event asks the client to fetch {@code /panel-summary/{panelId}}.
+     */
+    @GetMapping(value = "/panel-summary/{panelId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPanelDashboard(@PathVariable Integer panelId,
+                                                           @RequestHeader(value = "X-User-Role") String role) {
+        if (!"PANEL".equalsIgnoreCase(role)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(dashboardStreamPublisher.subscribePanel(panelId));
+    }
     @GetMapping("/admin-summary")
     public ResponseEntity<AdminDashboardResponseDto> getAdminDashboardSummary(
             @RequestHeader(value = "X-User-Role") String role) {
@@ -3,15 +3,21 @@ package com.ibs.interview_scheduler.controller;
 
 import com.ibs.interview_scheduler.context.UserContext;
 import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.BatchInterviewResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.InterviewResponseDto;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.service.InterviewBatchService;
 import com.ibs.interview_scheduler.service.InterviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import static com.ibs.interview_scheduler.utils.RoleValidator.*;
 
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -20,7 +26,9 @@ import java.util.List;
 public class InterviewController {
 
     private final InterviewService interviewService;
+    private final InterviewBatchService interviewBatchService;
     static final String ACCESSSTATUSMESSAGE ="User permission denied";
+    static final int MAX_IDS = 500;
 
     @PostMapping
     public ResponseEntity<InterviewResponseDto> createInterview(@RequestBody InterviewRequestDto request) {
@@ -32,11 +40,39 @@ public class InterviewController {
         return ResponseEntity.ok(interviewService.createInterview(request));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchInterviewResponseDto> createInterviews(@RequestBody List<InterviewRequestDto> requests) {
+        if (!isAuthorized(UserContext.getUserRole(), List.of("HR"))) {
+            BatchInterviewResponseDto response = new BatchInterviewResponseDto();
+            response.setAccessStatus(ACCESSSTATUSMESSAGE);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        return ResponseEntity.ok(interviewBatchService.createInterviews(requests));
+    }
+
     @GetMapping
     public ResponseEntity<List<InterviewResponseDto>> getAllInterviews() {
         return ResponseEntity.ok(interviewService.getAllInterviews());
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<InterviewResponseDto>> getInterviewsByIds(@RequestParam("ids") List<Integer> ids) {
+        if (ids.size() > MAX_IDS) {
+            throw new CustomException("At most " + MAX_IDS + " interview ids can be requested at once.", HttpStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok(interviewService.getInterviewsByIds(ids));
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponseDto<InterviewResponseDto>> getInterviewPage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "candidateId", required = false) Integer candidateId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        return ResponseEntity.ok(interviewService.getInterviewPage(cursor, limit, status, candidateId, from));
+    }
+
     @GetMapping("/{interviewId}")
     public ResponseEntity<InterviewResponseDto> getInterview(@PathVariable Integer interviewId) {
         return ResponseEntity.ok(interviewService.getInterviewById(interviewId));
@@ -1,14 +1,19 @@
 package com.ibs.interview_scheduler.controller;
 
 import com.ibs.interview_scheduler.dtos.responseDto.ReportResponseDto;
+import com.ibs.interview_scheduler.enums.ReportExportFormat;
+import com.ibs.interview_scheduler.service.ReportExportService;
 import com.ibs.interview_scheduler.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -18,6 +23,7 @@ import java.time.LocalDateTime;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportExportService reportExportService;
 
     @GetMapping
     public ResponseEntity<ReportResponseDto> getReport(
@@ -31,4 +37,20 @@ public class ReportController {
     ) {
         return ResponseEntity.ok(reportService.getReport(type, startDate, endDate, page, size, sortField, sortDir));
     }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReport(
+            @RequestParam String type,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        ReportExportFormat exportFormat = ReportExportFormat.from(format);
+        StreamingResponseBody body = reportExportService.export(type, startDate, endDate, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + type.toLowerCase() + "-report." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
 }
@@ -3,13 +3,25 @@ package com.ibs.interview_scheduler.controller;
 
 import ch.qos.logback.core.net.SyslogOutputStream;
 import com.ibs.interview_scheduler.dtos.requestDto.SlotRequestDto;
+import com.ibs.interview_scheduler.dtos.requestDto.SlotSeriesRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CommonAvailabilityResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotImportResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotSeriesResponseDto;
+import com.ibs.interview_scheduler.enums.SlotImportFormat;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.service.SlotImportService;
+import com.ibs.interview_scheduler.service.SlotSeriesService;
 import com.ibs.interview_scheduler.service.SlotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -19,17 +31,46 @@ import java.util.List;
 public class SlotController {
 
     private final SlotService slotService;
+    private final SlotSeriesService slotSeriesService;
+    private final SlotImportService slotImportService;
 
     @PostMapping
     public ResponseEntity<SlotResponseDto> createSlot(@RequestBody SlotRequestDto request) {
         return ResponseEntity.ok(slotService.createSlot( request));
     }
 
+    @PostMapping("/series")
+    public ResponseEntity<SlotSeriesResponseDto> createSlotSeries(@RequestBody SlotSeriesRequestDto request) {
+        return ResponseEntity.ok(slotSeriesService.createSeries(request));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<SlotImportResponseDto> importSlotsCsv(InputStream body) {
+        return ResponseEntity.ok(slotImportService.importSlots(
+                new InputStreamReader(body, StandardCharsets.UTF_8), SlotImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<SlotImportResponseDto> importSlotsNdjson(InputStream body) {
+        return ResponseEntity.ok(slotImportService.importSlots(
+                new InputStreamReader(body, StandardCharsets.UTF_8), SlotImportFormat.NDJSON));
+    }
+
     @GetMapping
     public ResponseEntity<List<SlotResponseDto>> getAllSlots() {
         return ResponseEntity.ok(slotService.getAllSlots());
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponseDto<SlotResponseDto>> getSlotPage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "panelistId", required = false) Integer panelistId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        return ResponseEntity.ok(slotService.getSlotPage(cursor, limit, panelistId, status, from));
+    }
+
     @GetMapping("/{slotId}")
     public ResponseEntity<SlotResponseDto> getSlot(@PathVariable Integer slotId) {
         return ResponseEntity.ok(slotService.getSlotById(slotId));
@@ -54,6 +95,22 @@ public class SlotController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/common-availability")
+    public ResponseEntity<List<CommonAvailabilityResponseDto>> getCommonAvailability(
+            @RequestParam("panelistIds") List<Integer> panelistIds,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "minDuration", defaultValue = "30") int minDurationMinutes) {
+        return ResponseEntity.ok(slotService.getCommonAvailability(panelistIds, from, to, minDurationMinutes));
+    }
+
+    @GetMapping("/free-panelists")
+    public ResponseEntity<List<Integer>> getFreePanelists(
+            @RequestParam("startTime") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam("endTime") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+        return ResponseEntity.ok(slotService.getFreePanelists(startTime, endTime));
+    }
+
     @GetMapping("/panel/{panelId}")
     public ResponseEntity<List<SlotResponseDto>> getAllSlotsByPanelID(@PathVariable Integer panelId) {
         return ResponseEntity.ok(slotService.getAllSlotsByPanelID(panelId));
@@ -63,4 +120,13 @@ public class SlotController {
     public ResponseEntity<List<SlotResponseDto>> getAllAvailableSlots() {
         return ResponseEntity.ok(slotService.getAllAvailableSlots());
     }
+
+    @GetMapping(value = "/available", params = "limit")
+    public ResponseEntity<CursorPageResponseDto<SlotResponseDto>> getAvailableSlotPage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "panelistId", required = false) Integer panelistId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        return ResponseEntity.ok(slotService.getSlotPage(cursor, limit, panelistId, SlotStatus.UNBOOKED.toString(), from));
+    }
 }
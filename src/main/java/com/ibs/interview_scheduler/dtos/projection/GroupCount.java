@@ -0,0 +1,7 @@
+package com.ibs.interview_scheduler.dtos.projection;
+
+/**
+ * One row of a GROUP BY count: the grouped value and how many rows carry it.
+ */
+public record GroupCount(String key, Long count) {
+}
@@ -0,0 +1,7 @@
+package com.ibs.interview_scheduler.dtos.projection;
+
+/**
+ * One row of a count grouped by a user id, such as interviews per candidate.
+ */
+public record IdCount(Integer id, Long count) {
+}
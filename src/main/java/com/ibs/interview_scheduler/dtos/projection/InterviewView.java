@@ -0,0 +1,22 @@
+package com.ibs.interview_scheduler.dtos.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only interview row for list endpoints, selected with a constructor expression so no managed
+ * entity or dirty-checking snapshot is created. Carries only the columns the interview response shows.
+ */
+public record InterviewView(Integer interviewId,
+                            Integer candidateId,
+                            Integer slotId,
+                            Integer hrId,
+                            String panelistIds,
+                            LocalDateTime startTime,
+                            LocalDateTime endTime,
+                            String interviewType,
+                            String interviewStatus,
+                            String result,
+                            String feedback,
+                            LocalDateTime createdAt,
+                            Boolean isDeleted) {
+}
@@ -0,0 +1,13 @@
+package com.ibs.interview_scheduler.dtos.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only slot row for list endpoints, holding just the columns of the slot response.
+ */
+public record SlotView(Integer slotId,
+                       Integer panelistId,
+                       LocalDateTime startTime,
+                       LocalDateTime endTime,
+                       String status) {
+}
@@ -0,0 +1,13 @@
+package com.ibs.interview_scheduler.dtos.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interview columns shown in the HR dashboard's upcoming list; the candidate name comes from the
+ * user directory.
+ */
+public record UpcomingInterviewView(Integer candidateId,
+                                    String interviewType,
+                                    LocalDateTime startTime,
+                                    String mode) {
+}
@@ -0,0 +1,28 @@
+package com.ibs.interview_scheduler.dtos.requestDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Recurring availability rule, e.g. every TUESDAY and THURSDAY 10:00-13:00 in 45 minute slots for 12 weeks.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotSeriesRequestDto {
+    private Integer panelistId;
+    private LocalDate startDate;
+    private Integer weeks;
+    private Set<DayOfWeek> daysOfWeek;
+    private LocalTime dayStartTime;
+    private LocalTime dayEndTime;
+    private Integer slotDurationMinutes;
+}
@@ -0,0 +1,21 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchInterviewItemResponseDto {
+    private int index;
+    private String status;
+    private Integer interviewId;
+    private Integer candidateId;
+    private LocalDateTime startTime;
+    private String message;
+}
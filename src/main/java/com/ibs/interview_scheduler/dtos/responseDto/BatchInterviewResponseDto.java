@@ -0,0 +1,20 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchInterviewResponseDto {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchInterviewItemResponseDto> results;
+    private String accessStatus;
+}
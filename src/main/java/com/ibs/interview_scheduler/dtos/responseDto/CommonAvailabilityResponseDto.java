@@ -0,0 +1,20 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommonAvailabilityResponseDto {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private long durationMinutes;
+    private List<Integer> panelistIds;
+}
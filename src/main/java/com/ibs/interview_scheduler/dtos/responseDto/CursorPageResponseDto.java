@@ -0,0 +1,18 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> items;
+    private int limit;
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One server-sent event on a dashboard stream. When {@code resync} is set the client reloads the
+ * summary instead of applying the rest.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class DashboardDeltaDto {
+    // added to the HR dashboard field of the same name
+    private Map<String, Long> counters;
+    // replace the panel dashboard field of the same name
+    private Map<String, Long> totals;
+    private List<UpcomingInterviewResponseDto> upcoming;
+    private boolean resync;
+}
@@ -0,0 +1,48 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewTrendsResponseDto {
+    private String granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private List<TypeCountDto> interviewsByType;
+    private List<PanelistResultDto> panelistResults;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeCountDto {
+        private LocalDate periodStart;
+        private String interviewType;
+        private long interviews;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PanelistResultDto {
+        private LocalDate periodStart;
+        private Integer panelistId;
+        private String panelistName;
+        private long interviews;
+        private long selected;
+        private long rejected;
+        private long onHold;
+        // shares of the interviews that have a result, pending ones are left out
+        private double selectedRate;
+        private double rejectedRate;
+        private double onHoldRate;
+    }
+}
@@ -2,6 +2,8 @@ package com.ibs.interview_scheduler.dtos.responseDto;
 
 import lombok.*;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -10,4 +12,6 @@ public class PanelDashboardResponseDto {
 
     private SlotSummaryResponseDto slotSummaryResponseDto;
     private InterviewSummaryResponseDto interviewSummaryResponseDto;
+    // sections that failed or timed out and were left at zero or empty
+    private List<String> degraded;
 }
@@ -0,0 +1,20 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotImportResponseDto {
+    private long lines;
+    private long imported;
+    private long failed;
+    private List<SlotImportErrorDto> errors;
+    private boolean errorsTruncated;
+}
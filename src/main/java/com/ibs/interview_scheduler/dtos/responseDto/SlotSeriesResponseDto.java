@@ -0,0 +1,20 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotSeriesResponseDto {
+    private int requested;
+    private int created;
+    private int skipped;
+    private List<SlotResponseDto> slots;
+    private List<SlotResponseDto> conflicts;
+}
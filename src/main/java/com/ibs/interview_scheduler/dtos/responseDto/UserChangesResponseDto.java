@@ -0,0 +1,24 @@
+package com.ibs.interview_scheduler.dtos.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Users changed since a sync token. The token is the ISO-8601 updatedAt watermark of the last
+ * change the caller has seen; changes at the watermark itself are sent again, so applying them is
+ * idempotent. resetRequired is set when the token is older than the changes the user service
+ * still keeps, the caller must then reload the full list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangesResponseDto {
+    private List<UserResponseDTO> users = new ArrayList<>();
+    private List<Integer> deletedUserIds = new ArrayList<>();
+    private String nextToken;
+    private boolean resetRequired;
+}
@@ -0,0 +1,29 @@
+package com.ibs.interview_scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of one in-memory dashboard counter, keyed by counter name such as
+ * {@code slots.status.UNBOOKED}. Lets a restarted instance serve the HR dashboard before its first
+ * full recount.
+ */
+@Entity
+@Table(name = "dashboard_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardCounter {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+    private Long counterValue;
+    private LocalDateTime updatedAt;
+}
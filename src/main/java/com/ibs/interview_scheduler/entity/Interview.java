@@ -7,7 +7,9 @@ import org.hibernate.annotations.Where;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interviews")
+@Table(name = "interviews", indexes = {
+        @Index(name = "idx_interviews_start", columnList = "start_time"),
+        @Index(name = "idx_interviews_candidate", columnList = "candidate_id")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,32 @@
+package com.ibs.interview_scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row per panelist assigned to an interview. The interview start/end time is copied here so
+ * panel-scoped lookups can be answered from the (panelist_id, start_time) index.
+ */
+@Entity
+@Table(name = "interview_panelist",
+        uniqueConstraints = @UniqueConstraint(name = "uk_interview_panelist", columnNames = {"interview_id", "panelist_id"}),
+        indexes = @Index(name = "idx_interview_panelist_panelist_start", columnList = "panelist_id, start_time"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewPanelist {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer interviewPanelistId;
+    private Integer interviewId;
+    private Integer panelistId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
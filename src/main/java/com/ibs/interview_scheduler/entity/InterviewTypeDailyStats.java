@@ -0,0 +1,41 @@
+package com.ibs.interview_scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Live interviews per interview type per day, keyed by the day the interview starts on. Rows are
+ * written only by {@code InterviewStatsJdbcRepository}, which recomputes a bucket from interviews,
+ * so a row always holds an absolute count.
+ */
+@Entity
+@Table(name = "interview_type_daily_stats")
+@IdClass(InterviewTypeDailyStats.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewTypeDailyStats {
+
+    @Id
+    private LocalDate statDate;
+    @Id
+    private String interviewType;
+    private int interviews;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private String interviewType;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ibs.interview_scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per panelist, per day counts behind the panel dashboard, keyed by the day the slot or interview
+ * starts on. Rows are written only by {@code PanelRollupJdbcRepository}, which recomputes a bucket
+ * from slots and interview_panelist, so a row always holds absolute counts rather than increments.
+ */
+@Entity
+@Table(name = "panel_daily_rollup")
+@IdClass(PanelDailyRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PanelDailyRollup {
+
+    @Id
+    private Integer panelistId;
+    @Id
+    private LocalDate rollupDate;
+    // live slots starting that day, and how many of them are BOOKED
+    private int slotsCreated;
+    private int slotsBooked;
+    // interview_panelist rows starting that day
+    private int interviewsAssigned;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer panelistId;
+        private LocalDate rollupDate;
+    }
+}
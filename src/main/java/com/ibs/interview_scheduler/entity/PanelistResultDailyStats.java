@@ -0,0 +1,45 @@
+package com.ibs.interview_scheduler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per panelist, per day interview results, keyed by the day the interview starts on. The date leads
+ * the primary key so a date range across all panelists is a single range read. Rows are written
+ * only by {@code InterviewStatsJdbcRepository} and always hold absolute counts.
+ */
+@Entity
+@Table(name = "panelist_result_daily_stats")
+@IdClass(PanelistResultDailyStats.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PanelistResultDailyStats {
+
+    @Id
+    private LocalDate statDate;
+    @Id
+    private Integer panelistId;
+    // live interviews the panelist sat on that day, and how many of them ended with each result
+    private int interviews;
+    private int selected;
+    private int rejected;
+    private int onHold;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private Integer panelistId;
+    }
+}
@@ -7,7 +7,10 @@ import org.hibernate.annotations.Where;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "slots")
+@Table(name = "slots", indexes = {
+        @Index(name = "idx_slots_panelist_start", columnList = "panelist_id, start_time"),
+        @Index(name = "idx_slots_status_start", columnList = "status, start_time"),
+        @Index(name = "idx_slots_start", columnList = "start_time")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +33,9 @@ public class Slot {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
     @PreUpdate
     public void preUpdate() {
         updatedAt = LocalDateTime.now();
@@ -0,0 +1,5 @@
+package com.ibs.interview_scheduler.enums;
+
+public enum BatchItemStatus {
+    CREATED, FAILED
+}
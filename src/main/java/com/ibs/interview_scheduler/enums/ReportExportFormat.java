@@ -0,0 +1,28 @@
+package com.ibs.interview_scheduler.enums;
+
+import com.ibs.interview_scheduler.exception.CustomException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public enum ReportExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    ReportExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ReportExportFormat from(String format) {
+        for (ReportExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new CustomException("Unsupported export format: " + format, HttpStatus.BAD_REQUEST);
+    }
+}
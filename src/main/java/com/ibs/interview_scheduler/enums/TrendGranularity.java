@@ -0,0 +1,33 @@
+package com.ibs.interview_scheduler.enums;
+
+import com.ibs.interview_scheduler.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum TrendGranularity {
+    DAY, WEEK, MONTH;
+
+    public static TrendGranularity from(String granularity) {
+        for (TrendGranularity value : values()) {
+            if (value.name().equalsIgnoreCase(granularity)) {
+                return value;
+            }
+        }
+        throw new CustomException("Unsupported granularity: " + granularity, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     *
+     * @param day day of a daily bucket
+     * @return first day of the period the bucket rolls up into, weeks start on Monday
+     */
+    public LocalDate periodStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+}
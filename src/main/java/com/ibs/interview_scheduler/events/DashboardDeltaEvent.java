@@ -0,0 +1,29 @@
+package com.ibs.interview_scheduler.events;
+
+import com.ibs.interview_scheduler.entity.Interview;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Published by {@code DashboardCounters} once a slot or interview change has been applied, that is
+ * after its transaction committed. Counter deltas are keyed by the {@code HrDashboardResponseDto}
+ * field they change. Removed interviews are deleted ones, or moved ones as they were before the
+ * change. {@code resync} is set when a recount corrected the HR counters.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class DashboardDeltaEvent {
+    private final Map<String, Long> counters;
+    private final List<Interview> addedInterviews;
+    private final List<Interview> removedInterviews;
+    private final boolean resync;
+
+    public DashboardDeltaEvent(Map<String, Long> counters, List<Interview> addedInterviews) {
+        this(counters, addedInterviews, List.of(), false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ibs.interview_scheduler.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Published by {@code PanelRollup} after it committed fresh buckets for these panelists.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PanelRollupRefreshedEvent {
+    private final Set<Integer> panelistIds;
+}
@@ -0,0 +1,25 @@
+package com.ibs.interview_scheduler.events;
+
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published once per bulk slot status transition. It is raised inside the caller's transaction, so
+ * listeners that act on committed state should use {@code @TransactionalEventListener}.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class SlotsTransitionedEvent {
+    private final List<Integer> slotIds;
+    private final SlotStatus from;
+    private final SlotStatus to;
+    private final int affected;
+    private final String updatedBy;
+    private final LocalDateTime occurredAt;
+}
@@ -1,19 +1,22 @@
 package com.ibs.interview_scheduler.feign;
 
+import com.ibs.interview_scheduler.cache.UserDirectory;
 import com.ibs.interview_scheduler.dtos.responseDto.ReportResponseDto;
-import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import com.ibs.interview_scheduler.dtos.responseDto.UserChangesResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.cloud.openfeign.FeignClientsConfiguration;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
 
-@FeignClient(name = "userservice", configuration = FeignClientsConfiguration.class)
+@FeignClient(name = "userservice", configuration = UserClientConfiguration.class)
 public interface UserClient {
 
+    // the full user list, streamed into a directory by UserDirectoryDecoder
     @GetMapping("/api/v1/users/all")
-    List<UserResponseDTO> getAllUsers();
+    UserDirectory getUserDirectory();
+
+    @GetMapping("/api/v1/users/changes")
+    UserChangesResponseDto getUserChanges(@RequestParam("since") String since);
 
     @GetMapping("/api/v1/users/report")
     ReportResponseDto getUserReport(
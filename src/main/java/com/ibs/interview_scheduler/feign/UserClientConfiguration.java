@@ -0,0 +1,26 @@
+package com.ibs.interview_scheduler.feign;
+
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Feign configuration of {@link UserClient} only. Deliberately not a {@code @Configuration}, so
+ * component scanning does not apply it to every client. The usual Spring decoder chain stays in
+ * place for all return types except {@link com.ibs.interview_scheduler.cache.UserDirectory}.
+ */
+public class UserClientConfiguration {
+
+    @Bean
+    public Decoder feignDecoder(ObjectFactory<HttpMessageConverters> messageConverters,
+                                ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        return new UserDirectoryDecoder(
+                new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers))));
+    }
+}
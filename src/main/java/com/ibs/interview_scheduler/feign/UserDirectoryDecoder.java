@@ -0,0 +1,102 @@
+package com.ibs.interview_scheduler.feign;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+
+/**
+ * Reads the user list straight from the response stream into a {@link UserDirectory}, one user at
+ * a time, when a {@link UserClient} method returns a directory. Only the fields the directory keeps
+ * are read; everything else, password and phone included, is skipped in the token stream without
+ * being turned into a value. Every other return type goes to the delegate.
+ */
+public class UserDirectoryDecoder implements Decoder {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Decoder delegate;
+
+    public UserDirectoryDecoder(Decoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (type != UserDirectory.class) {
+            return delegate.decode(response, type);
+        }
+        if (response.body() == null) {
+            return UserDirectory.EMPTY;
+        }
+        try (JsonParser parser = JSON.createParser(response.body().asInputStream())) {
+            return read(parser, response);
+        }
+    }
+
+    private static UserDirectory read(JsonParser parser, Response response) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == null || first == JsonToken.VALUE_NULL) {
+            return UserDirectory.EMPTY;
+        }
+        if (first != JsonToken.START_ARRAY) {
+            throw new DecodeException(response.status(), "Expected a JSON array of users but got " + first, response.request());
+        }
+        UserDirectory.Builder builder = new UserDirectory.Builder();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Integer userId = null;
+            Integer roleId = null;
+            String fullName = null;
+            String email = null;
+            String roleName = null;
+            boolean active = false;
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "userId" -> userId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                    case "fullName" -> fullName = parser.getValueAsString();
+                    case "email" -> email = parser.getValueAsString();
+                    case "roleId" -> roleId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                    case "roleName" -> roleName = parser.getValueAsString();
+                    case "active" -> active = parser.getValueAsBoolean();
+                    case "createdAt", "updatedAt" -> builder.changedAt(readTime(parser, value));
+                    default -> parser.skipChildren();
+                }
+            }
+            if (userId != null) {
+                builder.add(userId, fullName, email, roleId, roleName, active);
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            throw new DecodeException(response.status(), "Unexpected " + parser.currentToken() + " in user list", response.request());
+        }
+        return builder.build();
+    }
+
+    // ISO string as written by userservice, or the [y, m, d, h, min, s, nanos] array form
+    private static LocalDateTime readTime(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return LocalDateTime.parse(parser.getText());
+        }
+        if (value == JsonToken.START_ARRAY) {
+            int[] parts = new int[7];
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (count < parts.length) {
+                    parts[count++] = parser.getIntValue();
+                }
+            }
+            return count < 5 ? null : LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
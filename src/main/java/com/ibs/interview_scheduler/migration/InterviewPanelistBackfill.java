@@ -0,0 +1,72 @@
+package com.ibs.interview_scheduler.migration;
+
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One-time backfill of interview_panelist from the comma-separated interviews.panelist_ids column.
+ * Only interviews without mapping rows are picked up, so once every interview is migrated a
+ * restart costs a single empty query. An interview whose panelist_ids cannot be parsed is logged
+ * and skipped, the rest of the backfill carries on past it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewPanelistBackfill {
+
+    static final int PAGE_SIZE = 500;
+
+    private final InterviewRepository interviewRepository;
+    private final InterviewPanelistRepository interviewPanelistRepository;
+    private final PanelRollup panelRollup;
+    private final InterviewStatsRollup interviewStatsRollup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int migrated = 0;
+            int skipped = 0;
+            int lastId = 0;
+            List<Interview> page = interviewRepository.findWithoutPanelistRows(lastId, PageRequest.of(0, PAGE_SIZE));
+            while (!page.isEmpty()) {
+                List<InterviewPanelist> rows = new ArrayList<>();
+                for (Interview interview : page) {
+                    lastId = interview.getInterviewId();
+                    try {
+                        rows.addAll(PanelistIds.toPanelistRows(interview));
+                        migrated++;
+                    } catch (Exception e) {
+                        skipped++;
+                        log.warn("Skipping interview {} in interview_panelist backfill, panelist_ids '{}': {}",
+                                interview.getInterviewId(), interview.getPanelistIds(), e.getMessage());
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    interviewPanelistRepository.saveAll(rows);
+                    panelRollup.panelistsChanged(rows);
+                    interviewStatsRollup.panelistsChanged(rows);
+                }
+                page = interviewRepository.findWithoutPanelistRows(lastId, PageRequest.of(0, PAGE_SIZE));
+            }
+            if (migrated > 0 || skipped > 0) {
+                log.info("Backfilled interview_panelist rows for {} interviews, skipped {}", migrated, skipped);
+            }
+        } catch (Exception e) {
+            log.error("Exception occurred while backfilling interview_panelist, {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.ibs.interview_scheduler.publisher;
+
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.responseDto.DashboardDeltaDto;
+import com.ibs.interview_scheduler.dtos.responseDto.UpcomingInterviewResponseDto;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.enums.InterviewStatus;
+import com.ibs.interview_scheduler.events.DashboardDeltaEvent;
+import com.ibs.interview_scheduler.events.PanelRollupRefreshedEvent;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Pushes dashboard changes to open HR and panel dashboards as server-sent {@code delta} events,
+ * so they no longer poll the summary endpoints. HR subscribers get counter deltas keyed by
+ * {@code HrDashboardResponseDto} field and newly created upcoming interviews; panel subscribers get
+ * their recomputed month and week totals and their new upcoming interviews.
+ * <p>
+ * Every subscriber has its own pending delta and at most one send in flight. Changes that arrive
+ * while a send is running are merged into the pending delta, counters summed and totals replaced,
+ * so a slow client receives fewer, larger events instead of a growing queue. Upcoming interviews
+ * are buffered up to {@code dashboard-stream.buffer-size}; past that the buffer is dropped and the
+ * client is told to {@code resync}, that is fetch the summary again. The first event on a new
+ * stream is always a resync. Upcoming entries carry no id a client could remove them by, so a
+ * deleted, rescheduled or completed interview that was inside a dashboard's window resyncs that
+ * dashboard, and so does a recount that corrected the HR counters. Sends run on virtual threads,
+ * never on the writer's thread.
+ */
+@Component
+@Slf4j
+public class DashboardStreamPublisher implements AutoCloseable {
+
+    static final String HR = "hr";
+    private static final String PANEL = "panel:";
+
+    private final PanelRollup panelRollup;
+    private final UserCacheService userCacheService;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DashboardStreamPublisher(PanelRollup panelRollup, UserCacheService userCacheService, MeterRegistry meterRegistry,
+                                    @Value("${dashboard-stream.timeout:PT30M}") Duration timeout,
+                                    @Value("${dashboard-stream.buffer-size:64}") int bufferSize) {
+        this(panelRollup, userCacheService, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(), timeout, bufferSize);
+    }
+
+    DashboardStreamPublisher(PanelRollup panelRollup, UserCacheService userCacheService, MeterRegistry meterRegistry,
+                             ExecutorService executor, Duration timeout, int bufferSize) {
+        this.panelRollup = panelRollup;
+        this.userCacheService = userCacheService;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        Gauge.builder("dashboard.stream.subscribers", subscribers,
+                        streams -> streams.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     *
+     * @return stream of HR dashboard deltas
+     */
+    public SseEmitter subscribeHr() {
+        return subscribe(HR, new SseEmitter(timeout.toMillis()));
+    }
+
+    /**
+     *
+     * @param panelId panelist whose dashboard is open
+     * @return stream of that panelist's dashboard deltas
+     */
+    public SseEmitter subscribePanel(Integer panelId) {
+        return subscribe(PANEL + panelId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(String key, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(key, emitter);
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscriber.offer(Map.of(), Map.of(), List.of());
+        return emitter;
+    }
+
+    // delivered on the committing thread, the fan out is handed to the executor
+    @EventListener
+    public void onDashboardDelta(DashboardDeltaEvent event) {
+        if (!subscribers.isEmpty()) {
+            dispatch(() -> publishDelta(event));
+        }
+    }
+
+    @EventListener
+    public void onPanelRollupRefreshed(PanelRollupRefreshedEvent event) {
+        if (subscribers.keySet().stream().anyMatch(key -> key.startsWith(PANEL))) {
+            dispatch(() -> publishTotals(event.getPanelistIds()));
+        }
+    }
+
+    /**
+     * Keeps idle streams open through proxies that close silent connections. A subscriber with a
+     * delta pending or a send running needs no heartbeat.
+     */
+    @Scheduled(fixedDelayString = "${dashboard-stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscribers.values().forEach(streams -> streams.forEach(Subscriber::heartbeat));
+    }
+
+    @Override
+    public void close() {
+        subscribers.values().forEach(streams -> streams.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        executor.shutdownNow();
+    }
+
+    private void publishDelta(DashboardDeltaEvent event) {
+        if (event.isResync()) {
+            resync(HR);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> counters = new HashMap<>(event.getCounters());
+        List<UpcomingInterviewResponseDto> hrUpcoming = new ArrayList<>();
+        Map<String, List<UpcomingInterviewResponseDto>> panelUpcoming = new HashMap<>();
+        if (!event.getAddedInterviews().isEmpty()) {
+            UserDirectory directory = userCacheService.getDirectory();
+            for (Interview interview : event.getAddedInterviews()) {
+                LocalDateTime start = interview.getStartTime();
+                if (start == null || Boolean.TRUE.equals(interview.getIsDeleted())) {
+                    continue;
+                }
+                UpcomingInterviewResponseDto upcoming = UpcomingInterviewResponseDto.builder()
+                        .candidateName(directory.name(interview.getCandidateId()))
+                        .role(interview.getInterviewType())
+                        .interviewDate(start)
+                        .mode(interview.getMode())
+                        .build();
+                if (inHrWindow(start, now)) {
+                    hrUpcoming.add(upcoming);
+                    if (isConfirmed(interview)) {
+                        counters.merge("scheduledInterviews", 1L, Long::sum);
+                    }
+                }
+                if (isConfirmed(interview) && inPanelWindow(start, now)) {
+                    PanelistIds.parse(interview.getPanelistIds()).stream().distinct().forEach(panelistId ->
+                            panelUpcoming.computeIfAbsent(PANEL + panelistId, k -> new ArrayList<>()).add(upcoming));
+                }
+            }
+        }
+        Set<String> resyncs = new HashSet<>();
+        for (Interview interview : event.getRemovedInterviews()) {
+            LocalDateTime start = interview.getStartTime();
+            if (start == null) {
+                continue;
+            }
+            if (inHrWindow(start, now)) {
+                resyncs.add(HR);
+            }
+            if (isConfirmed(interview) && inPanelWindow(start, now)) {
+                PanelistIds.parse(interview.getPanelistIds()).forEach(panelistId -> resyncs.add(PANEL + panelistId));
+            }
+        }
+        // a resync refetches the summary, which already holds this event's other changes
+        resyncs.forEach(this::resync);
+        if (!resyncs.contains(HR) && (!counters.isEmpty() || !hrUpcoming.isEmpty())) {
+            offer(HR, counters, Map.of(), hrUpcoming);
+        }
+        panelUpcoming.forEach((key, upcoming) -> {
+            if (!resyncs.contains(key)) {
+                offer(key, Map.of(), Map.of(), upcoming);
+            }
+        });
+    }
+
+    // the same windows getHrDashboardSummary and getPanelDashboard read
+    private static boolean inHrWindow(LocalDateTime start, LocalDateTime now) {
+        return start.isAfter(now.minusDays(1)) && start.isBefore(now.plusDays(4));
+    }
+
+    private static boolean inPanelWindow(LocalDateTime start, LocalDateTime now) {
+        return !start.isBefore(now) && !start.isAfter(now.plusDays(7));
+    }
+
+    private static boolean isConfirmed(Interview interview) {
+        return InterviewStatus.CONFIRMED.toString().equals(interview.getInterviewStatus());
+    }
+
+    // only the rollup knows the new totals, so subscribed panelists read theirs once per refresh
+    private void publishTotals(Set<Integer> panelistIds) {
+        if (!panelRollup.isReady()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (Integer panelistId : panelistIds) {
+            String key = PANEL + panelistId;
+            if (!subscribers.containsKey(key)) {
+                continue;
+            }
+            PanelRollup.Totals totals = panelRollup.totals(panelistId, today);
+            offer(key, Map.of(), Map.of(
+                    "totalSlotsThisMonth", totals.slotsThisMonth(),
+                    "appliedSlots", totals.bookedThisMonth(),
+                    "weeklyPlanSlots", totals.slotsThisWeek(),
+                    "totalAssignedThisMonth", totals.assignedThisMonth()), List.of());
+        }
+    }
+
+    private void resync(String key) {
+        subscribers.getOrDefault(key, Set.of()).forEach(Subscriber::resync);
+    }
+
+    private void offer(String key, Map<String, Long> counters, Map<String, Long> totals,
+                       List<UpcomingInterviewResponseDto> upcoming) {
+        subscribers.getOrDefault(key, Set.of()).forEach(subscriber -> subscriber.offer(counters, totals, upcoming));
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("Unable to publish dashboard delta: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Dashboard stream publisher is closed, delta dropped");
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.key, (key, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    /**
+     * One open stream and the delta waiting for it. All state is guarded by the subscriber itself;
+     * the emitter is only ever written by the single running drain.
+     */
+    private final class Subscriber {
+
+        private final String key;
+        private final SseEmitter emitter;
+        private final Map<String, Long> counters = new HashMap<>();
+        private final Map<String, Long> totals = new HashMap<>();
+        private final ArrayDeque<UpcomingInterviewResponseDto> upcoming = new ArrayDeque<>();
+        private boolean resync = true;
+        private boolean heartbeat;
+        private boolean sending;
+        private boolean closed;
+
+        private Subscriber(String key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(Map<String, Long> counterDeltas, Map<String, Long> latestTotals,
+                                List<UpcomingInterviewResponseDto> added) {
+            if (closed) {
+                return;
+            }
+            totals.putAll(latestTotals);
+            // a pending resync refetches the summary, which already holds these changes
+            if (!resync) {
+                counterDeltas.forEach((name, delta) -> counters.merge(name, delta, Long::sum));
+                if (upcoming.size() + added.size() > bufferSize) {
+                    resync = true;
+                    counters.clear();
+                    upcoming.clear();
+                    meterRegistry.counter("dashboard.stream.overflow", "stream", key.startsWith(PANEL) ? "panel" : HR)
+                            .increment();
+                } else {
+                    upcoming.addAll(added);
+                }
+            }
+            drainLater();
+        }
+
+        synchronized void resync() {
+            if (closed) {
+                return;
+            }
+            resync = true;
+            counters.clear();
+            upcoming.clear();
+            drainLater();
+        }
+
+        synchronized void heartbeat() {
+            if (!closed && !sending) {
+                heartbeat = true;
+                drainLater();
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        private boolean pending() {
+            return resync || heartbeat || !counters.isEmpty() || !totals.isEmpty() || !upcoming.isEmpty();
+        }
+
+        // caller holds the lock
+        private void drainLater() {
+            if (sending || !pending()) {
+                return;
+            }
+            sending = true;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                sending = false;
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                DashboardDeltaDto delta = null;
+                synchronized (this) {
+                    if (closed || !pending()) {
+                        sending = false;
+                        return;
+                    }
+                    if (resync || !counters.isEmpty() || !totals.isEmpty() || !upcoming.isEmpty()) {
+                        delta = DashboardDeltaDto.builder()
+                                .counters(new HashMap<>(counters))
+                                .totals(new HashMap<>(totals))
+                                .upcoming(new ArrayList<>(upcoming))
+                                .resync(resync)
+                                .build();
+                        counters.clear();
+                        totals.clear();
+                        upcoming.clear();
+                        resync = false;
+                    }
+                    heartbeat = false;
+                }
+                try {
+                    if (delta != null) {
+                        emitter.send(SseEmitter.event().name("delta").data(delta));
+                    } else {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (Exception e) {
+                    log.debug("Dashboard stream {} closed: {}", key, e.getMessage());
+                    synchronized (this) {
+                        sending = false;
+                    }
+                    remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
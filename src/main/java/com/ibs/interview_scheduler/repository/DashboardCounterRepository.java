@@ -0,0 +1,9 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.DashboardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+}
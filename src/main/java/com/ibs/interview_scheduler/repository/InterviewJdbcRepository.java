@@ -0,0 +1,123 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writes for interviews. Interview ids are IDENTITY generated, which stops Hibernate
+ * from batching inserts, so bulk paths write here and read the generated keys back.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterviewJdbcRepository {
+
+    private static final String INSERT_INTERVIEW = """
+            INSERT INTO interviews (candidate_id, slot_id, hr_id, panelist_ids, start_time, end_time,
+                interview_type, interview_status, mode, result, feedback, is_deleted, created_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_PANELIST = """
+            INSERT INTO interview_panelist (interview_id, panelist_id, start_time, end_time)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all interviews in one JDBC batch and sets the generated interview ids on them.
+     *
+     * @param interviews interviews without ids
+     */
+    public void insertAll(List<Interview> interviews) {
+        if (interviews.isEmpty()) {
+            return;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_INTERVIEW, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Interview interview = interviews.get(i);
+                        setInteger(ps, 1, interview.getCandidateId());
+                        setInteger(ps, 2, interview.getSlotId());
+                        setInteger(ps, 3, interview.getHrId());
+                        ps.setString(4, interview.getPanelistIds());
+                        ps.setTimestamp(5, toTimestamp(interview.getStartTime()));
+                        ps.setTimestamp(6, toTimestamp(interview.getEndTime()));
+                        ps.setString(7, interview.getInterviewType());
+                        ps.setString(8, interview.getInterviewStatus());
+                        ps.setString(9, interview.getMode());
+                        ps.setString(10, interview.getResult());
+                        ps.setString(11, interview.getFeedback());
+                        ps.setBoolean(12, Boolean.TRUE.equals(interview.getIsDeleted()));
+                        ps.setString(13, interview.getCreatedBy());
+                        ps.setTimestamp(14, toTimestamp(interview.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return interviews.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < interviews.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            interviews.get(i).setInterviewId(id.intValue());
+        }
+    }
+
+    /**
+     * Inserts interview_panelist rows in one JDBC batch.
+     *
+     * @param rows mapping rows
+     */
+    public void insertPanelists(List<InterviewPanelist> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PANELIST, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                InterviewPanelist row = rows.get(i);
+                ps.setInt(1, row.getInterviewId());
+                ps.setInt(2, row.getPanelistId());
+                ps.setTimestamp(3, toTimestamp(row.getStartTime()));
+                ps.setTimestamp(4, toTimestamp(row.getEndTime()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InterviewPanelistRepository extends JpaRepository<InterviewPanelist, Integer> {
+
+    @Modifying
+    @Query("DELETE FROM InterviewPanelist p WHERE p.interviewId = :interviewId")
+    int deleteByInterviewId(@Param("interviewId") Integer interviewId);
+
+    @Query("SELECT p FROM InterviewPanelist p JOIN Interview i ON i.interviewId = p.interviewId " +
+            "WHERE p.panelistId IN :panelistIds " +
+            "AND p.startTime < :to AND p.endTime > :from AND i.isDeleted = false")
+    List<InterviewPanelist> findActiveOverlapping(@Param("panelistIds") Collection<Integer> panelistIds,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+}
@@ -1,47 +1,111 @@
 package com.ibs.interview_scheduler.repository;
 
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
+import com.ibs.interview_scheduler.dtos.projection.IdCount;
+import com.ibs.interview_scheduler.dtos.projection.InterviewView;
+import com.ibs.interview_scheduler.dtos.projection.UpcomingInterviewView;
 import com.ibs.interview_scheduler.entity.Interview;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, Integer> {
 
-    boolean existsByCandidateIdAndStartTimeBetween(Integer candidateId, LocalDateTime start, LocalDateTime end);
-
-    // Since panel IDs are stored as comma-separated string:
-    @Query("SELECT CASE WHEN COUNT(i) > 0 THEN true ELSE false END " +
-            "FROM Interview i WHERE i.panelistIds LIKE %:panelId% " +
-            "AND i.startTime BETWEEN :start AND :end")
-    boolean existsByPanelistIdsContainingAndStartTimeBetween(@Param("panelId") String panelId,
-                                                             @Param("start") LocalDateTime start,
-                                                             @Param("end") LocalDateTime end);
-
-    @Query("SELECT COUNT(i) FROM Interview i WHERE (CONCAT(',', i.panelistIds, ',') LIKE CONCAT('%,', :panelId, ',%')) AND MONTH(i.startTime) = MONTH(CURRENT_DATE) AND YEAR(i.startTime) = YEAR(CURRENT_DATE)")
-    int countAssignedInterviewsThisMonth(@Param("panelId") String panelId);
+    // Panel-scoped queries go through the interview_panelist mapping and its (panelist_id, start_time) index
+    @Query("SELECT COUNT(p) FROM InterviewPanelist p JOIN Interview i ON i.interviewId = p.interviewId " +
+            "WHERE p.panelistId = :panelId " +
+            "AND p.startTime >= :from AND p.startTime < :to AND i.isDeleted = false")
+    int countAssignedInterviewsStartingBetween(@Param("panelId") Integer panelId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
 
     @Query("""
-            SELECT i FROM Interview i
-            WHERE CONCAT(',', i.panelistIds, ',') LIKE CONCAT('%,', :panelId, ',%')
-            AND i.startTime BETWEEN :now AND :nextWeek and i.interviewStatus ='CONFIRMED'
+            SELECT i FROM InterviewPanelist p JOIN Interview i ON i.interviewId = p.interviewId
+            WHERE p.panelistId = :panelId
+            AND p.startTime BETWEEN :now AND :nextWeek and i.interviewStatus ='CONFIRMED' AND i.isDeleted = false
             """)
     List<Interview> findUpcomingInterviewsForWeek(
-            @Param("panelId") String panelId,
+            @Param("panelId") Integer panelId,
             @Param("now") LocalDateTime now,
             @Param("nextWeek") LocalDateTime nextWeek);
 
-    @Query("SELECT i FROM Interview i " +
-            "WHERE (i.panelistIds LIKE CONCAT('%,', :panelId, ',%') " +
-            "   OR i.panelistIds LIKE CONCAT(:panelId, ',%') " +
-            "   OR i.panelistIds LIKE CONCAT('%,', :panelId) " +
-            "   OR i.panelistIds = :panelId) " +
+    String INTERVIEW_VIEW = "SELECT new com.ibs.interview_scheduler.dtos.projection.InterviewView(" +
+            "i.interviewId, i.candidateId, i.slotId, i.hrId, i.panelistIds, i.startTime, i.endTime, " +
+            "i.interviewType, i.interviewStatus, i.result, i.feedback, i.createdAt, i.isDeleted) ";
+
+    @Query(INTERVIEW_VIEW +
+            "FROM InterviewPanelist p JOIN Interview i ON i.interviewId = p.interviewId " +
+            "WHERE p.panelistId = :panelId " +
             "AND i.interviewStatus = 'CONFIRMED' AND i.isDeleted =false")
-    List<Interview> findConfirmedInterviewsByPanelId(@Param("panelId") String panelId);
+    List<InterviewView> findConfirmedInterviewsByPanelId(@Param("panelId") Integer panelId);
+
+    @Query("SELECT i FROM Interview i WHERE i.interviewId > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM InterviewPanelist p WHERE p.interviewId = i.interviewId) " +
+            "ORDER BY i.interviewId ASC")
+    List<Interview> findWithoutPanelistRows(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query(INTERVIEW_VIEW + "FROM Interview i WHERE i.interviewId IN :interviewIds")
+    List<InterviewView> findViewsByIdIn(@Param("interviewIds") Collection<Integer> interviewIds);
+
+    @Query(INTERVIEW_VIEW + "FROM Interview i WHERE i.candidateId = :candidateId")
+    List<InterviewView> findInterviewsByCandidateId(@Param("candidateId") Integer candidateId);
+
+    List<Interview> findByIsDeletedFalseAndEndTimeAfter(LocalDateTime endTime);
+
+    @Query("SELECT i FROM Interview i WHERE i.candidateId IN :candidateIds " +
+            "AND i.startTime < :to AND i.endTime > :from AND i.isDeleted = false")
+    List<Interview> findActiveCandidateInterviewsOverlapping(@Param("candidateIds") Collection<Integer> candidateIds,
+                                                             @Param("from") LocalDateTime from,
+                                                             @Param("to") LocalDateTime to);
+
+    @Query("SELECT i FROM Interview i WHERE i.isDeleted = false " +
+            "AND (:status IS NULL OR i.interviewStatus = :status) " +
+            "AND (:candidateId IS NULL OR i.candidateId = :candidateId) " +
+            "AND (:from IS NULL OR i.startTime >= :from) " +
+            "AND (i.startTime > :afterStart OR (i.startTime = :afterStart AND i.interviewId > :afterId)) " +
+            "ORDER BY i.startTime ASC, i.interviewId ASC")
+    List<Interview> findPageAfter(@Param("status") String status,
+                                  @Param("candidateId") Integer candidateId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("afterStart") LocalDateTime afterStart,
+                                  @Param("afterId") Integer afterId,
+                                  Pageable pageable);
+
+    // HR dashboard aggregates, the start time windows are open ranges so idx_interviews_start applies
+    @Query("SELECT DISTINCT i.candidateId FROM Interview i WHERE i.candidateId IS NOT NULL")
+    List<Integer> findDistinctCandidateIds();
+
+    @Query("SELECT COUNT(i) FROM Interview i WHERE i.interviewStatus = :status " +
+            "AND i.startTime > :from AND i.startTime < :to")
+    long countByStatusStartingBetween(@Param("status") String status,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.ibs.interview_scheduler.dtos.projection.GroupCount(i.result, COUNT(i)) " +
+            "FROM Interview i WHERE i.result IS NOT NULL GROUP BY i.result")
+    List<GroupCount> countByResult();
+
+    @Query("SELECT new com.ibs.interview_scheduler.dtos.projection.IdCount(i.candidateId, COUNT(i)) " +
+            "FROM Interview i WHERE i.candidateId IS NOT NULL GROUP BY i.candidateId")
+    List<IdCount> countByCandidate();
+
+    @Query("SELECT new com.ibs.interview_scheduler.dtos.projection.UpcomingInterviewView(" +
+            "i.candidateId, i.interviewType, i.startTime, i.mode) FROM Interview i " +
+            "WHERE i.isDeleted = false AND i.startTime > :from AND i.startTime < :to")
+    List<UpcomingInterviewView> findUpcomingViews(@Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    // both ends of the start_time index, the range the interview stats backfill covers
+    @Query("SELECT MIN(i.startTime) FROM Interview i")
+    LocalDateTime findEarliestStartTime();
 
-    List<Interview> findInterviewsByCandidateId(Integer candidateId);
+    @Query("SELECT MAX(i.startTime) FROM Interview i")
+    LocalDateTime findLatestStartTime();
 }
@@ -0,0 +1,186 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.InterviewTypeDailyStats;
+import com.ibs.interview_scheduler.entity.PanelistResultDailyStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes to interview_type_daily_stats and panelist_result_daily_stats. A bucket is recomputed from
+ * interviews, joined through interview_panelist for the panelist buckets, with a start time range
+ * on their start_time indexes and upserted with ON DUPLICATE KEY UPDATE, so refreshing a bucket
+ * twice or out of order still leaves the right counts. A panelist bucket refresh ranges over
+ * interview_panelist (panelist_id, start_time); a backfill has no panelist to lead with, so it
+ * ranges over interviews (start_time) instead. Both start times are the same, the panelist rows
+ * copy them from their interview.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterviewStatsJdbcRepository {
+
+    private static final String REFRESH_TYPE_BUCKET = """
+            INSERT INTO interview_type_daily_stats (stat_date, interview_type, interviews, updated_at)
+            SELECT ?, ?, COUNT(*), ?
+            FROM interviews
+            WHERE interview_type = ? AND start_time >= ? AND start_time < ? AND is_deleted = false
+            ON DUPLICATE KEY UPDATE interviews = VALUES(interviews), updated_at = VALUES(updated_at)
+            """;
+
+    private static final String REFRESH_PANELIST_BUCKET = """
+            INSERT INTO panelist_result_daily_stats (stat_date, panelist_id, interviews, selected, rejected,
+                on_hold, updated_at)
+            SELECT ?, ?, COUNT(*),
+                   COALESCE(SUM(CASE WHEN i.result = 'SELECTED' THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN i.result = 'REJECTED' THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN i.result = 'ON_HOLD' THEN 1 ELSE 0 END), 0), ?
+            FROM interview_panelist p JOIN interviews i ON i.interview_id = p.interview_id
+            WHERE p.panelist_id = ? AND p.start_time >= ? AND p.start_time < ? AND i.is_deleted = false
+            ON DUPLICATE KEY UPDATE interviews = VALUES(interviews), selected = VALUES(selected),
+                rejected = VALUES(rejected), on_hold = VALUES(on_hold), updated_at = VALUES(updated_at)
+            """;
+
+    private static final String CLEAR_TYPES = "DELETE FROM interview_type_daily_stats WHERE stat_date >= ? AND stat_date < ?";
+
+    private static final String CLEAR_PANELISTS = "DELETE FROM panelist_result_daily_stats WHERE stat_date >= ? AND stat_date < ?";
+
+    private static final String CLEAR_ALL_TYPES = "DELETE FROM interview_type_daily_stats";
+
+    private static final String CLEAR_ALL_PANELISTS = "DELETE FROM panelist_result_daily_stats";
+
+    private static final String CLEAR_TYPES_OUTSIDE = "DELETE FROM interview_type_daily_stats WHERE stat_date < ? OR stat_date >= ?";
+
+    private static final String CLEAR_PANELISTS_OUTSIDE = "DELETE FROM panelist_result_daily_stats WHERE stat_date < ? OR stat_date >= ?";
+
+    private static final String BACKFILL_TYPES = """
+            INSERT INTO interview_type_daily_stats (stat_date, interview_type, interviews, updated_at)
+            SELECT CAST(start_time AS DATE), interview_type, COUNT(*), ?
+            FROM interviews
+            WHERE start_time >= ? AND start_time < ? AND is_deleted = false AND interview_type IS NOT NULL
+            GROUP BY CAST(start_time AS DATE), interview_type
+            """;
+
+    private static final String BACKFILL_PANELISTS = """
+            INSERT INTO panelist_result_daily_stats (stat_date, panelist_id, interviews, selected, rejected,
+                on_hold, updated_at)
+            SELECT CAST(i.start_time AS DATE), p.panelist_id, COUNT(*),
+                   SUM(CASE WHEN i.result = 'SELECTED' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN i.result = 'REJECTED' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN i.result = 'ON_HOLD' THEN 1 ELSE 0 END), ?
+            FROM interviews i JOIN interview_panelist p ON p.interview_id = i.interview_id
+            WHERE i.start_time >= ? AND i.start_time < ? AND i.is_deleted = false AND p.panelist_id IS NOT NULL
+            GROUP BY CAST(i.start_time AS DATE), p.panelist_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recomputes the given interview type buckets in one JDBC batch. A bucket with nothing left in
+     * it is kept with a zero count.
+     *
+     * @param keys day and interview type of each bucket
+     */
+    public void refreshTypes(Collection<InterviewTypeDailyStats.Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<InterviewTypeDailyStats.Key> buckets = new ArrayList<>(keys);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(REFRESH_TYPE_BUCKET, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                InterviewTypeDailyStats.Key key = buckets.get(i);
+                ps.setDate(1, Date.valueOf(key.getStatDate()));
+                ps.setString(2, key.getInterviewType());
+                ps.setTimestamp(3, now);
+                ps.setString(4, key.getInterviewType());
+                ps.setTimestamp(5, Timestamp.valueOf(key.getStatDate().atStartOfDay()));
+                ps.setTimestamp(6, Timestamp.valueOf(key.getStatDate().plusDays(1).atStartOfDay()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return buckets.size();
+            }
+        });
+    }
+
+    /**
+     * Recomputes the given panelist buckets in one JDBC batch. A bucket with nothing left in it is
+     * kept with zero counts.
+     *
+     * @param keys day and panelist of each bucket
+     */
+    public void refreshPanelists(Collection<PanelistResultDailyStats.Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<PanelistResultDailyStats.Key> buckets = new ArrayList<>(keys);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(REFRESH_PANELIST_BUCKET, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PanelistResultDailyStats.Key key = buckets.get(i);
+                ps.setDate(1, Date.valueOf(key.getStatDate()));
+                ps.setInt(2, key.getPanelistId());
+                ps.setTimestamp(3, now);
+                ps.setInt(4, key.getPanelistId());
+                ps.setTimestamp(5, Timestamp.valueOf(key.getStatDate().atStartOfDay()));
+                ps.setTimestamp(6, Timestamp.valueOf(key.getStatDate().plusDays(1).atStartOfDay()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return buckets.size();
+            }
+        });
+    }
+
+    /**
+     * Replaces every bucket from {@code from} up to {@code to} with counts grouped from the source
+     * tables. Run it inside a transaction so readers keep seeing the previous buckets until it
+     * commits; ranges that do not overlap can be backfilled concurrently.
+     *
+     * @param from first day, inclusive
+     * @param to   last day, exclusive
+     */
+    public void backfill(LocalDate from, LocalDate to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.atStartOfDay());
+        jdbcTemplate.update(CLEAR_TYPES, Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update(CLEAR_PANELISTS, Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update(BACKFILL_TYPES, now, start, end);
+        jdbcTemplate.update(BACKFILL_PANELISTS, now, start, end);
+    }
+
+    /**
+     * Drops every bucket, for when no interviews are left.
+     */
+    public void clear() {
+        jdbcTemplate.update(CLEAR_ALL_TYPES);
+        jdbcTemplate.update(CLEAR_ALL_PANELISTS);
+    }
+
+    /**
+     * Drops buckets outside the days that still have interviews.
+     *
+     * @param from first day kept, inclusive
+     * @param to   last day kept, exclusive
+     */
+    public void clearOutside(LocalDate from, LocalDate to) {
+        jdbcTemplate.update(CLEAR_TYPES_OUTSIDE, Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update(CLEAR_PANELISTS_OUTSIDE, Date.valueOf(from), Date.valueOf(to));
+    }
+}
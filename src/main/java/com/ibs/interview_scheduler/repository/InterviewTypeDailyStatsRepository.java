@@ -0,0 +1,18 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.InterviewTypeDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InterviewTypeDailyStatsRepository extends JpaRepository<InterviewTypeDailyStats, InterviewTypeDailyStats.Key> {
+
+    // a range over the (stat_date, interview_type) primary key
+    @Query("SELECT s FROM InterviewTypeDailyStats s WHERE s.statDate >= :from AND s.statDate < :to AND s.interviews > 0")
+    List<InterviewTypeDailyStats> findBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,21 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.PanelDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PanelDailyRollupRepository extends JpaRepository<PanelDailyRollup, PanelDailyRollup.Key> {
+
+    // a range over the (panelist_id, rollup_date) primary key
+    @Query("SELECT r FROM PanelDailyRollup r WHERE r.panelistId = :panelistId " +
+            "AND r.rollupDate >= :from AND r.rollupDate < :to")
+    List<PanelDailyRollup> findByPanelistBetween(@Param("panelistId") Integer panelistId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+}
@@ -0,0 +1,112 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.PanelDailyRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes to panel_daily_rollup. Every bucket is recomputed from slots and interview_panelist, joined
+ * to interviews to skip deleted ones, with start time ranges on their (panelist_id, start_time) indexes and upserted with ON DUPLICATE KEY
+ * UPDATE, so refreshing a bucket twice or out of order still leaves the right counts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PanelRollupJdbcRepository {
+
+    private static final String REFRESH_BUCKET = """
+            INSERT INTO panel_daily_rollup (panelist_id, rollup_date, slots_created, slots_booked,
+                interviews_assigned, updated_at)
+            SELECT ?, ?, s.created, s.booked, p.assigned, ?
+            FROM (SELECT COUNT(*) AS created,
+                         COALESCE(SUM(CASE WHEN status = 'BOOKED' THEN 1 ELSE 0 END), 0) AS booked
+                  FROM slots
+                  WHERE panelist_id = ? AND start_time >= ? AND start_time < ? AND is_deleted = false) s,
+                 (SELECT COUNT(*) AS assigned
+                  FROM interview_panelist ip JOIN interviews i ON i.interview_id = ip.interview_id
+                  WHERE ip.panelist_id = ? AND ip.start_time >= ? AND ip.start_time < ? AND i.is_deleted = false) p
+            ON DUPLICATE KEY UPDATE slots_created = VALUES(slots_created), slots_booked = VALUES(slots_booked),
+                interviews_assigned = VALUES(interviews_assigned), updated_at = VALUES(updated_at)
+            """;
+
+    private static final String CLEAR = "DELETE FROM panel_daily_rollup";
+
+    private static final String REBUILD_SLOTS = """
+            INSERT INTO panel_daily_rollup (panelist_id, rollup_date, slots_created, slots_booked,
+                interviews_assigned, updated_at)
+            SELECT panelist_id, CAST(start_time AS DATE), COUNT(*),
+                   SUM(CASE WHEN status = 'BOOKED' THEN 1 ELSE 0 END), 0, ?
+            FROM slots
+            WHERE is_deleted = false AND panelist_id IS NOT NULL AND start_time IS NOT NULL
+            GROUP BY panelist_id, CAST(start_time AS DATE)
+            """;
+
+    private static final String REBUILD_INTERVIEWS = """
+            INSERT INTO panel_daily_rollup (panelist_id, rollup_date, slots_created, slots_booked,
+                interviews_assigned, updated_at)
+            SELECT p.panelist_id, CAST(p.start_time AS DATE), 0, 0, COUNT(*), ?
+            FROM interview_panelist p JOIN interviews i ON i.interview_id = p.interview_id
+            WHERE p.panelist_id IS NOT NULL AND p.start_time IS NOT NULL AND i.is_deleted = false
+            GROUP BY p.panelist_id, CAST(p.start_time AS DATE)
+            ON DUPLICATE KEY UPDATE interviews_assigned = VALUES(interviews_assigned), updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recomputes the given buckets in one JDBC batch. A bucket with nothing left in it is kept with
+     * zero counts.
+     *
+     * @param keys panelist and day of each bucket
+     */
+    public void refresh(Collection<PanelDailyRollup.Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<PanelDailyRollup.Key> buckets = new ArrayList<>(keys);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(REFRESH_BUCKET, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PanelDailyRollup.Key key = buckets.get(i);
+                Timestamp from = Timestamp.valueOf(key.getRollupDate().atStartOfDay());
+                Timestamp to = Timestamp.valueOf(key.getRollupDate().plusDays(1).atStartOfDay());
+                ps.setInt(1, key.getPanelistId());
+                ps.setDate(2, Date.valueOf(key.getRollupDate()));
+                ps.setTimestamp(3, now);
+                ps.setInt(4, key.getPanelistId());
+                ps.setTimestamp(5, from);
+                ps.setTimestamp(6, to);
+                ps.setInt(7, key.getPanelistId());
+                ps.setTimestamp(8, from);
+                ps.setTimestamp(9, to);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return buckets.size();
+            }
+        });
+    }
+
+    /**
+     * Replaces every bucket with counts grouped from the source tables. Run it inside a transaction
+     * so readers keep seeing the previous buckets until it commits.
+     */
+    public void rebuild() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(CLEAR);
+        jdbcTemplate.update(REBUILD_SLOTS, now);
+        jdbcTemplate.update(REBUILD_INTERVIEWS, now);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.PanelistResultDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PanelistResultDailyStatsRepository extends JpaRepository<PanelistResultDailyStats, PanelistResultDailyStats.Key> {
+
+    // a range over the (stat_date, panelist_id) primary key
+    @Query("SELECT s FROM PanelistResultDailyStats s WHERE s.statDate >= :from AND s.statDate < :to AND s.interviews > 0")
+    List<PanelistResultDailyStats> findBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s FROM PanelistResultDailyStats s WHERE s.statDate >= :from AND s.statDate < :to " +
+            "AND s.panelistId = :panelistId AND s.interviews > 0")
+    List<PanelistResultDailyStats> findByPanelistBetween(@Param("panelistId") Integer panelistId,
+                                                         @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
+}
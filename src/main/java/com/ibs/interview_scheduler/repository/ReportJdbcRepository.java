@@ -0,0 +1,81 @@
+package com.ibs.interview_scheduler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Forward-only reads for report exports. Rows are handed to the callback as they arrive from a
+ * read-only cursor, so nothing is collected in memory whatever the row count. On MySQL only the
+ * export statement streams row by row ({@link Integer#MIN_VALUE} fetch size), the rest of the app
+ * keeps the driver's default buffered reads; other databases use a fixed fetch size.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportJdbcRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String INTERVIEWS = """
+            SELECT interview_id, candidate_id, hr_id, panelist_ids, start_time, end_time, interview_status,
+                created_at, is_deleted
+            FROM interviews
+            """;
+
+    private static final String SLOTS = """
+            SELECT slot_id, panelist_id, start_time, end_time, status, created_at
+            FROM slots
+            WHERE is_deleted = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     *
+     * @param startDate created at lower bound, ignored unless both bounds are set
+     * @param endDate   created at upper bound
+     * @param handler   called once per row, in interview id order
+     */
+    public void streamInterviews(LocalDateTime startDate, LocalDateTime endDate, RowCallbackHandler handler) {
+        boolean ranged = startDate != null && endDate != null;
+        String sql = INTERVIEWS + (ranged ? "WHERE created_at BETWEEN ? AND ? " : "") + "ORDER BY interview_id";
+        stream(sql, ranged, startDate, endDate, handler);
+    }
+
+    /**
+     *
+     * @param startDate created at lower bound, ignored unless both bounds are set
+     * @param endDate   created at upper bound
+     * @param handler   called once per row, in slot id order
+     */
+    public void streamSlots(LocalDateTime startDate, LocalDateTime endDate, RowCallbackHandler handler) {
+        boolean ranged = startDate != null && endDate != null;
+        String sql = SLOTS + (ranged ? "AND created_at BETWEEN ? AND ? " : "") + "ORDER BY slot_id";
+        stream(sql, ranged, startDate, endDate, handler);
+    }
+
+    private void stream(String sql, boolean ranged, LocalDateTime startDate, LocalDateTime endDate,
+                        RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(isMySql(con) ? Integer.MIN_VALUE : FETCH_SIZE);
+            if (ranged) {
+                ps.setTimestamp(1, Timestamp.valueOf(startDate));
+                ps.setTimestamp(2, Timestamp.valueOf(endDate));
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static boolean isMySql(Connection con) throws SQLException {
+        return "MySQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName());
+    }
+}
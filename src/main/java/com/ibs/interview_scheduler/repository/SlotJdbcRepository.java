@@ -0,0 +1,77 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.Slot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writes for slots. Slot ids are IDENTITY generated, so bulk paths insert here in one
+ * batch and read the generated keys back instead of saving entity by entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SlotJdbcRepository {
+
+    private static final String INSERT_SLOT = """
+            INSERT INTO slots (panelist_id, start_time, end_time, status, is_deleted,
+                created_by, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all slots in one JDBC batch and sets the generated slot ids on them.
+     *
+     * @param slots slots without ids
+     */
+    public void insertAll(List<Slot> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SLOT, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Slot slot = slots.get(i);
+                        ps.setInt(1, slot.getPanelistId());
+                        ps.setTimestamp(2, toTimestamp(slot.getStartTime()));
+                        ps.setTimestamp(3, toTimestamp(slot.getEndTime()));
+                        ps.setString(4, slot.getStatus());
+                        ps.setBoolean(5, Boolean.TRUE.equals(slot.getIsDeleted()));
+                        ps.setString(6, slot.getCreatedBy());
+                        ps.setTimestamp(7, toTimestamp(slot.getCreatedAt()));
+                        ps.setTimestamp(8, toTimestamp(slot.getUpdatedAt()));
+                        ps.setLong(9, slot.getVersion() == null ? 0L : slot.getVersion());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return slots.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < slots.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            slots.get(i).setSlotId(id.intValue());
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
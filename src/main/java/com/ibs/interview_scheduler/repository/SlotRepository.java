@@ -1,12 +1,18 @@
 package com.ibs.interview_scheduler.repository;
 
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
+import com.ibs.interview_scheduler.dtos.projection.IdCount;
+import com.ibs.interview_scheduler.dtos.projection.SlotView;
 import com.ibs.interview_scheduler.entity.Slot;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,8 +28,16 @@ public interface SlotRepository extends JpaRepository<Slot, Integer> {
            \s""")
     List<Slot> findAvailablePanelistIdsInSlot(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
-    @Query("SELECT s FROM Slot s WHERE s.panelistId = :panelistId ORDER BY s.startTime ASC")
-    List<Slot> findActiveSlotsByPanelistId(@Param("panelistId") Integer panelistId);
+    String SLOT_VIEW = "SELECT new com.ibs.interview_scheduler.dtos.projection.SlotView(" +
+            "s.slotId, s.panelistId, s.startTime, s.endTime, s.status) ";
+
+    @Query(SLOT_VIEW + "FROM Slot s WHERE s.status = 'UNBOOKED' " +
+            "AND s.startTime <= :endTime AND s.endTime >= :startTime ORDER BY s.startTime ASC")
+    List<SlotView> findAvailableSlotViewsInRange(@Param("startTime") LocalDateTime startTime,
+                                                 @Param("endTime") LocalDateTime endTime);
+
+    @Query(SLOT_VIEW + "FROM Slot s WHERE s.panelistId = :panelistId ORDER BY s.startTime ASC")
+    List<SlotView> findActiveSlotsByPanelistId(@Param("panelistId") Integer panelistId);
 
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END " +
             "FROM Slot s " +
@@ -33,21 +47,90 @@ public interface SlotRepository extends JpaRepository<Slot, Integer> {
                                   @Param("newStartTime") LocalDateTime newStartTime,
                                   @Param("newEndTime") LocalDateTime newEndTime);
 
+    // start time ranges rather than MONTH()/YEAR(), so idx_slots_panelist_start can be used
     @Query("SELECT COUNT(s) FROM Slot s WHERE s.panelistId = :panelId " +
-            "AND MONTH(s.startTime) = MONTH(CURRENT_DATE) " +
-            "AND YEAR(s.startTime) = YEAR(CURRENT_DATE)")
-    int countTotalSlotsThisMonth(@Param("panelId") Integer panelId);
+            "AND s.startTime >= :from AND s.startTime < :to AND s.isDeleted = false")
+    int countSlotsStartingBetween(@Param("panelId") Integer panelId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(s) FROM Slot s WHERE s.panelistId = :panelId AND s.status = 'BOOKED' " +
+            "AND s.startTime >= :from AND s.startTime < :to AND s.isDeleted = false")
+    int countBookedSlotsStartingBetween(@Param("panelId") Integer panelId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    long countByStatus(String status);
+
+    // served from the leading column of idx_slots_panelist_start
+    @Query("SELECT DISTINCT s.panelistId FROM Slot s WHERE s.panelistId IS NOT NULL")
+    List<Integer> findDistinctPanelistIds();
+
+    @Query("SELECT new com.ibs.interview_scheduler.dtos.projection.GroupCount(s.status, COUNT(s)) " +
+            "FROM Slot s WHERE s.status IS NOT NULL GROUP BY s.status")
+    List<GroupCount> countGroupedByStatus();
+
+    @Query("SELECT new com.ibs.interview_scheduler.dtos.projection.IdCount(s.panelistId, COUNT(s)) " +
+            "FROM Slot s WHERE s.panelistId IS NOT NULL GROUP BY s.panelistId")
+    List<IdCount> countByPanelist();
 
-    @Query("SELECT COUNT(s) FROM Slot s " +
-            "WHERE s.panelistId = :panelId " +
-            "AND s.status = 'BOOKED' " +
-            "AND FUNCTION('MONTH', s.startTime) = FUNCTION('MONTH', CURRENT_DATE) " +
-            "AND FUNCTION('YEAR', s.startTime) = FUNCTION('YEAR', CURRENT_DATE)")
-    int countAppliedSlotsThisMonth(@Param("panelId") Integer panelId);
+    @Query("SELECT s FROM Slot s WHERE s.startTime < :to AND s.endTime > :from")
+    List<Slot> findAllOverlapping(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT s FROM Slot s WHERE s.panelistId = :panelistId " +
+            "AND s.startTime < :to AND s.endTime > :from ORDER BY s.startTime ASC")
+    List<Slot> findOverlappingSlots(@Param("panelistId") Integer panelistId,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    @Query("SELECT s FROM Slot s WHERE s.panelistId IN :panelistIds " +
+            "AND s.startTime < :to AND s.endTime > :from")
+    List<Slot> findOverlappingSlotsForPanelists(@Param("panelistIds") Collection<Integer> panelistIds,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    @Query("SELECT s FROM Slot s WHERE s.panelistId IN :panelistIds AND s.status = 'UNBOOKED' " +
+            "AND s.startTime < :to AND s.endTime > :from ORDER BY s.startTime ASC")
+    List<Slot> findFreeSlotsOverlapping(@Param("panelistIds") Collection<Integer> panelistIds,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
 
     List<Slot> findByPanelistIdInAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual(
             List<Integer> panelistIds,
             LocalDateTime startTime,
             LocalDateTime endTime
     );
+
+    // Conditional update, only slots still in the expected status are moved
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Slot s SET s.status = :to, s.version = s.version + 1, " +
+            "s.updatedBy = :updatedBy, s.updatedAt = :updatedAt " +
+            "WHERE s.slotId IN :slotIds AND s.status = :from AND s.isDeleted = false")
+    int transitionStatus(@Param("slotIds") Collection<Integer> slotIds,
+                         @Param("from") String from,
+                         @Param("to") String to,
+                         @Param("updatedBy") String updatedBy,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Slot s SET s.isDeleted = true, s.version = s.version + 1, " +
+            "s.updatedBy = :updatedBy, s.updatedAt = :updatedAt " +
+            "WHERE s.slotId IN :slotIds AND s.isDeleted = false")
+    int softDeleteBySlotIds(@Param("slotIds") Collection<Integer> slotIds,
+                            @Param("updatedBy") String updatedBy,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT s FROM Slot s WHERE (:panelistId IS NULL OR s.panelistId = :panelistId) " +
+            "AND (:status IS NULL OR s.status = :status) " +
+            "AND (:from IS NULL OR s.startTime >= :from) " +
+            "AND (s.startTime > :afterStart OR (s.startTime = :afterStart AND s.slotId > :afterId)) " +
+            "ORDER BY s.startTime ASC, s.slotId ASC")
+    List<Slot> findPageAfter(@Param("panelistId") Integer panelistId,
+                             @Param("status") String status,
+                             @Param("from") LocalDateTime from,
+                             @Param("afterStart") LocalDateTime afterStart,
+                             @Param("afterId") Integer afterId,
+                             Pageable pageable);
+
+    List<Slot> findByStatusOrderByStartTimeAsc(String status);
 }
@@ -0,0 +1,114 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.responseDto.InterviewTrendsResponseDto;
+import com.ibs.interview_scheduler.entity.InterviewTypeDailyStats;
+import com.ibs.interview_scheduler.entity.PanelistResultDailyStats;
+import com.ibs.interview_scheduler.enums.TrendGranularity;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.InterviewTypeDailyStatsRepository;
+import com.ibs.interview_scheduler.repository.PanelistResultDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsService {
+
+    private final InterviewStatsRollup interviewStatsRollup;
+    private final InterviewTypeDailyStatsRepository typeStatsRepository;
+    private final PanelistResultDailyStatsRepository panelistStatsRepository;
+    private final UserCacheService userCacheService;
+
+    /**
+     * Reads the daily buckets of the range, one primary key range read per table, and sums them into
+     * days, weeks or months. A year is at most a few hundred rows per interview type and per active
+     * panelist, so no interview row is touched.
+     *
+     * @param from        first day, inclusive
+     * @param to          last day, inclusive
+     * @param granularity day, week or month
+     * @param panelistId  only this panelist's results when set
+     * @return interviews per period and type, and result rates per period and panelist
+     */
+    public InterviewTrendsResponseDto getInterviewTrends(LocalDate from, LocalDate to, String granularity, Integer panelistId) {
+        log.info("Fetching interview trends from {} to {} by {}", from, to, granularity);
+        TrendGranularity period = TrendGranularity.from(granularity);
+        if (to.isBefore(from)) {
+            throw new CustomException("The end date must not be before the start date.", HttpStatus.BAD_REQUEST);
+        }
+        if (!interviewStatsRollup.isReady()) {
+            throw new CustomException("Interview analytics are still being prepared, try again shortly.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        try {
+            LocalDate end = to.plusDays(1);
+
+            Map<LocalDate, Map<String, Long>> byType = new TreeMap<>();
+            for (InterviewTypeDailyStats row : typeStatsRepository.findBetween(from, end)) {
+                byType.computeIfAbsent(period.periodStart(row.getStatDate()), k -> new TreeMap<>())
+                        .merge(row.getInterviewType(), (long) row.getInterviews(), Long::sum);
+            }
+            List<InterviewTrendsResponseDto.TypeCountDto> interviewsByType = new ArrayList<>();
+            byType.forEach((periodStart, counts) -> counts.forEach((type, interviews) ->
+                    interviewsByType.add(new InterviewTrendsResponseDto.TypeCountDto(periodStart, type, interviews))));
+
+            List<PanelistResultDailyStats> panelistRows = panelistId == null
+                    ? panelistStatsRepository.findBetween(from, end)
+                    : panelistStatsRepository.findByPanelistBetween(panelistId, from, end);
+            // interviews, selected, rejected and on hold per period and panelist
+            Map<LocalDate, Map<Integer, long[]>> byPanelist = new TreeMap<>();
+            for (PanelistResultDailyStats row : panelistRows) {
+                long[] sums = byPanelist.computeIfAbsent(period.periodStart(row.getStatDate()), k -> new TreeMap<>())
+                        .computeIfAbsent(row.getPanelistId(), k -> new long[4]);
+                sums[0] += row.getInterviews();
+                sums[1] += row.getSelected();
+                sums[2] += row.getRejected();
+                sums[3] += row.getOnHold();
+            }
+            UserDirectory directory = byPanelist.isEmpty() ? UserDirectory.EMPTY : userCacheService.getDirectory();
+            List<InterviewTrendsResponseDto.PanelistResultDto> panelistResults = new ArrayList<>();
+            byPanelist.forEach((periodStart, panelists) -> panelists.forEach((id, sums) -> {
+                long decided = sums[1] + sums[2] + sums[3];
+                panelistResults.add(InterviewTrendsResponseDto.PanelistResultDto.builder()
+                        .periodStart(periodStart)
+                        .panelistId(id)
+                        .panelistName(directory.name(id))
+                        .interviews(sums[0])
+                        .selected(sums[1])
+                        .rejected(sums[2])
+                        .onHold(sums[3])
+                        .selectedRate(rate(sums[1], decided))
+                        .rejectedRate(rate(sums[2], decided))
+                        .onHoldRate(rate(sums[3], decided))
+                        .build());
+            }));
+
+            return InterviewTrendsResponseDto.builder()
+                    .granularity(period.name())
+                    .from(from)
+                    .to(to)
+                    .interviewsByType(interviewsByType)
+                    .panelistResults(panelistResults)
+                    .build();
+        } catch (Exception e) {
+            log.error("Exception occurred at getInterviewTrends, {}", e.getMessage());
+            throw new CustomException("Unable to fetch interview trends due to a server error.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+}
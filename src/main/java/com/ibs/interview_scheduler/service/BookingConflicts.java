@@ -0,0 +1,96 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.IntervalSet;
+import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Existing bookings of a set of candidates and panelists, checked with the conflict rule every
+ * booking path shares: a new interview conflicts when its [start, end) overlaps an active interview
+ * of its candidate or of any of its panelists. The availability index answers with the same
+ * half-open overlap, so an early rejection from it always agrees with the database.
+ */
+final class BookingConflicts {
+
+    static final String CANDIDATE_BUSY = "Candidate already has an interview scheduled for this time.";
+
+    private final Map<Integer, IntervalSet> panelistBookings = new HashMap<>();
+    private final Map<Integer, IntervalSet> candidateBookings = new HashMap<>();
+
+    record Conflict(String message, HttpStatus status) {
+    }
+
+    private BookingConflicts() {
+    }
+
+    /**
+     * Loads the active bookings overlapping [from, to) with one interview_panelist query for all
+     * panelists and one interviews query for all candidates.
+     *
+     * @return bookings of the given people inside the window
+     */
+    static BookingConflicts load(InterviewRepository interviewRepository,
+                                 InterviewPanelistRepository interviewPanelistRepository,
+                                 Collection<Integer> panelistIds, Collection<Integer> candidateIds,
+                                 LocalDateTime from, LocalDateTime to) {
+        BookingConflicts conflicts = new BookingConflicts();
+        for (InterviewPanelist row : interviewPanelistRepository.findActiveOverlapping(panelistIds, from, to)) {
+            conflicts.panelistBookings.computeIfAbsent(row.getPanelistId(), k -> new IntervalSet())
+                    .add(row.getInterviewId(), row.getStartTime(), row.getEndTime());
+        }
+        for (Interview existing : interviewRepository.findActiveCandidateInterviewsOverlapping(candidateIds, from, to)) {
+            conflicts.candidateBookings.computeIfAbsent(existing.getCandidateId(), k -> new IntervalSet())
+                    .add(existing.getInterviewId(), existing.getStartTime(), existing.getEndTime());
+        }
+        return conflicts;
+    }
+
+    /**
+     *
+     * @param request booking to check
+     * @return the first conflict, candidate before panelists, or null when the booking is free
+     */
+    Conflict find(InterviewRequestDto request) {
+        LocalDateTime start = request.getStartTime();
+        LocalDateTime end = request.getEndTime();
+        IntervalSet candidate = candidateBookings.get(request.getCandidateId());
+        if (candidate != null && candidate.overlaps(start, end)) {
+            return new Conflict(CANDIDATE_BUSY, HttpStatus.CONFLICT);
+        }
+        for (Integer panelistId : request.getPanelistIds()) {
+            IntervalSet panelist = panelistBookings.get(panelistId);
+            if (panelist != null && panelist.overlaps(start, end)) {
+                return new Conflict(panelistBusy(panelistId), HttpStatus.BAD_REQUEST);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Books the request into these bookings, so later requests of the same batch conflict with it.
+     *
+     * @param id      id to book it under, must not collide with stored interview ids
+     * @param request accepted booking
+     */
+    void claim(Integer id, InterviewRequestDto request) {
+        candidateBookings.computeIfAbsent(request.getCandidateId(), k -> new IntervalSet())
+                .add(id, request.getStartTime(), request.getEndTime());
+        for (Integer panelistId : request.getPanelistIds()) {
+            panelistBookings.computeIfAbsent(panelistId, k -> new IntervalSet())
+                    .add(id, request.getStartTime(), request.getEndTime());
+        }
+    }
+
+    static String panelistBusy(Integer panelistId) {
+        return "Panelist (ID: " + panelistId + ") is not available for this slot.";
+    }
+}
@@ -0,0 +1,130 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.context.UserContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent sub-queries of a dashboard side by side, one virtual thread per branch, so
+ * a dashboard takes about as long as its slowest query rather than the sum of them. The caller's
+ * {@link UserContext} is copied onto every branch. Each branch has {@code dashboard.branch-timeout}
+ * to finish; one that fails or runs out of time yields its fallback instead of failing the whole
+ * dashboard, is reported by {@link Fork#degraded()} and is counted in {@code dashboard.branch.degraded}.
+ * A timed out branch is not interrupted, its query runs to completion and the result is dropped.
+ * <p>
+ * Most branches hold a pooled connection while they run, so the branches of all dashboards share
+ * {@code dashboard.max-concurrent-branches} permits, kept well below the connection pool size so
+ * that a burst of dashboards cannot starve every other endpoint. A branch holds its permit until
+ * its query returns, timed out or not, and one still waiting for a permit at its deadline falls
+ * back without querying.
+ */
+@Component
+@Slf4j
+public class DashboardFanOut implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Duration branchTimeout;
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DashboardFanOut(@Value("${dashboard.branch-timeout:PT2S}") Duration branchTimeout,
+                           @Value("${dashboard.max-concurrent-branches:4}") int maxConcurrentBranches,
+                           MeterRegistry meterRegistry) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), branchTimeout, maxConcurrentBranches, meterRegistry);
+    }
+
+    DashboardFanOut(ExecutorService executor, Duration branchTimeout, int maxConcurrentBranches, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.branchTimeout = branchTimeout;
+        this.permits = new Semaphore(Math.max(1, maxConcurrentBranches), true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     *
+     * @return new set of branches for one dashboard request
+     */
+    public Fork fork() {
+        return new Fork();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Branches of one dashboard request. Wait for them with {@link #join(CompletableFuture[])}, which
+     * never throws for a failed branch since each one has already fallen back.
+     */
+    public final class Fork {
+
+        private final Set<String> degraded = ConcurrentHashMap.newKeySet();
+
+        /**
+         *
+         * @param name     branch name, reported when the branch degrades
+         * @param task     query to run
+         * @param fallback value used when the query fails or times out
+         * @return future completed with the query result or the fallback
+         */
+        public <T> CompletableFuture<T> branch(String name, Supplier<T> task, T fallback) {
+            String userName = UserContext.getUserName();
+            String userRole = UserContext.getUserRole();
+            long deadline = System.nanoTime() + branchTimeout.toNanos();
+            return CompletableFuture.supplyAsync(() -> {
+                        acquire(name, deadline);
+                        UserContext.setUserName(userName);
+                        UserContext.setUserRole(userRole);
+                        try {
+                            return task.get();
+                        } finally {
+                            UserContext.clear();
+                            permits.release();
+                        }
+                    }, executor)
+                    .orTimeout(branchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        String reason = cause instanceof TimeoutException ? "timeout" : "error";
+                        log.warn("Dashboard branch {} degraded ({}): {}", name, reason, cause.getMessage());
+                        meterRegistry.counter("dashboard.branch.degraded", "branch", name, "reason", reason).increment();
+                        degraded.add(name);
+                        return fallback;
+                    });
+        }
+
+        private void acquire(String name, long deadline) {
+            try {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new CompletionException(new TimeoutException("no free branch permit for " + name));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }
+
+        public void join(CompletableFuture<?>... branches) {
+            CompletableFuture.allOf(branches).join();
+        }
+
+        /**
+         *
+         * @return names of the branches that fell back, sorted
+         */
+        public List<String> degraded() {
+            return degraded.stream().sorted().toList();
+        }
+    }
+}
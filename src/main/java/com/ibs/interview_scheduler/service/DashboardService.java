@@ -1,17 +1,30 @@
 package com.ibs.interview_scheduler.service;
 
-import com.ibs.interview_scheduler.context.UserContext;
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
 import com.ibs.interview_scheduler.dtos.responseDto.*;
+import com.ibs.interview_scheduler.entity.Interview;
 import com.ibs.interview_scheduler.enums.InterviewResult;
-import com.ibs.interview_scheduler.feign.UserClient;
+import com.ibs.interview_scheduler.enums.InterviewStatus;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,53 +32,71 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DashboardService {
 
-    private final InterviewService interviewService;
-    private final UserClient userClient;
-    private final SlotService slotService;
+    private static final int PANEL_ROLE_ID = 3;
+    private static final int CANDIDATE_ROLE_ID = 4;
+
+    private final UserCacheService userCacheService;
+    private final InterviewRepository interviewRepository;
+    private final SlotRepository slotRepository;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardFanOut dashboardFanOut;
+    private final PanelRollup panelRollup;
 
     /**
+     * Totals and coverage come from {@link DashboardCounters} once they are loaded, and from SQL
+     * counts and distinct id lists before that. Only the scheduled count and the upcoming list, which
+     * depend on the current time, are always queried, both as start time ranges.
      *
      * @return HrDashboardResponseDto
      */
     public HrDashboardResponseDto getHrDashboardSummary() {
         log.info("Creating HR dashboard");
         try {
-            List<UserResponseDTO> userList = userClient.getAllUsers();
-            List<InterviewResponseDto> interviews = interviewService.getAllInterviews();
-            List<SlotResponseDto> slotList = slotService.getAllSlots();
+            UserDirectory directory = userCacheService.getDirectory();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime windowStart = now.minusDays(1);
+            LocalDateTime windowEnd = now.plusDays(4);
 
             // Candidates details.
-            long totalCandidates = userList.stream().filter(user -> user.getRoleId() == 4).count();
-            List<Integer> candidateIds = userList.stream()
-                    .filter(user -> user.getRoleId() == 4).map(UserResponseDTO::getUserId).toList();
-            long assignedCount = candidateIds.stream().
-                    filter(c -> interviews.stream().anyMatch(i -> Objects.equals(i.getCandidateId(), c))).count();
+            boolean coverageLoaded = dashboardCounters.coverageLoaded();
+            List<Integer> candidateIds = directory.idsByRoleId(CANDIDATE_ROLE_ID);
+            Predicate<Integer> hasInterviews = coverageLoaded ? dashboardCounters::hasInterviews
+                    : new HashSet<>(interviewRepository.findDistinctCandidateIds())::contains;
+            long totalCandidates = candidateIds.size();
+            long assignedCount = candidateIds.stream().filter(hasInterviews).count();
             long pendingCount = totalCandidates - assignedCount;
 
             // slot details
-            long scheduled = interviews.stream().filter(i -> "CONFIRMED".equals(i.getInterviewStatus()))
-                    .filter(i -> i.getStartTime().
-                            isAfter(LocalDateTime.now().minusDays(1)) && i.getStartTime().isBefore(LocalDateTime.now().plusDays(4)))
-                    .count();
+            long scheduled = interviewRepository.countByStatusStartingBetween(InterviewStatus.CONFIRMED.toString(),
+                    windowStart, windowEnd);
+            Optional<DashboardCounters.Totals> totals = dashboardCounters.totals();
+            long availableSlots = totals.isPresent() ? totals.get().availableSlots()
+                    : slotRepository.countByStatus(SlotStatus.UNBOOKED.toString());
 
-            long availableSlots = slotList.stream().filter(slot -> Objects.equals(slot.getStatus(), "UNBOOKED")).count();
             // Panel details
-            List<Integer> panelIds = userList.stream().filter(usr -> usr.getRoleId() == 3).map(UserResponseDTO::getUserId).toList();
-            long pendingPanelist = panelIds.stream().filter(p -> slotList.stream()
-                    .noneMatch(s -> Objects.equals(s.getPanelistId(), p))).count();
+            Predicate<Integer> hasSlots = coverageLoaded ? dashboardCounters::hasSlots
+                    : new HashSet<>(slotRepository.findDistinctPanelistIds())::contains;
+            long pendingPanelist = directory.idsByRoleId(PANEL_ROLE_ID).stream()
+                    .filter(hasSlots.negate()).count();
 
             // Upcoming interviews (next 3 days)
-            Map<Integer, String> candidateNameMap = userList.stream()
-                    .collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
-
-            List<UpcomingInterviewResponseDto> upcoming = interviews.stream().filter(i ->i.getIsDeleted() ==  false)
-                    .filter(i -> i.getStartTime().
-                            isAfter(LocalDateTime.now().minusDays(1)) && i.getStartTime().isBefore(LocalDateTime.now().plusDays(4))).
-                    map(i -> new UpcomingInterviewResponseDto(candidateNameMap.get(i.getCandidateId()), i.getInterviewType(),
-                            i.getStartTime(), i.getMode())).toList();
-
-            long selected = interviews.stream().filter(i -> InterviewResult.SELECTED.toString().equals(i.getResult())).count();
-            long rejected = interviews.stream().filter(i -> InterviewResult.REJECTED.toString().equals(i.getResult())).count();
+            List<UpcomingInterviewResponseDto> upcoming = interviewRepository.findUpcomingViews(windowStart, windowEnd)
+                    .stream()
+                    .map(i -> new UpcomingInterviewResponseDto(directory.name(i.candidateId()), i.interviewType(),
+                            i.startTime(), i.mode()))
+                    .toList();
+
+            long selected;
+            long rejected;
+            if (totals.isPresent()) {
+                selected = totals.get().selected();
+                rejected = totals.get().rejected();
+            } else {
+                Map<String, Long> results = interviewRepository.countByResult().stream()
+                        .collect(Collectors.toMap(GroupCount::key, GroupCount::count));
+                selected = results.getOrDefault(InterviewResult.SELECTED.toString(), 0L);
+                rejected = results.getOrDefault(InterviewResult.REJECTED.toString(), 0L);
+            }
 
             return HrDashboardResponseDto.builder().totalCandidates(totalCandidates).assigned(assignedCount).pending(pendingCount)
                     .scheduledInterviews(scheduled).availableSlots(availableSlots).pendingPanelists(pendingPanelist)
@@ -78,25 +109,75 @@ public class DashboardService {
     }
 
     /**
+     * Slot and assignment totals are one read of {@link PanelRollup} once it is ready, and start time
+     * range counts before that. Totals, the upcoming list and the user directory are independent, so
+     * each runs as its own {@link DashboardFanOut} branch. A branch that fails or times out leaves
+     * its figures at zero or its list empty and is named in {@code degraded}, the rest of the
+     * dashboard is still returned.
      *
      * @return PanelDashboardResponseDto
      */
     public PanelDashboardResponseDto getPanelDashboard(Integer panelId) {
         log.info("Fetching panel dashboard details,getPanelDashboard");
         try {
-            SlotSummaryResponseDto slotSummaryResponseDto = slotService.getSlotSummary(panelId);
-            // Fetch interview summary
-            InterviewSummaryResponseDto interviewSummaryResponseDto = interviewService.getInterviewSummary(String.valueOf(panelId));
+            LocalDateTime now = LocalDateTime.now();
+            DashboardFanOut.Fork fork = dashboardFanOut.fork();
+            CompletableFuture<PanelRollup.Totals> totals = panelRollup.isReady()
+                    ? fork.branch("panelRollup", () -> panelRollup.totals(panelId, now.toLocalDate()), PanelRollup.Totals.NONE)
+                    : countPanelTotals(fork, panelId, now.toLocalDate());
+            CompletableFuture<List<Interview>> upcoming = fork.branch("upcomingInterviews",
+                    () -> interviewRepository.findUpcomingInterviewsForWeek(panelId, now, now.plusDays(7)), List.of());
+            CompletableFuture<UserDirectory> directory = fork.branch("candidateNames",
+                    userCacheService::getDirectory, UserDirectory.EMPTY);
+            fork.join(totals, upcoming, directory);
+
+            PanelRollup.Totals panelTotals = totals.join();
+            SlotSummaryResponseDto slotSummaryResponseDto = SlotSummaryResponseDto.builder()
+                    .totalSlotsThisMonth((int) panelTotals.slotsThisMonth())
+                    .appliedSlots((int) panelTotals.bookedThisMonth())
+                    .weeklyPlanSlots((int) panelTotals.slotsThisWeek())
+                    .build();
+            UserDirectory names = directory.join();
+            InterviewSummaryResponseDto interviewSummaryResponseDto = InterviewSummaryResponseDto.builder()
+                    .totalAssignedThisMonth((int) panelTotals.assignedThisMonth())
+                    .upcomingInterviews(upcoming.join().stream()
+                            .map(i -> UpcomingInterviewResponseDto.builder()
+                                    .candidateName(names.name(i.getCandidateId()))
+                                    .role(i.getInterviewType())
+                                    .interviewDate(i.getStartTime())
+                                    .mode(i.getMode())
+                                    .build())
+                            .toList())
+                    .build();
             // Build and return the combined dashboard response
             return PanelDashboardResponseDto.builder()
                     .slotSummaryResponseDto(slotSummaryResponseDto)
                     .interviewSummaryResponseDto(interviewSummaryResponseDto)
+                    .degraded(fork.degraded())
                     .build();
         } catch (Exception e) {
             log.error("Exception occurred in getPanelDashboard");
             throw new RuntimeException(e);
         }
     }
+
+    // the counts the rollup replaces, each one a start time range on a (panelist_id, start_time) index
+    private CompletableFuture<PanelRollup.Totals> countPanelTotals(DashboardFanOut.Fork fork, Integer panelId, LocalDate today) {
+        LocalDateTime monthStart = today.withDayOfMonth(1).atStartOfDay();
+        LocalDateTime monthEnd = monthStart.plusMonths(1);
+        LocalDateTime weekStart = today.with(DayOfWeek.MONDAY).atStartOfDay();
+        CompletableFuture<Integer> slots = fork.branch("totalSlotsThisMonth",
+                () -> slotRepository.countSlotsStartingBetween(panelId, monthStart, monthEnd), 0);
+        CompletableFuture<Integer> booked = fork.branch("appliedSlots",
+                () -> slotRepository.countBookedSlotsStartingBetween(panelId, monthStart, monthEnd), 0);
+        CompletableFuture<Integer> weekly = fork.branch("weeklyPlanSlots",
+                () -> slotRepository.countSlotsStartingBetween(panelId, weekStart, weekStart.plusWeeks(1)), 0);
+        CompletableFuture<Integer> assigned = fork.branch("totalAssignedThisMonth",
+                () -> interviewRepository.countAssignedInterviewsStartingBetween(panelId, monthStart, monthEnd), 0);
+        return CompletableFuture.allOf(slots, booked, weekly, assigned)
+                .thenApply(ignored -> new PanelRollup.Totals(slots.join(), booked.join(), weekly.join(), assigned.join()));
+    }
+
     /**
      *
      * @return AdminDashboardResponseDto
@@ -104,24 +185,19 @@ public class DashboardService {
     public AdminDashboardResponseDto getAdminDashboardSummary() {
         log.info("Fetching admin dashboard details,getAdminDashboardSummary");
         try {
-            List<UserResponseDTO> userList = userClient.getAllUsers();
-            long hrActive = userList.stream().filter(u -> u.getRoleName().equals("HR")).filter(UserResponseDTO::isActive).count();
-            long hrInactive = userList.stream().filter(u -> u.getRoleName().equals("HR")).filter(u -> !u.isActive()).count();
-
-            long panelActive = userList.stream().filter(u -> u.getRoleName().equals("PANEL")).filter(UserResponseDTO::isActive).count();
-            long panelInactive = userList.stream().filter(u -> u.getRoleName().equals("PANEL")).filter(u -> !u.isActive()).count();
-
-            long candidateActive = userList.stream().filter(u -> u.getRoleName().equals("CANDIDATE")).filter(UserResponseDTO::isActive).count();
-            long candidateInactive = userList.stream().filter(u -> u.getRoleName().equals("CANDIDATE")).filter(u -> !u.isActive()).count();
-
+            UserDirectory directory = userCacheService.getDirectory();
             AdminDashboardResponseDto response = new AdminDashboardResponseDto();
-            response.setHrUsers(new AdminDashboardResponseDto.CountDto(hrActive, hrInactive));
-            response.setPanelists(new AdminDashboardResponseDto.CountDto(panelActive, panelInactive));
-            response.setCandidates(new AdminDashboardResponseDto.CountDto(candidateActive, candidateInactive));
+            response.setHrUsers(roleCount(directory, "HR"));
+            response.setPanelists(roleCount(directory, "PANEL"));
+            response.setCandidates(roleCount(directory, "CANDIDATE"));
             return response;
         } catch (Exception e) {
             log.error("Error occurred at getAdminDashboardSummary");
             throw new RuntimeException(e);
         }
     }
+
+    private AdminDashboardResponseDto.CountDto roleCount(UserDirectory directory, String roleName) {
+        return new AdminDashboardResponseDto.CountDto(directory.activeCount(roleName), directory.inactiveCount(roleName));
+    }
 }
@@ -0,0 +1,224 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.AvailabilityIndex;
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.context.UserContext;
+import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.BatchInterviewItemResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.BatchInterviewResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.enums.BatchItemStatus;
+import com.ibs.interview_scheduler.enums.EventType;
+import com.ibs.interview_scheduler.enums.InterviewResult;
+import com.ibs.interview_scheduler.enums.InterviewStatus;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.InterviewJdbcRepository;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Books many interviews in one request. The whole batch is checked against existing bookings with one
+ * range query for all panelists and one for all candidates, conflicts inside the batch are found with
+ * in-memory interval sets, accepted interviews are written with JDBC batching and the matching slots
+ * are reserved with one conditional update. A slot lost to a concurrent booking fails the whole batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewBatchService {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final InterviewRepository interviewRepository;
+    private final InterviewPanelistRepository interviewPanelistRepository;
+    private final InterviewJdbcRepository interviewJdbcRepository;
+    private final SlotService slotService;
+    private final InterviewService interviewService;
+    private final AvailabilityIndex availabilityIndex;
+    private final DashboardCounters dashboardCounters;
+    private final PanelRollup panelRollup;
+    private final InterviewStatsRollup interviewStatsRollup;
+
+    /**
+     *
+     * @param requests interviews to book
+     * @return per item outcome, in request order
+     */
+    @Transactional
+    public BatchInterviewResponseDto createInterviews(List<InterviewRequestDto> requests) {
+        log.info("Creating batch of {} interviews", requests.size());
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new CustomException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " interviews.", HttpStatus.BAD_REQUEST);
+        }
+        BatchInterviewItemResponseDto[] results = new BatchInterviewItemResponseDto[requests.size()];
+
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = failed(i, requests.get(i), error);
+            } else {
+                valid.add(i);
+            }
+        }
+        valid.sort(Comparator.comparing((Integer i) -> requests.get(i).getStartTime()).thenComparing(i -> i));
+
+        List<Integer> accepted = valid.isEmpty() ? List.of() : detectConflicts(requests, valid, results);
+        List<Interview> interviews = accepted.stream().map(i -> toInterview(requests.get(i))).toList();
+        if (!interviews.isEmpty()) {
+            persist(interviews);
+            bookSlots(interviews);
+        }
+        for (int k = 0; k < accepted.size(); k++) {
+            int index = accepted.get(k);
+            Interview saved = interviews.get(k);
+            results[index] = BatchInterviewItemResponseDto.builder()
+                    .index(index)
+                    .status(BatchItemStatus.CREATED.toString())
+                    .interviewId(saved.getInterviewId())
+                    .candidateId(saved.getCandidateId())
+                    .startTime(saved.getStartTime())
+                    .build();
+        }
+        if (!interviews.isEmpty()) {
+            interviewService.publishNotifications(interviews, EventType.INTERVIEWCREATED);
+        }
+        log.info("Batch booking finished, {} created, {} failed", accepted.size(), requests.size() - accepted.size());
+        return BatchInterviewResponseDto.builder()
+                .total(requests.size())
+                .succeeded(accepted.size())
+                .failed(requests.size() - accepted.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private String validate(InterviewRequestDto request) {
+        if (request.getCandidateId() == null) {
+            return "Candidate is required.";
+        }
+        if (request.getPanelistIds() == null || request.getPanelistIds().isEmpty()) {
+            return "At least one panelist is required.";
+        }
+        if (request.getStartTime() == null || request.getEndTime() == null
+                || !request.getEndTime().isAfter(request.getStartTime())) {
+            return "Interview end time must be after start time.";
+        }
+        return null;
+    }
+
+    /**
+     * Loads the existing bookings inside the batch window, then walks the batch in start order and
+     * claims each interview's interval. Uses the same {@link BookingConflicts} rule as a single booking.
+     *
+     * @return indexes of the accepted requests, in start order
+     */
+    private List<Integer> detectConflicts(List<InterviewRequestDto> requests, List<Integer> valid,
+                                          BatchInterviewItemResponseDto[] results) {
+        LocalDateTime from = valid.stream().map(i -> requests.get(i).getStartTime()).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = valid.stream().map(i -> requests.get(i).getEndTime()).max(Comparator.naturalOrder()).orElseThrow();
+        Set<Integer> panelistIds = new HashSet<>();
+        Set<Integer> candidateIds = new HashSet<>();
+        for (Integer i : valid) {
+            panelistIds.addAll(requests.get(i).getPanelistIds());
+            candidateIds.add(requests.get(i).getCandidateId());
+        }
+
+        BookingConflicts bookings = BookingConflicts.load(interviewRepository, interviewPanelistRepository,
+                panelistIds, candidateIds, from, to);
+
+        List<Integer> accepted = new ArrayList<>();
+        for (Integer i : valid) {
+            InterviewRequestDto request = requests.get(i);
+            BookingConflicts.Conflict conflict = bookings.find(request);
+            if (conflict != null) {
+                results[i] = failed(i, request, conflict.message());
+                continue;
+            }
+            // Batch items have no id yet, negative indexes keep them apart from stored interview ids
+            bookings.claim(-(i + 1), request);
+            accepted.add(i);
+        }
+        return accepted;
+    }
+
+    private void persist(List<Interview> interviews) {
+        interviewJdbcRepository.insertAll(interviews);
+        List<InterviewPanelist> panelistRows = interviews.stream()
+                .flatMap(interview -> PanelistIds.toPanelistRows(interview).stream())
+                .toList();
+        interviewJdbcRepository.insertPanelists(panelistRows);
+        interviews.forEach(availabilityIndex::put);
+        dashboardCounters.interviewsAdded(interviews);
+        panelRollup.panelistsChanged(panelistRows);
+        interviewStatsRollup.interviewsChanged(interviews);
+    }
+
+    /**
+     * Loads the slots of every panelist in the batch window once and reserves the UNBOOKED ones covered
+     * by an accepted interview with one conditional update.
+     */
+    private void bookSlots(List<Interview> interviews) {
+        Set<Integer> panelistIds = new HashSet<>();
+        interviews.forEach(interview -> panelistIds.addAll(PanelistIds.parse(interview.getPanelistIds())));
+        LocalDateTime from = interviews.stream().map(Interview::getStartTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = interviews.stream().map(Interview::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<Integer, List<SlotResponseDto>> slotsByPanelist = new HashMap<>();
+        for (SlotResponseDto slot : slotService.getSlotsByPanelIdStartTimeEndTime(new ArrayList<>(panelistIds), from, to)) {
+            slotsByPanelist.computeIfAbsent(slot.getPanelistId(), k -> new ArrayList<>()).add(slot);
+        }
+        Set<Integer> slotIds = new LinkedHashSet<>();
+        for (Interview interview : interviews) {
+            for (Integer panelistId : PanelistIds.parse(interview.getPanelistIds())) {
+                slotsByPanelist.getOrDefault(panelistId, List.of()).stream()
+                        .filter(slot -> SlotStatus.UNBOOKED.toString().equals(slot.getStatus()))
+                        .filter(slot -> !slot.getStartTime().isBefore(interview.getStartTime())
+                                && !slot.getEndTime().isAfter(interview.getEndTime()))
+                        .forEach(slot -> slotIds.add(slot.getSlotId()));
+            }
+        }
+        int reserved = slotService.reserveSlots(slotIds);
+        log.info("Booked {} slots for {} interviews", reserved, interviews.size());
+    }
+
+    private Interview toInterview(InterviewRequestDto request) {
+        return Interview.builder()
+                .candidateId(request.getCandidateId())
+                .slotId(request.getSlotId())
+                .hrId(request.getHrId())
+                .interviewType(request.getInterviewType())
+                .result(InterviewResult.PENDING.toString())
+                .interviewStatus(InterviewStatus.CONFIRMED.toString())
+                .panelistIds(PanelistIds.join(request.getPanelistIds()))
+                .isDeleted(false)
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .createdAt(LocalDateTime.now())
+                .createdBy(UserContext.getUserName())
+                .build();
+    }
+
+    private BatchInterviewItemResponseDto failed(int index, InterviewRequestDto request, String message) {
+        return BatchInterviewItemResponseDto.builder()
+                .index(index)
+                .status(BatchItemStatus.FAILED.toString())
+                .candidateId(request.getCandidateId())
+                .startTime(request.getStartTime())
+                .message(message)
+                .build();
+    }
+}
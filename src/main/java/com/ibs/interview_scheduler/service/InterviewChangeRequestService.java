@@ -7,6 +7,7 @@ import com.ibs.interview_scheduler.dtos.responseDto.InterviewResponseDto;
 import com.ibs.interview_scheduler.entity.InterviewChangeRequest;
 import com.ibs.interview_scheduler.enums.RequestStatus;
 import com.ibs.interview_scheduler.repository.InterviewChangeRequestRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,8 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,7 +41,7 @@ public class InterviewChangeRequestService {
                 .build();
 
         InterviewChangeRequest saved = changeRequestRepository.save(entity);
-        return mapToResponseDto(saved);
+        return mapToResponseDto(saved, interview);
     }
 
     /**
@@ -46,10 +49,7 @@ public class InterviewChangeRequestService {
      * @return List<InterviewChangeRequestResponseDto>
      */
     public List<InterviewChangeRequestResponseDto> getPendingRequests() {
-        return changeRequestRepository.findByStatus("PENDING")
-                .stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return toResponses(changeRequestRepository.findByStatus("PENDING"));
     }
 
     /**
@@ -58,10 +58,7 @@ public class InterviewChangeRequestService {
      * @return List<InterviewChangeRequestResponseDto>
      */
     public List<InterviewChangeRequestResponseDto> getPendingRequestsByPanelId(Integer panelId) {
-        return changeRequestRepository.findByPanelId(panelId)
-                .stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return toResponses(changeRequestRepository.findByPanelId(panelId));
     }
 
     /**
@@ -88,17 +85,35 @@ public class InterviewChangeRequestService {
         }
 
         InterviewChangeRequest updated = changeRequestRepository.save(req);
-        return mapToResponseDto(updated);
+        return toResponses(List.of(updated)).get(0);
     }
 
-    private InterviewChangeRequestResponseDto mapToResponseDto(InterviewChangeRequest entity) {
-        InterviewResponseDto interviewResponseDto = null;
+    /**
+     * Maps change requests with their interviews loaded in one bulk call.
+     * @param requests change requests
+     * @return List<InterviewChangeRequestResponseDto>
+     */
+    private List<InterviewChangeRequestResponseDto> toResponses(List<InterviewChangeRequest> requests) {
+        Map<Integer, InterviewResponseDto> interviews = interviewsById(requests);
+        return requests.stream()
+                .map(req -> mapToResponseDto(req, interviews.get(req.getInterviewId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Integer, InterviewResponseDto> interviewsById(List<InterviewChangeRequest> requests) {
+        List<Integer> interviewIds = requests.stream().map(InterviewChangeRequest::getInterviewId).toList();
         try {
-            // safely fetch interview details
-            interviewResponseDto = interviewService.getInterviewById(entity.getInterviewId());
+            // safely fetch interview details, requests are still listed without them
+            return interviewService.getInterviewsByIds(interviewIds).stream()
+                    .collect(Collectors.toMap(InterviewResponseDto::getInterviewId, Function.identity()));
         } catch (Exception e) {
-            log.warn("Unable to fetch interview details for ID: {}", entity.getInterviewId());
+            log.warn("Unable to fetch interview details for IDs: {}", interviewIds);
+            return Map.of();
         }
+    }
+
+    private InterviewChangeRequestResponseDto mapToResponseDto(InterviewChangeRequest entity,
+                                                               InterviewResponseDto interviewResponseDto) {
         return InterviewChangeRequestResponseDto.builder()
                 .interviewChangeRequestId(entity.getInterviewChangeRequestId())
                 .interviewResponseDto(interviewResponseDto)
@@ -113,25 +128,32 @@ public class InterviewChangeRequestService {
      * @param requestIds change request id
      * @return List<InterviewChangeRequestResponseDto>
      */
+    @Transactional
     public List<InterviewChangeRequestResponseDto> bulkApproveRequests(List<Integer> requestIds) {
         log.info("Bul updating change requests");
         try {
             List<InterviewChangeRequest> requests = changeRequestRepository.findAllById(requestIds);
 
-            List<InterviewChangeRequestResponseDto> updatedList = new ArrayList<>();
+            Map<Integer, InterviewResponseDto> interviews = interviewsById(requests);
+
+            List<Integer> slotIds = new ArrayList<>();
             for (InterviewChangeRequest req : requests) {
-                InterviewResponseDto interview = interviewService.getInterviewById(req.getInterviewId());
+                InterviewResponseDto interview = interviews.get(req.getInterviewId());
+                if (interview == null) {
+                    throw new RuntimeException("Interview not found");
+                }
                 req.setStatus(RequestStatus.APPROVED.toString());
                 req.setUpdatedBy(UserContext.getUserName());
                 req.setUpdatedAt(LocalDateTime.now());
 
-                slotService.deleteSlot(interview.getSlotId());
                 interviewService.deleteInterview(interview.getInterviewId());
-
-                InterviewChangeRequest updated = changeRequestRepository.save(req);
-                updatedList.add(mapToResponseDto(updated));
+                if (interview.getSlotId() != null) {
+                    slotIds.add(interview.getSlotId());
+                }
             }
-            return updatedList;
+            slotService.deleteSlots(slotIds);
+
+            return toResponses(changeRequestRepository.saveAll(requests));
         } catch (Exception e) {
             log.error("Error occurred at bulkApproveRequests"+ e.getMessage());
             throw new RuntimeException(e);
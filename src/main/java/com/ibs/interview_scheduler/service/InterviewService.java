@@ -1,18 +1,28 @@
 package com.ibs.interview_scheduler.service;
 
+import com.ibs.interview_scheduler.cache.AvailabilityIndex;
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.PanelRollup;
 import com.ibs.interview_scheduler.cache.UserCacheService;
 import com.ibs.interview_scheduler.context.UserContext;
+import com.ibs.interview_scheduler.dtos.projection.InterviewView;
 import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
 import com.ibs.interview_scheduler.dtos.responseDto.*;
 import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
 import com.ibs.interview_scheduler.enums.EventType;
 import com.ibs.interview_scheduler.enums.InterviewResult;
 import com.ibs.interview_scheduler.enums.InterviewStatus;
+import com.ibs.interview_scheduler.enums.SlotStatus;
 import com.ibs.interview_scheduler.events.InterviewCreatedEvent;
 import com.ibs.interview_scheduler.events.NotificationEvent;
 import com.ibs.interview_scheduler.exception.CustomException;
 import com.ibs.interview_scheduler.publisher.InterviewEventPublisher;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
 import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.utils.PageCursor;
+import com.ibs.interview_scheduler.utils.PanelistIds;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,10 +38,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class InterviewService {
 
+    // keeps IN lists well below driver and optimizer limits
+    static final int IDS_PER_QUERY = 1000;
+
     private final InterviewRepository interviewRepository;
+    private final InterviewPanelistRepository interviewPanelistRepository;
     private final SlotService slotService;
     private final UserCacheService userCacheService;
     private final InterviewEventPublisher interviewEventPublisher;
+    private final AvailabilityIndex availabilityIndex;
+    private final DashboardCounters dashboardCounters;
+    private final PanelRollup panelRollup;
+    private final InterviewStatsRollup interviewStatsRollup;
 
     @Transactional
     public InterviewResponseDto createInterview(InterviewRequestDto request) {
@@ -45,9 +63,7 @@ public class InterviewService {
                     .interviewType(request.getInterviewType())
                     .result(InterviewResult.PENDING.toString())
                     .interviewStatus(InterviewStatus.CONFIRMED.toString())
-                    .panelistIds(request.getPanelistIds().stream()
-                            .map(String::valueOf)
-                            .collect(Collectors.joining(",")))
+                    .panelistIds(PanelistIds.join(request.getPanelistIds()))
                     .isDeleted(false)
                     .startTime(request.getStartTime())
                     .endTime(request.getEndTime())
@@ -55,15 +71,16 @@ public class InterviewService {
                     .createdBy(UserContext.getUserName())
                     .build();
 
+            reserveSlots(request.getPanelistIds(), request.getStartTime(), request.getEndTime());
+
             Interview saved = interviewRepository.save(interview);
+            List<InterviewPanelist> panelistRows = PanelistIds.toPanelistRows(saved);
+            interviewPanelistRepository.saveAll(panelistRows);
+            availabilityIndex.put(saved);
+            dashboardCounters.interviewsAdded(List.of(saved));
+            panelRollup.panelistsChanged(panelistRows);
+            interviewStatsRollup.interviewsChanged(List.of(saved));
             log.info("Interview created successfully for candidate ID: {}", request.getCandidateId());
-
-            List<SlotResponseDto> slots = slotService.getSlotsByPanelIdStartTimeEndTime(request.getPanelistIds(),
-                    request.getStartTime(), request.getEndTime());
-            for (SlotResponseDto slotRes : slots) {
-                slotService.updateSlotStatus(slotRes.getSlotId(), "BOOKED");
-                log.info("Updated Slot with ID: {}", request.getSlotId());
-            }
             createNotification(saved, EventType.INTERVIEWCREATED);
 
             return toResponse(saved, null);
@@ -81,51 +98,84 @@ public class InterviewService {
         LocalDateTime slotStart = request.getStartTime();
         LocalDateTime slotEnd = request.getEndTime();
 
-        // Validate candidate duplicate interview
-        boolean candidateAlreadyScheduled = interviewRepository.existsByCandidateIdAndStartTimeBetween(
-                request.getCandidateId(),
-                slotStart.minusMinutes(1),
-                slotEnd.plusMinutes(1)
-        );
-        if (candidateAlreadyScheduled) {
-            throw new CustomException("Candidate already has an interview scheduled for this time.", HttpStatus.CONFLICT);
+        // The index only knows this replica's bookings, so it can reject early but never accept on its own
+        if (availabilityIndex.covers(slotStart)) {
+            if (availabilityIndex.isCandidateBusy(request.getCandidateId(), slotStart, slotEnd)) {
+                throw new CustomException(BookingConflicts.CANDIDATE_BUSY, HttpStatus.CONFLICT);
+            }
+            for (Integer panelId : request.getPanelistIds()) {
+                if (availabilityIndex.isPanelistBusy(panelId, slotStart, slotEnd)) {
+                    throw new CustomException(BookingConflicts.panelistBusy(panelId), HttpStatus.BAD_REQUEST);
+                }
+            }
         }
 
-        // Validate candidate availability
-        boolean candidateBusy = interviewRepository.existsByCandidateIdAndStartTimeBetween(
-                request.getCandidateId(),
-                slotStart.minusMinutes(1),
-                slotEnd.plusMinutes(1)
-        );
-        if (candidateBusy) {
-            throw new CustomException("Candidate is not available during this slot.", HttpStatus.BAD_REQUEST);
-        }
-        // Validate panel availability
-        for (Integer panelId : request.getPanelistIds()) {
-            boolean panelBusy = interviewRepository.existsByPanelistIdsContainingAndStartTimeBetween(
-                    String.valueOf(panelId), // stored as comma-separated string
-                    slotStart.minusMinutes(1),
-                    slotEnd.plusMinutes(1)
-            );
-            if (panelBusy) {
-                throw new CustomException("Panelist (ID: " + panelId + ") is not available for this slot.", HttpStatus.BAD_REQUEST);
-            }
+        // The database sees bookings made on every replica and stays the authority
+        BookingConflicts.Conflict conflict = BookingConflicts.load(interviewRepository, interviewPanelistRepository,
+                request.getPanelistIds(), List.of(request.getCandidateId()), slotStart, slotEnd).find(request);
+        if (conflict != null) {
+            throw new CustomException(conflict.message(), conflict.status());
         }
     }
 
 
     public List<InterviewResponseDto> getAllInterviews() {
         log.info("Fetching all interviews");
-        List<UserResponseDTO> userList = userCacheService.getAllUsers();
-        Map<Integer, String> candidateNamesMap = userList.stream().collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
+        Map<Integer, String> candidateNamesMap = userCacheService.getUserIdNameMap();
         return interviewRepository.findAll().stream()
                 .map(i -> toResponse(i, candidateNamesMap)).toList();
     }
 
+    /**
+     * One keyset page of active interviews ordered by start time and id.
+     *
+     * @param cursor      cursor from the previous page, null for the first page
+     * @param limit       page size
+     * @param status      optional interview status filter
+     * @param candidateId optional candidate filter
+     * @param from        optional lower bound on start time
+     * @return page of interviews
+     */
+    public CursorPageResponseDto<InterviewResponseDto> getInterviewPage(String cursor, int limit, String status,
+                                                                        Integer candidateId, LocalDateTime from) {
+        log.info("Fetching interview page of {} after cursor {}", limit, cursor);
+        PageCursor.Position after = PageCursor.decode(cursor);
+        List<Interview> rows = interviewRepository.findPageAfter(status, candidateId, from, after.startTime(), after.id(),
+                PageCursor.probe(limit));
+        Map<Integer, String> candidateNamesMap = userCacheService.getUserIdNameMap();
+        return PageCursor.toPage(rows, limit, i -> toResponse(i, candidateNamesMap),
+                Interview::getStartTime, Interview::getInterviewId);
+    }
+
+    /**
+     * Loads many interviews with one IN query per {@link #IDS_PER_QUERY} ids and names them from a
+     * single user map snapshot. Unknown ids are skipped.
+     *
+     * @param interviewIds interview ids, duplicates allowed
+     * @return interviews in the order their ids were first given
+     */
+    public List<InterviewResponseDto> getInterviewsByIds(Collection<Integer> interviewIds) {
+        log.info("Fetching {} interviews by id", interviewIds.size());
+        List<Integer> ids = interviewIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, InterviewView> views = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IDS_PER_QUERY) {
+            interviewRepository.findViewsByIdIn(ids.subList(from, Math.min(from + IDS_PER_QUERY, ids.size())))
+                    .forEach(view -> views.put(view.interviewId(), view));
+        }
+        Map<Integer, String> userNamesMap = userCacheService.getUserIdNameMap();
+        return ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(view -> toResponse(view, userNamesMap))
+                .toList();
+    }
+
     public InterviewResponseDto getInterviewById(Integer interviewId) {
         log.info("Fetching interview by interviewId {}", interviewId);
-        List<UserResponseDTO> userList = userCacheService.getAllUsers();
-        Map<Integer, String> candidateNamesMap = userList.stream().collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
+        Map<Integer, String> candidateNamesMap = userCacheService.getUserIdNameMap();
         Interview interview = interviewRepository.findById(interviewId)
                 .orElseThrow(() -> new RuntimeException("Interview not found"));
         return toResponse(interview, candidateNamesMap);
@@ -141,6 +191,12 @@ public class InterviewService {
         try {
             Interview interview = interviewRepository.findById(interviewId)
                     .orElseThrow(() -> new RuntimeException("Interview not found"));
+            String previousResult = interview.getResult();
+            Interview previous = Interview.builder()
+                    .panelistIds(interview.getPanelistIds())
+                    .startTime(interview.getStartTime())
+                    .interviewStatus(interview.getInterviewStatus())
+                    .build();
             interview.setFeedback(request.getFeedback());
             if (request.getRating() > 3) {
                 interview.setResult(InterviewResult.SELECTED.toString());
@@ -151,7 +207,11 @@ public class InterviewService {
             interview.setUpdatedAt(LocalDateTime.now());
             interview.setUpdatedBy(UserContext.getUserName());
             createNotification(interview, EventType.INTERVIEWUPDATED);
-            return toResponse(interviewRepository.save(interview), null);
+            Interview saved = interviewRepository.save(interview);
+            dashboardCounters.interviewResultChanged(previousResult, saved.getResult());
+            dashboardCounters.interviewChanged(previous, saved);
+            interviewStatsRollup.interviewsChanged(List.of(saved));
+            return toResponse(saved, null);
         } catch (RuntimeException e) {
             log.error("Exception occurred at updateInterview, {}", e.getMessage());
             throw new RuntimeException(e);
@@ -162,6 +222,7 @@ public class InterviewService {
      *
      * @param interviewId interviewId
      */
+    @Transactional
     public void deleteInterview(Integer interviewId) {
         log.info("Deleting interview by InterviewId, {}", interviewId);
         Interview interview = interviewRepository.findById(interviewId)
@@ -170,8 +231,12 @@ public class InterviewService {
         interview.setUpdatedAt(LocalDateTime.now());
         interview.setUpdatedBy(UserContext.getUserName());
         interviewRepository.save(interview);
+        availabilityIndex.remove(interviewId);
+        dashboardCounters.interviewsRemoved(List.of(interview));
+        panelRollup.panelistsChanged(PanelistIds.toPanelistRows(interview));
+        interviewStatsRollup.interviewsChanged(List.of(interview));
         log.info("Updating slot status while deleting the interview");
-        slotService.updateSlotStatus(interview.getSlotId(),"UNBOOKED");
+        releaseSlots(interview);
     }
     /**
      *
@@ -193,59 +258,46 @@ public class InterviewService {
         res.setEndTime(interview.getEndTime());
         res.setInterviewStatus(interview.getInterviewStatus());
         res.setIsDeleted(interview.getIsDeleted());
+        setNames(res, interview.getPanelistIds(), userNamesMap);
+        return res;
+    }
+
+    private InterviewResponseDto toResponse(InterviewView interview, Map<Integer, String> userNamesMap) {
+        InterviewResponseDto res = new InterviewResponseDto();
+        res.setInterviewId(interview.interviewId());
+        res.setCandidateId(interview.candidateId());
+        res.setSlotId(interview.slotId());
+        res.setHrId(interview.hrId());
+        res.setInterviewType(interview.interviewType());
+        res.setResult(interview.result());
+        res.setFeedback(interview.feedback());
+        res.setCreatedAt(interview.createdAt());
+        res.setStartTime(interview.startTime());
+        res.setEndTime(interview.endTime());
+        res.setInterviewStatus(interview.interviewStatus());
+        res.setIsDeleted(interview.isDeleted());
+        setNames(res, interview.panelistIds(), userNamesMap);
+        return res;
+    }
+
+    private void setNames(InterviewResponseDto res, String panelistIds, Map<Integer, String> userNamesMap) {
         if (userNamesMap != null && !userNamesMap.isEmpty()) {
-            res.setCandidateName(userNamesMap.get(interview.getCandidateId()));
+            res.setCandidateName(userNamesMap.get(res.getCandidateId()));
             String[] str = null;
             List<String> panelName = new ArrayList<>();
-            if (interview.getPanelistIds().contains(",")) {
-                str = interview.getPanelistIds().split(",");
+            if (panelistIds.contains(",")) {
+                str = panelistIds.split(",");
                 for (String s : str) {
                     panelName.add(userNamesMap.get(Integer.valueOf(s)));
                     res.setPanellistNames(panelName);
                 }
                 res.setPanellistIds(Arrays.stream(str).toList());
             } else {
-                panelName.add(userNamesMap.get(Integer.valueOf(interview.getPanelistIds())));
+                panelName.add(userNamesMap.get(Integer.valueOf(panelistIds)));
                 res.setPanellistNames(panelName);
-                res.setPanellistIds(Collections.singletonList(interview.getPanelistIds()));
+                res.setPanellistIds(Collections.singletonList(panelistIds));
             }
         }
-        return res;
-    }
-
-    /**
-     *
-     * @param panelId panel id
-     * @return InterviewSummaryResponseDto
-     */
-    public InterviewSummaryResponseDto getInterviewSummary(String panelId) {
-        log.info("Collecting InterviewSummaryResponseDto for panel dashboard");
-        try {
-            List<UserResponseDTO> userList = userCacheService.getAllUsers();
-            int totalAssignedThisMonth = interviewRepository.countAssignedInterviewsThisMonth(panelId);
-            Map<Integer, String> candidateNameMap = userList.stream()
-                    .collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime nextWeek = now.plusDays(7);
-            List<UpcomingInterviewResponseDto> upcomingInterviews = interviewRepository
-                    .findUpcomingInterviewsForWeek(panelId, now, nextWeek)
-                    .stream()
-                    .map(i -> UpcomingInterviewResponseDto.builder()
-                            .candidateName(candidateNameMap.get(i.getCandidateId()))
-                            .role(i.getInterviewType())
-                            .interviewDate(i.getStartTime())
-                            .mode(i.getMode())
-                            .build())
-                    .toList();
-
-            return InterviewSummaryResponseDto.builder()
-                    .totalAssignedThisMonth(totalAssignedThisMonth)
-                    .upcomingInterviews(upcomingInterviews)
-                    .build();
-        } catch (Exception e) {
-            log.error("Error occurred at getInterviewSummary");
-            throw new RuntimeException(e);
-        }
     }
 
     /**
@@ -256,9 +308,8 @@ public class InterviewService {
     public List<InterviewResponseDto> getInterviewsByPanelId(Integer panelId) {
         log.info("Fetching interview by passing panelId");
         try {
-            List<UserResponseDTO> userList = userCacheService.getAllUsers();
-            Map<Integer, String> candidateNamesMap = userList.stream().collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
-            List<Interview> interviews = interviewRepository.findConfirmedInterviewsByPanelId(String.valueOf(panelId));
+            Map<Integer, String> candidateNamesMap = userCacheService.getUserIdNameMap();
+            List<InterviewView> interviews = interviewRepository.findConfirmedInterviewsByPanelId(panelId);
             return interviews.stream().map(i -> toResponse(i, candidateNamesMap)).toList();
         } catch (Exception e) {
             log.error("Exception occurred in getInterviewsByPanelId{}", e.getMessage());
@@ -274,9 +325,8 @@ public class InterviewService {
     public List<InterviewResponseDto> getInterviewsByCandidateId(Integer candidateId) {
         log.info("Fetching interview by passing candidateId");
         try {
-            List<UserResponseDTO> userList = userCacheService.getAllUsers();
-            Map<Integer, String> candidateNamesMap = userList.stream().collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
-            List<Interview> interviews = interviewRepository.findInterviewsByCandidateId(candidateId);
+            Map<Integer, String> candidateNamesMap = userCacheService.getUserIdNameMap();
+            List<InterviewView> interviews = interviewRepository.findInterviewsByCandidateId(candidateId);
             return interviews.stream().map(i -> toResponse(i, candidateNamesMap)).toList();
         } catch (Exception e) {
             log.error("Exception occurred in getInterviewsByCandidateId{}", e.getMessage());
@@ -289,9 +339,24 @@ public class InterviewService {
      * @param interviewData interview
      */
     private void createNotification(Interview interviewData, EventType eventType) {
-        List<UserResponseDTO> userList = userCacheService.getAllUsers();
-        Map<Integer, String> candidateEmailMap = userList.stream().collect(Collectors.toMap(UserResponseDTO::getUserId,
-                UserResponseDTO::getEmail));
+        createNotification(interviewData, eventType, userEmailMap());
+    }
+
+    /**
+     * Sends one notification per interview, resolving every email from one user directory snapshot.
+     * @param interviews saved interviews
+     * @param eventType event type
+     */
+    public void publishNotifications(List<Interview> interviews, EventType eventType) {
+        Map<Integer, String> candidateEmailMap = userEmailMap();
+        interviews.forEach(interview -> createNotification(interview, eventType, candidateEmailMap));
+    }
+
+    private Map<Integer, String> userEmailMap() {
+        return userCacheService.getDirectory().emails();
+    }
+
+    private void createNotification(Interview interviewData, EventType eventType, Map<Integer, String> candidateEmailMap) {
         String panelEmails = Arrays.stream(interviewData.getPanelistIds().split(","))
                 .map(String::trim)
                 .map(Integer::valueOf)
@@ -317,31 +382,72 @@ public class InterviewService {
 
     }
 
+    @Transactional
     public InterviewResponseDto rescheduleInterview(Integer interviewId, InterviewRequestDto request) {
         log.info("Rescheduling interview with id {}",interviewId);
         try {
             Interview interview = interviewRepository.findById(interviewId)
                     .orElseThrow(() -> new RuntimeException("Interview not found"));
-            slotService.updateSlotStatus(interview.getSlotId(), "UNBOOKED");
+            List<InterviewPanelist> previousRows = PanelistIds.toPanelistRows(interview);
+            Interview previous = Interview.builder()
+                    .interviewType(interview.getInterviewType())
+                    .panelistIds(interview.getPanelistIds())
+                    .startTime(interview.getStartTime())
+                    .interviewStatus(interview.getInterviewStatus())
+                    .build();
+            releaseSlots(interview);
+            reserveSlots(request.getPanelistIds(), request.getStartTime(), request.getEndTime());
             interview.setSlotId(request.getSlotId());
-            interview.setPanelistIds(request.getPanelistIds().stream()
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(",")));
-            List<SlotResponseDto> slots = slotService.getSlotsByPanelIdStartTimeEndTime(request.getPanelistIds(),
-                    request.getStartTime(), request.getEndTime());
-            for (SlotResponseDto slotRes : slots) {
-                slotService.updateSlotStatus(slotRes.getSlotId(), "BOOKED");
-                log.info("Updated Slot with ID while rescheduling: {}", request.getSlotId());
-            }
+            interview.setPanelistIds(PanelistIds.join(request.getPanelistIds()));
             interview.setStartTime(request.getStartTime());
             interview.setEndTime(request.getEndTime());
             interview.setUpdatedAt(LocalDateTime.now());
             interview.setUpdatedBy(UserContext.getUserName());
             createNotification(interview, EventType.INTERVIEWRESCHEDULE);
-            return toResponse(interviewRepository.save(interview), null);
+            Interview saved = interviewRepository.save(interview);
+            interviewPanelistRepository.deleteByInterviewId(interviewId);
+            List<InterviewPanelist> panelistRows = PanelistIds.toPanelistRows(saved);
+            interviewPanelistRepository.saveAll(panelistRows);
+            availabilityIndex.put(saved);
+            panelRollup.panelistsChanged(previousRows);
+            panelRollup.panelistsChanged(panelistRows);
+            interviewStatsRollup.interviewsChanged(List.of(previous, saved));
+            dashboardCounters.interviewChanged(previous, saved);
+            return toResponse(saved, null);
+        } catch (CustomException ce) {
+            log.warn("Interview reschedule failed: {}", ce.getMessage());
+            throw ce;
         } catch (RuntimeException e) {
             log.error("Exception occurred at rescheduleInterview, {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Books the UNBOOKED slots of the panelists inside the interview window. The reservation is a
+     * conditional update, so a slot taken by a concurrent booking fails this one with CONFLICT.
+     */
+    private void reserveSlots(List<Integer> panelistIds, LocalDateTime startTime, LocalDateTime endTime) {
+        List<Integer> slotIds = slotService.getSlotsByPanelIdStartTimeEndTime(panelistIds, startTime, endTime).stream()
+                .filter(slot -> SlotStatus.UNBOOKED.toString().equals(slot.getStatus()))
+                .map(SlotResponseDto::getSlotId)
+                .toList();
+        slotService.reserveSlots(slotIds);
+        log.info("Reserved slots {}", slotIds);
+    }
+
+    /**
+     * Frees the interview's own slot and the booked slots of its panelists inside its current window.
+     */
+    private void releaseSlots(Interview interview) {
+        Set<Integer> slotIds = new HashSet<>();
+        if (interview.getSlotId() != null) {
+            slotIds.add(interview.getSlotId());
+        }
+        slotService.getSlotsByPanelIdStartTimeEndTime(PanelistIds.parse(interview.getPanelistIds()),
+                        interview.getStartTime(), interview.getEndTime()).stream()
+                .filter(slot -> SlotStatus.BOOKED.toString().equals(slot.getStatus()))
+                .forEach(slot -> slotIds.add(slot.getSlotId()));
+        slotService.transitionSlots(slotIds, SlotStatus.BOOKED, SlotStatus.UNBOOKED);
+    }
 }
@@ -0,0 +1,205 @@
+package com.ibs.interview_scheduler.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.enums.ReportExportFormat;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.ReportJdbcRepository;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Full report exports. Rows are read from a forward-only cursor and written to the response as
+ * they arrive, with user names looked up from the cached id to name map, so memory stays flat and
+ * the first bytes go out before the query has finished. There is no count query and no paging.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportService {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final String UNKNOWN = "Unknown";
+
+    private static final List<String> INTERVIEW_COLUMNS = List.of("interviewId", "candidateId", "candidateName",
+            "hrId", "hrName", "panelistIds", "panelNames", "startTime", "endTime", "status", "createdAt", "isDeleted");
+    private static final List<String> SLOT_COLUMNS = List.of("slotId", "panelistId", "panelistName", "startTime",
+            "endTime", "status", "createdAt");
+
+    private final ReportJdbcRepository reportJdbcRepository;
+    private final UserCacheService userCacheService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Validates the request up front, so a bad type is answered with an error status before any
+     * body has been written.
+     *
+     * @param type      interview or slots
+     * @param startDate created at lower bound
+     * @param endDate   created at upper bound
+     * @param format    csv or ndjson
+     * @return body writing the export
+     */
+    public StreamingResponseBody export(String type, LocalDateTime startDate, LocalDateTime endDate,
+                                        ReportExportFormat format) {
+        String reportType = type.toLowerCase();
+        if (!reportType.equals("interview") && !reportType.equals("slots")) {
+            throw new CustomException("Export is not available for report type: " + type, HttpStatus.BAD_REQUEST);
+        }
+        return out -> write(reportType, startDate, endDate, format, out);
+    }
+
+    void write(String reportType, LocalDateTime startDate, LocalDateTime endDate, ReportExportFormat format,
+               OutputStream out) throws IOException {
+        log.info("Exporting {} report as {}", reportType, format);
+        Map<Integer, String> userNameMap = userCacheService.getUserIdNameMap();
+        boolean interviews = reportType.equals("interview");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (RowWriter rows = format == ReportExportFormat.CSV
+                ? new CsvRowWriter(writer, interviews ? INTERVIEW_COLUMNS : SLOT_COLUMNS)
+                : new NdjsonRowWriter(objectMapper, writer, interviews ? INTERVIEW_COLUMNS : SLOT_COLUMNS)) {
+            if (interviews) {
+                reportJdbcRepository.streamInterviews(startDate, endDate, rs -> rows.row(interviewRow(rs, userNameMap)));
+            } else {
+                reportJdbcRepository.streamSlots(startDate, endDate, rs -> rows.row(slotRow(rs, userNameMap)));
+            }
+            log.info("Exported {} rows of {} report", rows.count, reportType);
+        } catch (UncheckedIOException e) {
+            // client went away, stop reading and let the container close the connection
+            throw e.getCause();
+        }
+    }
+
+    private static Object[] interviewRow(ResultSet rs, Map<Integer, String> userNameMap) throws SQLException {
+        Integer candidateId = integer(rs, "candidate_id");
+        Integer hrId = integer(rs, "hr_id");
+        String panelistIds = rs.getString("panelist_ids");
+        String panelNames = PanelistIds.parse(panelistIds).stream()
+                .map(id -> userNameMap.getOrDefault(id, UNKNOWN))
+                .collect(Collectors.joining(", "));
+        return new Object[]{integer(rs, "interview_id"), candidateId, userNameMap.getOrDefault(candidateId, UNKNOWN),
+                hrId, userNameMap.getOrDefault(hrId, UNKNOWN), panelistIds, panelNames,
+                time(rs, "start_time"), time(rs, "end_time"), rs.getString("interview_status"),
+                time(rs, "created_at"), rs.getBoolean("is_deleted")};
+    }
+
+    private static Object[] slotRow(ResultSet rs, Map<Integer, String> userNameMap) throws SQLException {
+        Integer panelistId = integer(rs, "panelist_id");
+        return new Object[]{integer(rs, "slot_id"), panelistId, userNameMap.getOrDefault(panelistId, UNKNOWN),
+                time(rs, "start_time"), time(rs, "end_time"), rs.getString("status"), time(rs, "created_at")};
+    }
+
+    private static Integer integer(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static String time(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value == null ? null : value.toLocalDateTime().toString();
+    }
+
+    private abstract static class RowWriter implements Closeable {
+        final List<String> columns;
+        long count;
+
+        RowWriter(List<String> columns) {
+            this.columns = columns;
+        }
+
+        void row(Object[] values) {
+            try {
+                write(values);
+                count++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        abstract void write(Object[] values) throws IOException;
+    }
+
+    private static class CsvRowWriter extends RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer, List<String> columns) throws IOException {
+            super(columns);
+            this.writer = writer;
+            writer.write(String.join(",", columns));
+            writer.write('\n');
+            // send the header straight away so the client sees the download start
+            writer.flush();
+        }
+
+        @Override
+        void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static class NdjsonRowWriter extends RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(ObjectMapper objectMapper, Writer writer, List<String> columns) throws IOException {
+            super(columns);
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // only the explicit flush on close reaches the response, rows stay in the writer buffer
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeObjectField(columns.get(i), values[i]);
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.enable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.close();
+        }
+    }
+}
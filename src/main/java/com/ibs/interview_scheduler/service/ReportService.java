@@ -2,7 +2,6 @@ package com.ibs.interview_scheduler.service;
 
 import com.ibs.interview_scheduler.cache.UserCacheService;
 import com.ibs.interview_scheduler.dtos.responseDto.ReportResponseDto;
-import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
 import com.ibs.interview_scheduler.feign.UserClient;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -64,9 +63,7 @@ public class ReportService {
                                                  int page, int size, String sortField, String sortDir) {
         log.info("Fetching interview report for HR reports");
         try {
-            List<UserResponseDTO> users = userCacheService.getAllUsers();
-            Map<Integer, String> userNameMap = users.stream()
-                    .collect(Collectors.toMap(UserResponseDTO::getUserId, UserResponseDTO::getFullName));
+            Map<Integer, String> userNameMap = userCacheService.getUserIdNameMap();
 
             String sql = """
                 SELECT interview_id, candidate_id, hr_id, panelist_ids, start_time, end_time, interview_status, created_at, is_deleted
@@ -0,0 +1,204 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibs.interview_scheduler.cache.IntervalSet;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
+import com.ibs.interview_scheduler.context.UserContext;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotImportErrorDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotImportResponseDto;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotImportFormat;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.SlotJdbcRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Bulk slot import for onboarding. The body is read line by line and handled in chunks of
+ * {@link #CHUNK_SIZE}: each chunk is checked against the existing slots of its panelists, loaded with
+ * one range query, and written with one JDBC batch. Only the current chunk and a capped error list
+ * are held in memory, so a file of any length runs in constant space.
+ * <p>
+ * Chunks commit on their own. A failure part way through leaves the earlier chunks imported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final SlotRepository slotRepository;
+    private final SlotJdbcRepository slotJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final SlotCalendar slotCalendar;
+    private final DashboardCounters dashboardCounters;
+    private final PanelRollup panelRollup;
+
+    /**
+     *
+     * @param body   CSV (panelistId,startTime,endTime) or NDJSON lines of the same fields
+     * @param format body format
+     * @return counts and the per-line error report
+     */
+    public SlotImportResponseDto importSlots(Reader body, SlotImportFormat format) {
+        log.info("Importing slots from {}", format);
+        Report report = new Report();
+        String createdBy = UserContext.getUserName();
+        List<Line> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(body)) {
+            String text;
+            long lineNumber = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank() || (format == SlotImportFormat.CSV && lineNumber == 1 && isCsvHeader(text))) {
+                    continue;
+                }
+                report.lines++;
+                try {
+                    chunk.add(parse(lineNumber, text, format));
+                } catch (RuntimeException e) {
+                    report.fail(lineNumber, "Unreadable line: " + e.getMessage());
+                    continue;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, createdBy, report);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, createdBy, report);
+        } catch (IOException e) {
+            log.error("Slot import stopped after {} lines, {}", report.lines, e.getMessage());
+            throw new CustomException("Slot import body could not be read.", HttpStatus.BAD_REQUEST);
+        }
+        log.info("Imported {} slots, {} lines failed", report.imported, report.failed);
+        return SlotImportResponseDto.builder()
+                .lines(report.lines)
+                .imported(report.imported)
+                .failed(report.failed)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .build();
+    }
+
+    private void writeChunk(List<Line> chunk, String createdBy, Report report) {
+        List<Line> valid = new ArrayList<>(chunk.size());
+        for (Line line : chunk) {
+            if (line.panelistId == null || line.start == null || line.end == null) {
+                report.fail(line.number, "panelistId, startTime and endTime are required.");
+            } else if (!line.start.isBefore(line.end)) {
+                report.fail(line.number, "Slot end time must be after start time.");
+            } else {
+                valid.add(line);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, IntervalSet> intervals = loadExisting(valid);
+        List<Slot> accepted = new ArrayList<>(valid.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (Line line : valid) {
+            IntervalSet panelist = intervals.computeIfAbsent(line.panelistId, id -> new IntervalSet());
+            if (panelist.overlaps(line.start, line.end)) {
+                report.fail(line.number, "Slot overlaps with an existing slot for this panelist.");
+                continue;
+            }
+            // negative ids keep file lines apart from stored slots in the interval set
+            panelist.add((int) -line.number, line.start, line.end);
+            accepted.add(Slot.builder()
+                    .panelistId(line.panelistId)
+                    .startTime(line.start)
+                    .endTime(line.end)
+                    .status(SlotStatus.UNBOOKED.toString())
+                    .isDeleted(false)
+                    .createdBy(createdBy)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .build());
+        }
+        slotJdbcRepository.insertAll(accepted);
+        slotCalendar.put(accepted);
+        dashboardCounters.slotsAdded(accepted);
+        panelRollup.slotsChanged(accepted);
+        report.imported += accepted.size();
+    }
+
+    private Map<Integer, IntervalSet> loadExisting(List<Line> lines) {
+        Set<Integer> panelistIds = new HashSet<>();
+        LocalDateTime from = lines.get(0).start;
+        LocalDateTime to = lines.get(0).end;
+        for (Line line : lines) {
+            panelistIds.add(line.panelistId);
+            from = line.start.isBefore(from) ? line.start : from;
+            to = line.end.isAfter(to) ? line.end : to;
+        }
+        Map<Integer, IntervalSet> intervals = new HashMap<>();
+        for (Slot slot : slotRepository.findOverlappingSlotsForPanelists(panelistIds, from, to)) {
+            intervals.computeIfAbsent(slot.getPanelistId(), id -> new IntervalSet())
+                    .add(slot.getSlotId(), slot.getStartTime(), slot.getEndTime());
+        }
+        return intervals;
+    }
+
+    private Line parse(long number, String text, SlotImportFormat format) {
+        if (format == SlotImportFormat.NDJSON) {
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                return new Line(number, intValue(node.path("panelistId").asText(null)),
+                        dateTime(node.path("startTime").asText(null)), dateTime(node.path("endTime").asText(null)));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("invalid JSON");
+            }
+        }
+        String[] fields = text.split(",", -1);
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("expected 3 columns but found " + fields.length);
+        }
+        return new Line(number, intValue(fields[0]), dateTime(fields[1]), dateTime(fields[2]));
+    }
+
+    private static boolean isCsvHeader(String text) {
+        return !text.isEmpty() && !Character.isDigit(text.trim().charAt(0));
+    }
+
+    private static Integer intValue(String value) {
+        return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+    }
+
+    private static LocalDateTime dateTime(String value) {
+        return value == null || value.isBlank() ? null : LocalDateTime.parse(value.trim());
+    }
+
+    private record Line(long number, Integer panelistId, LocalDateTime start, LocalDateTime end) {}
+
+    private static final class Report {
+        private final List<SlotImportErrorDto> errors = new ArrayList<>();
+        private long lines;
+        private long imported;
+        private long failed;
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new SlotImportErrorDto(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.IntervalSet;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
+import com.ibs.interview_scheduler.context.UserContext;
+import com.ibs.interview_scheduler.dtos.requestDto.SlotSeriesRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotSeriesResponseDto;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.SlotJdbcRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates a panelist's recurring availability in one request. The rule is expanded in memory, all
+ * generated intervals are checked against the panelist's existing slots loaded with one range query,
+ * and the free ones are written with a single JDBC batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotSeriesService {
+
+    static final int MAX_WEEKS = 52;
+    static final int MAX_SERIES_SLOTS = 2000;
+
+    private final SlotRepository slotRepository;
+    private final SlotJdbcRepository slotJdbcRepository;
+    private final SlotCalendar slotCalendar;
+    private final DashboardCounters dashboardCounters;
+    private final PanelRollup panelRollup;
+
+    /**
+     * Occurrences that overlap an existing slot are skipped and reported, the rest are created.
+     *
+     * @param request recurrence rule
+     * @return created slots and skipped occurrences
+     */
+    @Transactional
+    public SlotSeriesResponseDto createSeries(SlotSeriesRequestDto request) {
+        log.info("Creating slot series for panelist {}", request.getPanelistId());
+        validate(request);
+        List<Slot> generated = expand(request);
+        if (generated.isEmpty()) {
+            throw new CustomException("Slot series does not produce any slot.", HttpStatus.BAD_REQUEST);
+        }
+        if (generated.size() > MAX_SERIES_SLOTS) {
+            throw new CustomException("Slot series must not exceed " + MAX_SERIES_SLOTS + " slots.", HttpStatus.BAD_REQUEST);
+        }
+
+        LocalDateTime from = generated.get(0).getStartTime();
+        LocalDateTime to = generated.get(generated.size() - 1).getEndTime();
+        IntervalSet existing = new IntervalSet();
+        for (Slot slot : slotRepository.findOverlappingSlots(request.getPanelistId(), from, to)) {
+            existing.add(slot.getSlotId(), slot.getStartTime(), slot.getEndTime());
+        }
+
+        List<Slot> accepted = new ArrayList<>();
+        List<SlotResponseDto> conflicts = new ArrayList<>();
+        for (Slot slot : generated) {
+            if (existing.overlaps(slot.getStartTime(), slot.getEndTime())) {
+                conflicts.add(toResponse(slot));
+            } else {
+                accepted.add(slot);
+            }
+        }
+        slotJdbcRepository.insertAll(accepted);
+        slotCalendar.put(accepted);
+        dashboardCounters.slotsAdded(accepted);
+        panelRollup.slotsChanged(accepted);
+        log.info("Created {} slots, skipped {} overlapping slots", accepted.size(), conflicts.size());
+
+        return SlotSeriesResponseDto.builder()
+                .requested(generated.size())
+                .created(accepted.size())
+                .skipped(conflicts.size())
+                .slots(accepted.stream().map(this::toResponse).toList())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    private void validate(SlotSeriesRequestDto request) {
+        if (request.getPanelistId() == null || request.getStartDate() == null
+                || request.getDayStartTime() == null || request.getDayEndTime() == null) {
+            throw new CustomException("Panelist, start date and daily start/end time are required.", HttpStatus.BAD_REQUEST);
+        }
+        if (request.getWeeks() == null || request.getWeeks() < 1 || request.getWeeks() > MAX_WEEKS) {
+            throw new CustomException("Weeks must be between 1 and " + MAX_WEEKS + ".", HttpStatus.BAD_REQUEST);
+        }
+        if (request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty()) {
+            throw new CustomException("At least one day of week is required.", HttpStatus.BAD_REQUEST);
+        }
+        if (!request.getDayStartTime().isBefore(request.getDayEndTime())) {
+            throw new CustomException("Slot end time must be after start time.", HttpStatus.BAD_REQUEST);
+        }
+        if (request.getSlotDurationMinutes() == null || request.getSlotDurationMinutes() <= 0) {
+            throw new CustomException("Slot duration must be positive.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Expands the rule into back-to-back slots in start order. A trailing piece shorter than the slot
+     * duration is not created.
+     */
+    static List<Slot> expand(SlotSeriesRequestDto request) {
+        String createdBy = UserContext.getUserName();
+        LocalDateTime now = LocalDateTime.now();
+        List<Slot> slots = new ArrayList<>();
+        LocalDate end = request.getStartDate().plusWeeks(request.getWeeks());
+        for (LocalDate date = request.getStartDate(); date.isBefore(end); date = date.plusDays(1)) {
+            if (!request.getDaysOfWeek().contains(date.getDayOfWeek())) {
+                continue;
+            }
+            LocalDateTime dayEnd = date.atTime(request.getDayEndTime());
+            LocalDateTime start = date.atTime(request.getDayStartTime());
+            LocalDateTime slotEnd = start.plusMinutes(request.getSlotDurationMinutes());
+            while (!slotEnd.isAfter(dayEnd)) {
+                slots.add(Slot.builder()
+                        .panelistId(request.getPanelistId())
+                        .startTime(start)
+                        .endTime(slotEnd)
+                        .status(SlotStatus.UNBOOKED.toString())
+                        .isDeleted(false)
+                        .createdBy(createdBy)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .version(0L)
+                        .build());
+                start = slotEnd;
+                slotEnd = start.plusMinutes(request.getSlotDurationMinutes());
+                if (slots.size() > MAX_SERIES_SLOTS) {
+                    return slots;
+                }
+            }
+        }
+        return slots;
+    }
+
+    private SlotResponseDto toResponse(Slot slot) {
+        SlotResponseDto res = new SlotResponseDto();
+        res.setSlotId(slot.getSlotId());
+        res.setPanelistId(slot.getPanelistId());
+        res.setStartTime(slot.getStartTime());
+        res.setEndTime(slot.getEndTime());
+        res.setStatus(slot.getStatus());
+        return res;
+    }
+}
@@ -1,23 +1,37 @@
 package com.ibs.interview_scheduler.service;
 
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
 import com.ibs.interview_scheduler.cache.UserCacheService;
 import com.ibs.interview_scheduler.context.UserContext;
+import com.ibs.interview_scheduler.dtos.projection.SlotView;
 import com.ibs.interview_scheduler.dtos.requestDto.SlotRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CommonAvailabilityResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
-import com.ibs.interview_scheduler.dtos.responseDto.SlotSummaryResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
 import com.ibs.interview_scheduler.entity.Slot;
 import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
 import com.ibs.interview_scheduler.exception.CustomException;
 import com.ibs.interview_scheduler.repository.SlotRepository;
+import com.ibs.interview_scheduler.utils.FreeWindows;
+import com.ibs.interview_scheduler.utils.PageCursor;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +41,12 @@ public class SlotService {
 
     private final SlotRepository slotRepository;
     private final UserCacheService userCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotCalendar slotCalendar;
+    private final DashboardCounters dashboardCounters;
+    private final PanelRollup panelRollup;
+
+    private static final Duration MAX_AVAILABILITY_RANGE = Duration.ofDays(31);
 
     public SlotResponseDto createSlot(SlotRequestDto request) {
         log.info("Creating slot{}", request);
@@ -49,7 +69,11 @@ public class SlotService {
                     .createdAt(LocalDateTime.now())
                     .updatedAt(LocalDateTime.now())
                     .status(SlotStatus.UNBOOKED.toString()).build();
-            return toResponse(slotRepository.save(slot), null);
+            Slot saved = slotRepository.save(slot);
+            slotCalendar.put(List.of(saved));
+            dashboardCounters.slotsAdded(List.of(saved));
+            panelRollup.slotsChanged(List.of(saved));
+            return toResponse(saved, null);
         } catch (CustomException e) {
             throw new RuntimeException(e);
         }
@@ -72,11 +96,17 @@ public class SlotService {
         try {
             log.info("Updating slot by id ,{}", slotId);
             Slot slot = slotRepository.findById(slotId).orElseThrow(() -> new RuntimeException("Slot not found"));
+            Slot before = Slot.builder().slotId(slotId).panelistId(slot.getPanelistId())
+                    .startTime(slot.getStartTime()).endTime(slot.getEndTime()).build();
             slot.setStartTime(request.getStartTime());
             slot.setEndTime(request.getEndTime());
             slot.setUpdatedAt(LocalDateTime.now());
             slot.setUpdatedBy(UserContext.getUserName());
-            return toResponse(slotRepository.save(slot), null);
+            Slot saved = slotRepository.save(slot);
+            slotCalendar.remove(List.of(before));
+            slotCalendar.put(List.of(saved));
+            panelRollup.slotsChanged(List.of(before, saved));
+            return toResponse(saved, null);
         } catch (RuntimeException e) {
             log.error("Exception occurred at updateSlot ,{}", e.getMessage());
             throw new RuntimeException(e);
@@ -90,6 +120,9 @@ public class SlotService {
         slot.setUpdatedBy(UserContext.getUserName());
         slot.setUpdatedAt(LocalDateTime.now());
         slotRepository.save(slot);
+        slotCalendar.remove(List.of(slot));
+        dashboardCounters.slotsRemoved(List.of(slot));
+        panelRollup.slotsChanged(List.of(slot));
     }
 
     private SlotResponseDto toResponse(Slot slot, Map<Integer, String> userList) {
@@ -105,6 +138,11 @@ public class SlotService {
         return res;
     }
 
+    private SlotResponseDto toResponse(SlotView slot, Map<Integer, String> userList) {
+        return new SlotResponseDto(slot.slotId(), slot.panelistId(), slot.startTime(), slot.endTime(), slot.status(),
+                null, userList != null ? userList.get(slot.panelistId()) : null);
+    }
+
     /**
      *
      * @param startTime slot start time
@@ -114,7 +152,7 @@ public class SlotService {
     public List<SlotResponseDto> getOverLappingSlot(LocalDateTime startTime, LocalDateTime endTime) {
         log.info("Fetching available slots in a time period");
         Map<Integer, String> userList = userCacheService.getUserIdNameMap();
-        List<Slot> slotsList = slotRepository.findAvailablePanelistIdsInSlot(startTime, endTime);
+        List<SlotView> slotsList = slotRepository.findAvailableSlotViewsInRange(startTime, endTime);
         return slotsList.stream().map(slot -> toResponse(slot, userList)).toList();
     }
 
@@ -126,44 +164,137 @@ public class SlotService {
     public List<SlotResponseDto> getAllSlotsByPanelID(Integer panelId) {
         log.info("Fetching all slots for a panel");
         Map<Integer, String> userList = userCacheService.getUserIdNameMap();
-        List<Slot> panelSlot = slotRepository.findActiveSlotsByPanelistId(panelId);
+        List<SlotView> panelSlot = slotRepository.findActiveSlotsByPanelistId(panelId);
         return panelSlot.stream().map(slot -> toResponse(slot, userList)).toList();
     }
 
     /**
-     * Method used to update slot status while creating an interview
+     * Windows in which every requested panelist has an UNBOOKED slot, found with one query and a
+     * k-way sweep over each panelist's slots.
      *
-     * @param slotId slotId of the slot
-     * @param booked String value ,BOOKED
+     * @param panelistIds        panelists that must all be free
+     * @param from               start of the search range
+     * @param to                 end of the search range
+     * @param minDurationMinutes shortest window to return
+     * @return common windows in start order
      */
-    public void updateSlotStatus(Integer slotId, String booked) {
-        log.info("Updating slot status with status, BOOKED");
-        Slot slot = slotRepository.findById(slotId).orElseThrow(() -> new RuntimeException("Slot not found"));
-        slot.setStatus(booked);
-        slot.setUpdatedAt(LocalDateTime.now());
-        slot.setUpdatedBy(UserContext.getUserName());
+    public List<CommonAvailabilityResponseDto> getCommonAvailability(List<Integer> panelistIds, LocalDateTime from,
+                                                                     LocalDateTime to, int minDurationMinutes) {
+        log.info("Finding common availability for panelists {} between {} and {}", panelistIds, from, to);
+        if (panelistIds == null || panelistIds.isEmpty()) {
+            throw new CustomException("At least one panelist is required.", HttpStatus.BAD_REQUEST);
+        }
+        if (!from.isBefore(to) || minDurationMinutes <= 0) {
+            throw new CustomException("Range end must be after start and minimum duration must be positive.", HttpStatus.BAD_REQUEST);
+        }
+        if (Duration.between(from, to).compareTo(MAX_AVAILABILITY_RANGE) > 0) {
+            throw new CustomException("Range must not exceed " + MAX_AVAILABILITY_RANGE.toDays() + " days.", HttpStatus.BAD_REQUEST);
+        }
+        Set<Integer> distinctIds = new LinkedHashSet<>(panelistIds);
+        // the query is ordered by start time, so every group stays sorted
+        Map<Integer, List<Slot>> slotsByPanelist = slotRepository.findFreeSlotsOverlapping(distinctIds, from, to).stream()
+                .collect(Collectors.groupingBy(Slot::getPanelistId));
+        if (slotsByPanelist.size() < distinctIds.size()) {
+            return List.of();
+        }
+        List<Integer> panelists = List.copyOf(distinctIds);
+        return FreeWindows.common(slotsByPanelist.values(), from, to, Duration.ofMinutes(minDurationMinutes)).stream()
+                .map(window -> new CommonAvailabilityResponseDto(window.start(), window.end(),
+                        Duration.between(window.start(), window.end()).toMinutes(), panelists))
+                .toList();
     }
 
     /**
+     * Panelists whose free slots cover the whole window. Answered from the slot calendar when it covers
+     * the window, otherwise from the UNBOOKED slots overlapping it.
      *
-     * @param panelId
-     * @return SlotSummaryResponseDto
+     * @param startTime window start
+     * @param endTime   window end
+     * @return panelist ids in ascending order
      */
-    public SlotSummaryResponseDto getSlotSummary(Integer panelId) {
-        log.info("Fetching slot summary for panel dashboard");
-        try {
-            int totalSlotsThisMonth = slotRepository.countTotalSlotsThisMonth(panelId);
-            int appliedSlots = slotRepository.countAppliedSlotsThisMonth(panelId);
-
-            return SlotSummaryResponseDto.builder()
-                    .totalSlotsThisMonth(totalSlotsThisMonth)
-                    .appliedSlots(appliedSlots)
-                    .weeklyPlanSlots(2) // static for now
-                    .build();
-        } catch (Exception e) {
-            log.error("Error occurred at getSlotSummary");
-            throw new RuntimeException(e);
+    public List<Integer> getFreePanelists(LocalDateTime startTime, LocalDateTime endTime) {
+        log.info("Fetching panelists free between {} and {}", startTime, endTime);
+        if (!startTime.isBefore(endTime)) {
+            throw new CustomException("Slot end time must be after start time.", HttpStatus.BAD_REQUEST);
         }
+        if (slotCalendar.covers(startTime, endTime)) {
+            return slotCalendar.freePanelists(startTime, endTime).stream().sorted().toList();
+        }
+        Duration window = Duration.between(startTime, endTime);
+        return slotRepository.findAvailablePanelistIdsInSlot(startTime, endTime).stream()
+                .collect(Collectors.groupingBy(Slot::getPanelistId))
+                .entrySet().stream()
+                .filter(entry -> !FreeWindows.common(List.of(entry.getValue()), startTime, endTime, window).isEmpty())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Moves every slot that is still in {@code from} to {@code to} with a single conditional update
+     * and publishes one {@link SlotsTransitionedEvent} for the whole set.
+     *
+     * @param slotIds slot ids
+     * @param from    expected current status
+     * @param to      new status
+     * @return number of slots moved
+     */
+    @Transactional
+    public int transitionSlots(Collection<Integer> slotIds, SlotStatus from, SlotStatus to) {
+        Set<Integer> distinctIds = new LinkedHashSet<>(slotIds);
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
+        String updatedBy = UserContext.getUserName();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = slotRepository.transitionStatus(distinctIds, from.toString(), to.toString(), updatedBy, now);
+        log.info("Moved {} of {} slots from {} to {}", updated, distinctIds.size(), from, to);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new SlotsTransitionedEvent(List.copyOf(distinctIds), from, to, updated, updatedBy, now));
+        }
+        return updated;
+    }
+
+    /**
+     * Atomically books slots that are still UNBOOKED. When another booking took any of them first the
+     * affected-row count comes back short and a CONFLICT is raised, so the caller's transaction rolls back
+     * every reservation it made.
+     *
+     * @param slotIds slot ids to book
+     * @return number of slots booked
+     */
+    @Transactional
+    public int reserveSlots(Collection<Integer> slotIds) {
+        Set<Integer> distinctIds = new LinkedHashSet<>(slotIds);
+        log.info("Reserving slots {}", distinctIds);
+        int reserved = transitionSlots(distinctIds, SlotStatus.UNBOOKED, SlotStatus.BOOKED);
+        if (reserved != distinctIds.size()) {
+            log.warn("Only {} of {} slots could be reserved", reserved, distinctIds.size());
+            throw new CustomException("One or more slots were booked by another request.", HttpStatus.CONFLICT);
+        }
+        return reserved;
+    }
+
+    /**
+     * Soft deletes many slots with a single statement
+     *
+     * @param slotIds slot ids
+     * @return number of slots deleted
+     */
+    @Transactional
+    public int deleteSlots(Collection<Integer> slotIds) {
+        Set<Integer> distinctIds = new LinkedHashSet<>(slotIds);
+        log.info("Deleting slots {}", distinctIds);
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
+        List<Slot> slots = slotRepository.findAllById(distinctIds);
+        int deleted = slotRepository.softDeleteBySlotIds(distinctIds, UserContext.getUserName(), LocalDateTime.now());
+        slotCalendar.remove(slots);
+        // only slots that were still live were loaded, the same ones the update deleted
+        dashboardCounters.slotsRemoved(slots);
+        panelRollup.slotsChanged(slots);
+        return deleted;
     }
 
     /**
@@ -192,8 +323,27 @@ public class SlotService {
     public List<SlotResponseDto> getAllAvailableSlots() {
         log.info("Fetching all available slots");
         Map<Integer, String> userList = userCacheService.getUserIdNameMap();
-        return slotRepository.findAll().stream()
-                .filter(s -> !s.getIsDeleted()).filter(s -> s.getStatus().equals("UNBOOKED"))
+        return slotRepository.findByStatusOrderByStartTimeAsc(SlotStatus.UNBOOKED.toString()).stream()
                 .map(slot -> toResponse(slot, userList)).toList();
     }
+
+    /**
+     * One keyset page of slots ordered by start time and id.
+     *
+     * @param cursor     cursor from the previous page, null for the first page
+     * @param limit      page size
+     * @param panelistId optional panelist filter
+     * @param status     optional status filter
+     * @param from       optional lower bound on start time
+     * @return page of slots
+     */
+    public CursorPageResponseDto<SlotResponseDto> getSlotPage(String cursor, int limit, Integer panelistId,
+                                                              String status, LocalDateTime from) {
+        log.info("Fetching slot page of {} after cursor {}", limit, cursor);
+        PageCursor.Position after = PageCursor.decode(cursor);
+        List<Slot> rows = slotRepository.findPageAfter(panelistId, status, from, after.startTime(), after.id(),
+                PageCursor.probe(limit));
+        Map<Integer, String> userList = userCacheService.getUserIdNameMap();
+        return PageCursor.toPage(rows, limit, slot -> toResponse(slot, userList), Slot::getStartTime, Slot::getSlotId);
+    }
 }
@@ -0,0 +1,122 @@
+package com.ibs.interview_scheduler.utils;
+
+import com.ibs.interview_scheduler.entity.Slot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the windows in which every panelist of a group has a free slot.
+ */
+public class FreeWindows {
+
+    private FreeWindows() {}
+
+    public record Window(LocalDateTime start, LocalDateTime end) {}
+
+    /**
+     * Merges each panelist's start-sorted slots into disjoint runs, then sweeps the k runs with a heap
+     * of cursors. A window is open while all k panelists are free, so the cost is O(n log k) for n slots.
+     *
+     * @param slotsByPanelist free slots of each panelist, sorted by start time
+     * @param from            start of the search range
+     * @param to              end of the search range
+     * @param minDuration     shortest window worth returning
+     * @return common windows in start order
+     */
+    public static List<Window> common(Collection<List<Slot>> slotsByPanelist, LocalDateTime from,
+                                      LocalDateTime to, Duration minDuration) {
+        int k = slotsByPanelist.size();
+        if (k == 0) {
+            return List.of();
+        }
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(k,
+                Comparator.comparing(Cursor::time).thenComparing(Cursor::isStart));
+        for (List<Slot> slots : slotsByPanelist) {
+            List<Window> runs = merge(slots, from, to);
+            if (runs.isEmpty()) {
+                return List.of();
+            }
+            cursors.add(new Cursor(runs));
+        }
+
+        List<Window> windows = new ArrayList<>();
+        int free = 0;
+        LocalDateTime open = null;
+        while (!cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            // ends sort before starts at the same instant, so back-to-back runs never form an empty window
+            if (cursor.isStart()) {
+                if (++free == k) {
+                    open = cursor.time();
+                }
+            } else if (free-- == k && Duration.between(open, cursor.time()).compareTo(minDuration) >= 0) {
+                windows.add(new Window(open, cursor.time()));
+            }
+            if (!cursor.advance()) {
+                // this panelist has no more free time, so no later window can include everyone
+                break;
+            }
+            cursors.add(cursor);
+        }
+        return windows;
+    }
+
+    private static List<Window> merge(List<Slot> slots, LocalDateTime from, LocalDateTime to) {
+        List<Window> runs = new ArrayList<>();
+        LocalDateTime runStart = null;
+        LocalDateTime runEnd = null;
+        for (Slot slot : slots) {
+            if (slot.getStartTime() == null || slot.getEndTime() == null) {
+                continue;
+            }
+            LocalDateTime start = slot.getStartTime().isBefore(from) ? from : slot.getStartTime();
+            LocalDateTime end = slot.getEndTime().isAfter(to) ? to : slot.getEndTime();
+            if (!start.isBefore(end)) {
+                continue;
+            }
+            if (runEnd != null && !start.isAfter(runEnd)) {
+                if (end.isAfter(runEnd)) {
+                    runEnd = end;
+                }
+                continue;
+            }
+            if (runEnd != null) {
+                runs.add(new Window(runStart, runEnd));
+            }
+            runStart = start;
+            runEnd = end;
+        }
+        if (runEnd != null) {
+            runs.add(new Window(runStart, runEnd));
+        }
+        return runs;
+    }
+
+    private static final class Cursor {
+        private final List<Window> runs;
+        private int event;
+
+        private Cursor(List<Window> runs) {
+            this.runs = runs;
+        }
+
+        private LocalDateTime time() {
+            Window run = runs.get(event / 2);
+            return isStart() ? run.start() : run.end();
+        }
+
+        private boolean isStart() {
+            return event % 2 == 0;
+        }
+
+        private boolean advance() {
+            return ++event < runs.size() * 2;
+        }
+    }
+}
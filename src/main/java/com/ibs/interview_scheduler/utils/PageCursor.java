@@ -0,0 +1,86 @@
+package com.ibs.interview_scheduler.utils;
+
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
+import com.ibs.interview_scheduler.exception.CustomException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor over (start_time, id). Pages are read with
+ * {@code startTime > :afterStart OR (startTime = :afterStart AND id > :afterId)} so each page is an
+ * index range scan no matter how deep the client has paged.
+ */
+public class PageCursor {
+
+    public static final int MAX_LIMIT = 500;
+
+    // sorts before every stored start time, used for the first page
+    private static final Position FIRST = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    private PageCursor() {}
+
+    public record Position(LocalDateTime startTime, Integer id) {}
+
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)), Integer.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException("Invalid page cursor.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public static String encode(LocalDateTime startTime, Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startTime + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     *
+     * @param limit requested page size
+     * @return one row more than the page size, the extra row tells whether another page exists
+     */
+    public static Pageable probe(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new CustomException("Limit must be between 1 and " + MAX_LIMIT + ".", HttpStatus.BAD_REQUEST);
+        }
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     *
+     * @param rows      rows read with {@link #probe(int)}
+     * @param limit     page size
+     * @param mapper    row to response mapper
+     * @param startTime row start time
+     * @param id        row id
+     * @return page with the cursor of its last row when more rows follow
+     */
+    public static <E, T> CursorPageResponseDto<T> toPage(List<E> rows, int limit, Function<E, T> mapper,
+                                                         Function<E, LocalDateTime> startTime, Function<E, Integer> id) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            E last = page.get(page.size() - 1);
+            nextCursor = encode(startTime.apply(last), id.apply(last));
+        }
+        return CursorPageResponseDto.<T>builder()
+                .items(page.stream().map(mapper).toList())
+                .limit(limit)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
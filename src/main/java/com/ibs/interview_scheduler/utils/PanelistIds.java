@@ -0,0 +1,52 @@
+package com.ibs.interview_scheduler.utils;
+
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Conversions for the comma-separated panelist id column stored on interviews.
+ */
+public class PanelistIds {
+
+    private PanelistIds() {}
+
+    public static List<Integer> parse(String panelistIds) {
+        if (panelistIds == null || panelistIds.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(panelistIds.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    public static String join(Collection<Integer> panelistIds) {
+        return panelistIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     *
+     * @param interview saved interview
+     * @return one interview_panelist row per panelist of the interview
+     */
+    public static List<InterviewPanelist> toPanelistRows(Interview interview) {
+        return parse(interview.getPanelistIds()).stream()
+                .distinct()
+                .map(panelistId -> InterviewPanelist.builder()
+                        .interviewId(interview.getInterviewId())
+                        .panelistId(panelistId)
+                        .startTime(interview.getStartTime())
+                        .endTime(interview.getEndTime())
+                        .build())
+                .toList();
+    }
+}
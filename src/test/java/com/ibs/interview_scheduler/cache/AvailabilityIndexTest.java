@@ -0,0 +1,144 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class AvailabilityIndexTest {
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    @InjectMocks
+    private AvailabilityIndex availabilityIndex;
+
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        start = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    // -------------------- warmUp --------------------
+    @Test
+    void warmUp_shouldIndexActiveInterviews() {
+        when(interviewRepository.findByIsDeletedFalseAndEndTimeAfter(any()))
+                .thenReturn(List.of(interview(1, 10, "3,4", start, start.plusHours(1))));
+
+        availabilityIndex.warmUp();
+
+        assertThat(availabilityIndex.covers(start)).isTrue();
+        assertThat(availabilityIndex.isCandidateBusy(10, start.plusMinutes(30), start.plusHours(2))).isTrue();
+        assertThat(availabilityIndex.isPanelistBusy(3, start, start.plusHours(1))).isTrue();
+        assertThat(availabilityIndex.isPanelistBusy(4, start.minusHours(1), start.plusMinutes(1))).isTrue();
+    }
+
+    @Test
+    void warmUp_shouldNotCoverAnythingWhenRepositoryFails() {
+        when(interviewRepository.findByIsDeletedFalseAndEndTimeAfter(any())).thenThrow(new RuntimeException("DB down"));
+
+        availabilityIndex.warmUp();
+
+        assertThat(availabilityIndex.covers(start)).isFalse();
+    }
+
+    @Test
+    void covers_shouldBeFalseForWindowsBeforeWarmUp() {
+        when(interviewRepository.findByIsDeletedFalseAndEndTimeAfter(any())).thenReturn(List.of());
+
+        availabilityIndex.warmUp();
+
+        assertThat(availabilityIndex.covers(LocalDateTime.now().minusDays(1))).isFalse();
+    }
+
+    // -------------------- isPanelistBusy --------------------
+    @Test
+    void isPanelistBusy_shouldNotMatchPanelistIdsThatOnlyShareDigits() {
+        availabilityIndex.put(interview(1, 10, "11,21", start, start.plusHours(1)));
+
+        assertThat(availabilityIndex.isPanelistBusy(1, start, start.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isPanelistBusy(11, start, start.plusHours(1))).isTrue();
+    }
+
+    @Test
+    void isPanelistBusy_shouldAllowBackToBackInterviews() {
+        availabilityIndex.put(interview(1, 10, "3", start, start.plusHours(1)));
+
+        assertThat(availabilityIndex.isPanelistBusy(3, start.plusHours(1), start.plusHours(2))).isFalse();
+        assertThat(availabilityIndex.isPanelistBusy(3, start.minusHours(1), start)).isFalse();
+    }
+
+    // -------------------- put / remove --------------------
+    @Test
+    void put_shouldReplacePreviousTimeOnReschedule() {
+        availabilityIndex.put(interview(1, 10, "3", start, start.plusHours(1)));
+        availabilityIndex.put(interview(1, 10, "5", start.plusDays(1), start.plusDays(1).plusHours(1)));
+
+        assertThat(availabilityIndex.isPanelistBusy(3, start, start.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isCandidateBusy(10, start, start.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isPanelistBusy(5, start.plusDays(1), start.plusDays(1).plusMinutes(15))).isTrue();
+    }
+
+    @Test
+    void remove_shouldFreePanelistsAndCandidate() {
+        availabilityIndex.put(interview(1, 10, "3,4", start, start.plusHours(1)));
+
+        availabilityIndex.remove(1);
+
+        assertThat(availabilityIndex.isCandidateBusy(10, start, start.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isPanelistBusy(3, start, start.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isPanelistBusy(4, start, start.plusHours(1))).isFalse();
+    }
+
+    @Test
+    void put_shouldIgnoreDeletedInterviews() {
+        Interview deleted = interview(1, 10, "3", start, start.plusHours(1));
+        deleted.setIsDeleted(true);
+
+        availabilityIndex.put(deleted);
+
+        assertThat(availabilityIndex.isPanelistBusy(3, start, start.plusHours(1))).isFalse();
+    }
+
+    // -------------------- evictEnded --------------------
+    @Test
+    void evictEnded_shouldDropEndedInterviewsAndMoveHorizon() {
+        LocalDateTime past = LocalDateTime.now().minusHours(3);
+        when(interviewRepository.findByIsDeletedFalseAndEndTimeAfter(any())).thenReturn(List.of());
+        availabilityIndex.warmUp();
+        availabilityIndex.put(interview(1, 10, "3", past, past.plusHours(1)));
+        availabilityIndex.put(interview(2, 11, "3", start, start.plusHours(1)));
+
+        availabilityIndex.evictEnded();
+
+        assertThat(availabilityIndex.isPanelistBusy(3, past, past.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isCandidateBusy(10, past, past.plusHours(1))).isFalse();
+        assertThat(availabilityIndex.isPanelistBusy(3, start, start.plusHours(1))).isTrue();
+        assertThat(availabilityIndex.covers(past)).isFalse();
+        assertThat(availabilityIndex.covers(start)).isTrue();
+    }
+
+    // -------------------- helpers --------------------
+    private Interview interview(int id, int candidateId, String panelistIds, LocalDateTime from, LocalDateTime to) {
+        return Interview.builder()
+                .interviewId(id)
+                .candidateId(candidateId)
+                .panelistIds(panelistIds)
+                .startTime(from)
+                .endTime(to)
+                .isDeleted(false)
+                .build();
+    }
+}
@@ -0,0 +1,269 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
+import com.ibs.interview_scheduler.dtos.projection.IdCount;
+import com.ibs.interview_scheduler.entity.DashboardCounter;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.events.DashboardDeltaEvent;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
+import com.ibs.interview_scheduler.repository.DashboardCounterRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class DashboardCountersTest {
+
+    @Mock private InterviewRepository interviewRepository;
+    @Mock private SlotRepository slotRepository;
+    @Mock private DashboardCounterRepository counterRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        counters = new DashboardCounters(interviewRepository, slotRepository, counterRepository, meterRegistry, eventPublisher, 5);
+        when(slotRepository.countGroupedByStatus()).thenReturn(List.of(new GroupCount("UNBOOKED", 4L), new GroupCount("BOOKED", 2L)));
+        when(interviewRepository.countByResult()).thenReturn(List.of(new GroupCount("SELECTED", 3L), new GroupCount("PENDING", 1L)));
+        when(interviewRepository.countByCandidate()).thenReturn(List.of(new IdCount(10, 2L)));
+        when(slotRepository.countByPanelist()).thenReturn(List.of(new IdCount(20, 6L)));
+    }
+
+    @Test
+    void totals_shouldBeEmptyUntilLoaded() {
+        assertThat(counters.totals()).isEmpty();
+        assertThat(counters.coverageLoaded()).isFalse();
+    }
+
+    @Test
+    void reconcile_shouldLoadTotalsAndCoverage() {
+        counters.reconcile();
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(4, 3, 0));
+        assertThat(counters.coverageLoaded()).isTrue();
+        assertThat(counters.hasInterviews(10)).isTrue();
+        assertThat(counters.hasInterviews(11)).isFalse();
+        assertThat(counters.hasSlots(20)).isTrue();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void mutations_shouldAdjustCounters() {
+        counters.reconcile();
+
+        counters.slotsAdded(List.of(slot(21), slot(21)));
+        counters.onSlotsTransitioned(transitioned(SlotStatus.UNBOOKED, SlotStatus.BOOKED, 1));
+        counters.onSlotsTransitioned(transitioned(SlotStatus.UNBOOKED, SlotStatus.BOOKED, 2));
+        counters.interviewsAdded(List.of(Interview.builder().candidateId(11).result("PENDING").build()));
+        counters.interviewResultChanged("PENDING", "REJECTED");
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(3, 3, 1));
+        assertThat(counters.hasSlots(21)).isTrue();
+        assertThat(counters.hasInterviews(11)).isTrue();
+    }
+
+    @Test
+    void mutations_shouldPublishHrDeltas() {
+        counters.reconcile();
+        Interview interview = Interview.builder().candidateId(11).result("SELECTED").build();
+
+        counters.slotsAdded(List.of(slot(21), slot(21)));
+        counters.onSlotsTransitioned(transitioned(SlotStatus.UNBOOKED, SlotStatus.BOOKED, 1));
+        counters.interviewsAdded(List.of(interview));
+        // PENDING and ON_HOLD are not on the HR dashboard
+        counters.interviewResultChanged("PENDING", "ON_HOLD");
+
+        ArgumentCaptor<DashboardDeltaEvent> events = ArgumentCaptor.forClass(DashboardDeltaEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(DashboardDeltaEvent::getCounters, DashboardDeltaEvent::getAddedInterviews)
+                .containsExactly(
+                        tuple(Map.of("availableSlots", 2L), List.of()),
+                        tuple(Map.of("availableSlots", -1L), List.of()),
+                        tuple(Map.of("selected", 1L), List.of(interview)));
+    }
+
+    @Test
+    void mutations_shouldWaitForCommit() {
+        counters.reconcile();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.slotsAdded(List.of(slot(30)));
+
+            assertThat(counters.totals()).contains(new DashboardCounters.Totals(4, 3, 0));
+            verifyNoInteractions(eventPublisher);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(5, 3, 0));
+    }
+
+    @Test
+    void reconcile_shouldResetDriftedCountersAndRecordDrift() {
+        counters.reconcile();
+        // a change the tables never saw, as if an update had been lost
+        counters.onSlotsTransitioned(transitioned(SlotStatus.BOOKED, SlotStatus.UNBOOKED, 2));
+
+        counters.reconcile();
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(4, 3, 0));
+        assertThat(meterRegistry.get("dashboard.counters.last.drift").gauge().value()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("dashboard.counters.drift").tag("counter", "slots.status.UNBOOKED")
+                .summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    void restore_shouldServeCheckpointUntilFirstRecount() {
+        when(counterRepository.findAll()).thenReturn(List.of(
+                new DashboardCounter("slots.status.UNBOOKED", 9L, LocalDateTime.now()),
+                new DashboardCounter("interviews.result.REJECTED", 5L, LocalDateTime.now())));
+
+        counters.restore();
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(9, 0, 5));
+        assertThat(counters.coverageLoaded()).isFalse();
+        counters.reconcile();
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(4, 3, 0));
+    }
+
+    @Test
+    void restore_shouldNotOverwriteRecountedCounters() {
+        counters.reconcile();
+
+        counters.restore();
+
+        verify(counterRepository, never()).findAll();
+    }
+
+    @Test
+    void slotsRemoved_shouldLeaveNoDriftForTheNextRecount() {
+        counters.reconcile();
+        Slot booked = Slot.builder().panelistId(20).status(SlotStatus.BOOKED.toString()).build();
+
+        counters.slotsRemoved(List.of(slot(20), booked));
+        // the recount no longer sees the soft deleted slots
+        when(slotRepository.countGroupedByStatus()).thenReturn(List.of(new GroupCount("UNBOOKED", 3L), new GroupCount("BOOKED", 1L)));
+        when(slotRepository.countByPanelist()).thenReturn(List.of(new IdCount(20, 4L)));
+        counters.reconcile();
+
+        assertThat(meterRegistry.get("dashboard.counters.last.drift").gauge().value()).isZero();
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(3, 3, 0));
+        ArgumentCaptor<DashboardDeltaEvent> event = ArgumentCaptor.forClass(DashboardDeltaEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCounters()).isEqualTo(Map.of("availableSlots", -1L));
+    }
+
+    @Test
+    void interviewsRemoved_shouldDecrementCountersAndPublishRemoval() {
+        counters.reconcile();
+        Interview deleted = Interview.builder().candidateId(10).result("SELECTED").isDeleted(true).build();
+
+        counters.interviewsRemoved(List.of(deleted));
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(4, 2, 0));
+        ArgumentCaptor<DashboardDeltaEvent> event = ArgumentCaptor.forClass(DashboardDeltaEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCounters()).isEqualTo(Map.of("selected", -1L));
+        assertThat(event.getValue().getRemovedInterviews()).containsExactly(deleted);
+    }
+
+    @Test
+    void reconcile_shouldPublishResyncOnlyWhenHrCountersChange() {
+        counters.reconcile();
+        when(slotRepository.countByPanelist()).thenReturn(List.of(new IdCount(20, 7L)));
+        counters.reconcile();
+        verifyNoInteractions(eventPublisher);
+
+        when(interviewRepository.countByResult()).thenReturn(List.of(new GroupCount("SELECTED", 4L)));
+        counters.reconcile();
+
+        ArgumentCaptor<DashboardDeltaEvent> event = ArgumentCaptor.forClass(DashboardDeltaEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().isResync()).isTrue();
+        assertThat(event.getValue().getCounters()).isEmpty();
+    }
+
+    @Test
+    void slotsRemoved_shouldClearPanelistWithNoSlotsLeft() {
+        when(slotRepository.countByPanelist()).thenReturn(List.of(new IdCount(20, 1L)));
+        counters.reconcile();
+
+        counters.slotsRemoved(List.of(slot(20)));
+
+        assertThat(counters.hasSlots(20)).isFalse();
+    }
+
+    @Test
+    void reconcile_shouldFallBackToQueriesWhileDriftExceedsThreshold() {
+        counters.reconcile();
+        // another replica's bookings, which this one never saw
+        when(slotRepository.countGroupedByStatus()).thenReturn(List.of(new GroupCount("UNBOOKED", 0L), new GroupCount("BOOKED", 6L)));
+
+        counters.reconcile();
+
+        assertThat(counters.totals()).isEmpty();
+        assertThat(counters.coverageLoaded()).isFalse();
+
+        counters.reconcile();
+
+        assertThat(counters.totals()).contains(new DashboardCounters.Totals(0, 3, 0));
+        assertThat(counters.coverageLoaded()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldCheckpointRecountedValuesNotRunningTotals() {
+        counters.reconcile();
+        counters.slotsAdded(List.of(slot(21)));
+        when(interviewRepository.countByResult()).thenReturn(List.of(new GroupCount("PENDING", 4L)));
+
+        counters.reconcile();
+
+        ArgumentCaptor<List<DashboardCounter>> saved = ArgumentCaptor.forClass(List.class);
+        verify(counterRepository, times(2)).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(DashboardCounter::getName, DashboardCounter::getCounterValue)
+                .contains(tuple("slots.status.UNBOOKED", 4L),
+                        tuple("interviews.result.PENDING", 4L),
+                        tuple("interviews.result.SELECTED", 0L));
+    }
+
+    @Test
+    void reconcile_shouldNotCheckpointWhenRecountFails() {
+        when(slotRepository.countGroupedByStatus()).thenThrow(new RuntimeException("DB down"));
+
+        counters.reconcile();
+
+        verify(counterRepository, never()).saveAll(any());
+    }
+
+    private static Slot slot(int panelistId) {
+        return Slot.builder().panelistId(panelistId).status(SlotStatus.UNBOOKED.toString()).build();
+    }
+
+    private static SlotsTransitionedEvent transitioned(SlotStatus from, SlotStatus to, int affected) {
+        return new SlotsTransitionedEvent(List.of(1), from, to, affected, "hr", LocalDateTime.now());
+    }
+}
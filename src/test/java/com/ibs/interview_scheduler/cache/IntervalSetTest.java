@@ -0,0 +1,60 @@
+package com.ibs.interview_scheduler.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalSetTest {
+
+    private IntervalSet intervals;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        intervals = new IntervalSet();
+        base = LocalDateTime.of(2025, 1, 6, 9, 0);
+    }
+
+    @Test
+    void overlaps_shouldFindIntervalStartingBeforeProbe() {
+        intervals.add(1, base, base.plusHours(3));
+
+        assertThat(intervals.overlaps(base.plusHours(2), base.plusHours(4))).isTrue();
+    }
+
+    @Test
+    void overlaps_shouldTreatEndAsExclusive() {
+        intervals.add(1, base, base.plusHours(1));
+
+        assertThat(intervals.overlaps(base.plusHours(1), base.plusHours(2))).isFalse();
+        assertThat(intervals.overlaps(base.minusHours(1), base)).isFalse();
+    }
+
+    @Test
+    void overlaps_shouldFindShortIntervalAfterLongOne() {
+        intervals.add(1, base, base.plusMinutes(30));
+        intervals.add(2, base.plusHours(1), base.plusHours(6));
+        intervals.add(3, base.plusHours(8), base.plusHours(8).plusMinutes(15));
+
+        assertThat(intervals.overlaps(base.plusHours(5), base.plusHours(5).plusMinutes(10))).isTrue();
+        assertThat(intervals.overlaps(base.plusHours(7), base.plusHours(8))).isFalse();
+    }
+
+    @Test
+    void remove_shouldOnlyDropMatchingId() {
+        intervals.add(1, base, base.plusHours(1));
+        intervals.add(2, base, base.plusHours(1));
+
+        intervals.remove(1, base);
+
+        assertThat(intervals.size()).isEqualTo(1);
+        assertThat(intervals.overlaps(base, base.plusMinutes(5))).isTrue();
+
+        intervals.remove(2, base);
+
+        assertThat(intervals.isEmpty()).isTrue();
+    }
+}
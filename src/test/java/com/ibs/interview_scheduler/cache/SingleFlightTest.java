@@ -0,0 +1,96 @@
+package com.ibs.interview_scheduler.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_shouldRunOneLoaderForConcurrentCallers() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callTogether(() -> flight.load("users", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "loaded";
+        }), release);
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("singleflight.loads", "name", "test").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("singleflight.coalesced", "name", "test").count()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void load_shouldShareFailureAndRetryOnNextCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callTogether(() -> flight.load("users", () -> {
+            await(release);
+            throw new IllegalStateException("userservice down");
+        }), release);
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(flight.load("users", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void load_shouldNotCoalesceDifferentKeys() {
+        assertThat(flight.load("a", () -> "A")).isEqualTo("A");
+        assertThat(flight.load("b", () -> "B")).isEqualTo("B");
+        assertThat(meterRegistry.counter("singleflight.coalesced", "name", "test").count()).isZero();
+    }
+
+    /**
+     * Starts every caller, waits until the leader is loading and the others are parked on it, then
+     * lets the load finish.
+     */
+    private List<Future<String>> callTogether(Callable<String> call, CountDownLatch release) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("singleflight.coalesced", "name", "test").count() < CALLERS - 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ibs.interview_scheduler.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotBitmapTest {
+
+    @Test
+    void isFree_shouldRequireAvailableAndNotBookedAcrossWordBoundaries() {
+        SlotBitmap bitmap = new SlotBitmap(300);
+        bitmap.setAvailable(60, 200, true);
+
+        assertThat(bitmap.isFree(60, 200)).isTrue();
+        assertThat(bitmap.isFree(63, 129)).isTrue();
+        assertThat(bitmap.isFree(59, 70)).isFalse();
+        assertThat(bitmap.isFree(190, 201)).isFalse();
+
+        bitmap.setBooked(128, 130, true);
+        assertThat(bitmap.isFree(100, 128)).isTrue();
+        assertThat(bitmap.isFree(100, 129)).isFalse();
+
+        bitmap.setBooked(128, 130, false);
+        assertThat(bitmap.isFree(60, 200)).isTrue();
+    }
+
+    @Test
+    void setAvailable_shouldClearOnlyTheGivenRange() {
+        SlotBitmap bitmap = new SlotBitmap(128);
+        bitmap.setAvailable(0, 128, true);
+        bitmap.setAvailable(64, 65, false);
+
+        assertThat(bitmap.isFree(0, 64)).isTrue();
+        assertThat(bitmap.isFree(65, 128)).isTrue();
+        assertThat(bitmap.isFree(63, 66)).isFalse();
+        assertThat(bitmap.isFree(5, 5)).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+class SlotCalendarTest {
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    @InjectMocks
+    private SlotCalendar slotCalendar;
+
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        start = LocalDate.now().plusDays(1).atTime(10, 0);
+    }
+
+    // -------------------- rebuild --------------------
+    @Test
+    void rebuild_shouldMarkUnbookedSlotsFreeAndBookedSlotsBusy() {
+        when(slotRepository.findAllOverlapping(any(), any())).thenReturn(List.of(
+                slot(1, 3, start, start.plusHours(2), SlotStatus.UNBOOKED),
+                slot(2, 4, start, start.plusHours(1), SlotStatus.BOOKED),
+                slot(3, 5, start.plusMinutes(5), start.plusMinutes(50), SlotStatus.UNBOOKED)));
+
+        slotCalendar.rebuild();
+
+        assertThat(slotCalendar.covers(start, start.plusHours(1))).isTrue();
+        assertThat(slotCalendar.isFree(3, start.plusMinutes(30), start.plusHours(2))).isTrue();
+        assertThat(slotCalendar.isFree(3, start, start.plusHours(3))).isFalse();
+        assertThat(slotCalendar.isFree(4, start, start.plusMinutes(15))).isFalse();
+        // a slot that only partly covers a quantum does not make it free
+        assertThat(slotCalendar.isFree(5, start.plusMinutes(15), start.plusMinutes(45))).isTrue();
+        assertThat(slotCalendar.isFree(5, start, start.plusMinutes(15))).isFalse();
+        assertThat(slotCalendar.freePanelists(start.plusMinutes(15), start.plusMinutes(45))).containsExactlyInAnyOrder(3, 5);
+    }
+
+    @Test
+    void covers_shouldRejectUnalignedOrOutOfHorizonWindowsAndFailedBuilds() {
+        when(slotRepository.findAllOverlapping(any(), any())).thenThrow(new RuntimeException("DB down"));
+        slotCalendar.rebuild();
+        assertThat(slotCalendar.covers(start, start.plusHours(1))).isFalse();
+
+        doReturn(List.of()).when(slotRepository).findAllOverlapping(any(), any());
+        slotCalendar.rebuild();
+        assertThat(slotCalendar.covers(start, start.plusHours(1))).isTrue();
+        assertThat(slotCalendar.covers(start.plusMinutes(7), start.plusHours(1))).isFalse();
+        assertThat(slotCalendar.covers(start.minusDays(2), start)).isFalse();
+        assertThat(slotCalendar.covers(start, start.plusDays(SlotCalendar.HORIZON_DAYS))).isFalse();
+    }
+
+    // -------------------- mutations --------------------
+    @Test
+    void putAndRemove_shouldUpdateBitsOutsideTransactions() {
+        when(slotRepository.findAllOverlapping(any(), any())).thenReturn(List.of());
+        slotCalendar.rebuild();
+        Slot slot = slot(7, 3, start, start.plusHours(1), SlotStatus.UNBOOKED);
+
+        slotCalendar.put(List.of(slot));
+        assertThat(slotCalendar.isFree(3, start, start.plusHours(1))).isTrue();
+
+        slotCalendar.remove(List.of(slot));
+        assertThat(slotCalendar.isFree(3, start, start.plusHours(1))).isFalse();
+    }
+
+    @Test
+    void remove_shouldClearBookedBitsOfUnalignedSlotEdges() {
+        when(slotRepository.findAllOverlapping(any(), any())).thenReturn(List.of());
+        slotCalendar.rebuild();
+        Slot booked = slot(7, 3, start.plusMinutes(5), start.plusMinutes(50), SlotStatus.BOOKED);
+
+        slotCalendar.put(List.of(booked));
+        slotCalendar.remove(List.of(booked));
+        slotCalendar.put(List.of(slot(8, 3, start, start.plusHours(1), SlotStatus.UNBOOKED)));
+
+        assertThat(slotCalendar.isFree(3, start, start.plusHours(1))).isTrue();
+    }
+
+    @Test
+    void onSlotsTransitioned_shouldReloadSlotsAndApplyNewStatus() {
+        Slot slot = slot(7, 3, start, start.plusHours(1), SlotStatus.UNBOOKED);
+        when(slotRepository.findAllOverlapping(any(), any())).thenReturn(List.of(slot));
+        slotCalendar.rebuild();
+        when(slotRepository.findAllById(List.of(7))).thenReturn(List.of(slot(7, 3, start, start.plusHours(1), SlotStatus.BOOKED)));
+
+        slotCalendar.onSlotsTransitioned(new SlotsTransitionedEvent(List.of(7), SlotStatus.UNBOOKED, SlotStatus.BOOKED,
+                1, "hr", LocalDateTime.now()));
+
+        assertThat(slotCalendar.isFree(3, start, start.plusHours(1))).isFalse();
+        assertThat(slotCalendar.freePanelists(start, start.plusHours(1))).isEmpty();
+    }
+
+    private Slot slot(int id, int panelistId, LocalDateTime from, LocalDateTime to, SlotStatus status) {
+        return Slot.builder().slotId(id).panelistId(panelistId).startTime(from).endTime(to)
+                .status(status.toString()).isDeleted(false).build();
+    }
+}
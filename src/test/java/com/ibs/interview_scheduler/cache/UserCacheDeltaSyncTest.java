@@ -0,0 +1,138 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ibs.interview_scheduler.dtos.responseDto.UserChangesResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import com.ibs.interview_scheduler.feign.UserClient;
+import com.ibs.interview_scheduler.feign.UserDirectoryDecoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the sync against a stubbed user service over HTTP, through a real Feign client built from
+ * {@link UserClient}'s Spring MVC annotations.
+ */
+class UserCacheDeltaSyncTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final LocalDateTime t0 = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Object> allUsers = new AtomicReference<>();
+    private final AtomicReference<Object> changes = new AtomicReference<>();
+    private HttpServer server;
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/users/all", exchange -> respond(exchange, allUsers.get()));
+        server.createContext("/api/v1/users/changes", exchange -> respond(exchange, changes.get()));
+        server.start();
+
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(objectMapper);
+        UserClient userClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder(new UserDirectoryDecoder(new ResponseEntityDecoder(new SpringDecoder(() -> new HttpMessageConverters(converter)))))
+                .target(UserClient.class, "http://localhost:" + server.getAddress().getPort());
+        userCacheService = new UserCacheService(userClient, new SimpleMeterRegistry(), UserDirectorySnapshot.disabled());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void refreshUserCache_shouldReloadOnceThenOnlyPullChanges() {
+        allUsers.set(List.of(user(1, "Asha", t0), user(2, "Ravi", t0.plusMinutes(5))));
+        changes.set(new UserChangesResponseDto(List.of(user(2, "Ravi Kumar", t0.plusMinutes(9)), user(3, "Meera", t0.plusMinutes(9))),
+                List.of(1), t0.plusMinutes(9).toString(), false));
+
+        assertThat(userCacheService.getUserIdNameMap()).containsEntry(1, "Asha");
+        userCacheService.refreshUserCache();
+
+        assertThat(userCacheService.getUserIdNameMap())
+                .doesNotContainKey(1)
+                .containsEntry(2, "Ravi Kumar")
+                .containsEntry(3, "Meera");
+        assertThat(requests).containsExactly("/api/v1/users/all", "/api/v1/users/changes?since=2025-06-01T09:05");
+
+        changes.set(new UserChangesResponseDto(List.of(), List.of(), null, false));
+        userCacheService.refreshUserCache();
+
+        assertThat(requests).last().isEqualTo("/api/v1/users/changes?since=2025-06-01T09:09");
+        assertThat(requests).filteredOn(path -> path.startsWith("/api/v1/users/all")).hasSize(1);
+    }
+
+    @Test
+    void refreshUserCache_shouldReloadFullListOnTokenGap() {
+        allUsers.set(List.of(user(1, "Asha", t0)));
+        userCacheService.getDirectory();
+        allUsers.set(List.of(user(1, "Asha", t0), user(4, "Kiran", t0.plusDays(40))));
+        changes.set(new UserChangesResponseDto(List.of(), List.of(), null, true));
+
+        userCacheService.refreshUserCache();
+
+        assertThat(userCacheService.getUserIdNameMap()).containsEntry(4, "Kiran");
+        assertThat(requests).containsExactly("/api/v1/users/all", "/api/v1/users/changes?since=2025-06-01T09:00",
+                "/api/v1/users/all");
+    }
+
+    @Test
+    void refreshUserCache_shouldKeepDirectoryWhenDeltaCallFails() {
+        allUsers.set(List.of(user(1, "Asha", t0)));
+        UserDirectory before = userCacheService.getDirectory();
+        changes.set(null);
+
+        userCacheService.refreshUserCache();
+
+        assertThat(userCacheService.getDirectory()).isSameAs(before);
+    }
+
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        requests.add(exchange.getRequestURI().getPath() + (exchange.getRequestURI().getQuery() == null ? "" : "?" + exchange.getRequestURI().getQuery()));
+        if (body == null) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private UserResponseDTO user(int id, String name, LocalDateTime updatedAt) {
+        return new UserResponseDTO(id, "user" + id, "000", null, "user" + id + "@mail", name, true, 3, "PANEL",
+                updatedAt, updatedAt);
+    }
+}
@@ -1,15 +1,19 @@
 package com.ibs.interview_scheduler.cache;
 
+import com.ibs.interview_scheduler.dtos.responseDto.UserChangesResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
 import com.ibs.interview_scheduler.feign.UserClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -19,39 +23,63 @@ class UserCacheServiceTest {
     @Mock
     private UserClient userClient;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private UserCacheService userCacheService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userCacheService = new UserCacheService(userClient, meterRegistry, UserDirectorySnapshot.disabled());
     }
 
-    // -------------------- getAllUsers --------------------
     @Test
-    void getAllUsers_shouldReturnListFromFeignClient() {
-        UserResponseDTO user1 = new UserResponseDTO(1, "john_doe", "9876543210", "secret",
-                "john@example.com", "John Doe", true, 1, "ADMIN", null, null);
-        UserResponseDTO user2 = new UserResponseDTO(2, "jane_doe", "9876543211", "secret",
-                "jane@example.com", "Jane Doe", true, 2, "HR", null, null);
+    void warmUp_shouldSwallowUserServiceFailure() {
+        when(userClient.getUserDirectory()).thenThrow(new RuntimeException("Service down"));
 
-        when(userClient.getAllUsers()).thenReturn(List.of(user1, user2));
+        userCacheService.warmUp();
 
-        List<UserResponseDTO> result = userCacheService.getAllUsers();
+        assertThat(refreshes("full", "failure")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("users.directory.last.success.age").gauge().value()).isNaN();
+    }
+
+    // -------------------- directory refresh metrics --------------------
+    @Test
+    void refreshUserCache_shouldTimeAndCountFullAndDeltaLoads() {
+        UserResponseDTO user = new UserResponseDTO(1, "john", "123", "pwd",
+                "john@mail.com", "John Doe", true, 1, "ADMIN", null, LocalDateTime.of(2025, 6, 1, 9, 0));
+        when(userClient.getUserDirectory()).thenReturn(UserDirectory.of(List.of(user)));
+        when(userClient.getUserChanges(anyString())).thenReturn(new UserChangesResponseDto());
 
-        assertThat(result).hasSize(2);
-        assertThat(result).contains(user1, user2);
-        verify(userClient, times(1)).getAllUsers();
+        userCacheService.refreshUserCache();
+        userCacheService.refreshUserCache();
+        userCacheService.refreshUserCache();
+
+        assertThat(refreshes("full", "success")).isEqualTo(1.0);
+        assertThat(refreshes("delta", "success")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("users.directory.load").tags("type", "full", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.directory.load").tags("type", "delta", "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("users.directory.last.success.age").gauge().value()).isBetween(0.0, 5.0);
     }
 
-    // -------------------- fallbackGetAllUsers --------------------
     @Test
-    void fallbackGetAllUsers_shouldReturnEmptyList() {
-        Throwable throwable = new RuntimeException("Service down");
+    void refreshUserCache_shouldCountFailedDeltaAndKeepLastSuccessAge() {
+        UserResponseDTO user = new UserResponseDTO(1, "john", "123", "pwd",
+                "john@mail.com", "John Doe", true, 1, "ADMIN", null, LocalDateTime.of(2025, 6, 1, 9, 0));
+        when(userClient.getUserDirectory()).thenReturn(UserDirectory.of(List.of(user)));
+        when(userClient.getUserChanges(anyString())).thenThrow(new RuntimeException("Service down"));
 
-        List<UserResponseDTO> result = userCacheService.fallbackGetAllUsers(throwable);
+        userCacheService.refreshUserCache();
+        double ageAfterFull = meterRegistry.get("users.directory.last.success.age").gauge().value();
+        userCacheService.refreshUserCache();
 
-        assertThat(result).isEmpty();
+        assertThat(refreshes("delta", "failure")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("users.directory.load").tags("type", "delta", "outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.directory.last.success.age").gauge().value()).isGreaterThanOrEqualTo(ageAfterFull);
+        assertThat(userCacheService.getUserIdNameMap()).containsEntry(1, "John Doe");
+    }
+
+    private double refreshes(String type, String outcome) {
+        return meterRegistry.get("users.directory.refresh").tags("type", type, "outcome", outcome).counter().count();
     }
 
     // -------------------- getUserIdNameMap (when cache empty) --------------------
@@ -62,7 +90,7 @@ class UserCacheServiceTest {
         UserResponseDTO user2 = new UserResponseDTO(2, "jane_doe", "9876543211", "secret",
                 "jane@example.com", "Jane Doe", true, 2, "HR", null, null);
 
-        when(userClient.getAllUsers()).thenReturn(List.of(user1, user2));
+        when(userClient.getUserDirectory()).thenReturn(UserDirectory.of(List.of(user1, user2)));
 
         Map<Integer, String> result = userCacheService.getUserIdNameMap();
 
@@ -71,7 +99,38 @@ class UserCacheServiceTest {
                 .containsEntry(1, "John Doe")
                 .containsEntry(2, "Jane Doe");
 
-        verify(userClient, times(1)).getAllUsers();
+        verify(userClient, times(1)).getUserDirectory();
+    }
+
+    @Test
+    void getUserIdNameMap_shouldFetchOnceForConcurrentColdCallers() throws Exception {
+        UserResponseDTO user = new UserResponseDTO(1, "john", "123", "pwd",
+                "john@mail.com", "John Doe", true, 1, "ADMIN", null, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userClient.getUserDirectory()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return UserDirectory.of(List.of(user));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Map<Integer, String>>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(executor.submit(userCacheService::getUserIdNameMap));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Map<Integer, String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsEntry(1, "John Doe");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userClient, times(1)).getUserDirectory();
     }
 
     // -------------------- getUserIdNameMap (when cache already built) --------------------
@@ -80,7 +139,7 @@ class UserCacheServiceTest {
         // First call populates the cache
         UserResponseDTO user = new UserResponseDTO(1, "john", "123", "pwd",
                 "john@mail.com", "John Doe", true, 1, "ADMIN", null, null);
-        when(userClient.getAllUsers()).thenReturn(List.of(user));
+        when(userClient.getUserDirectory()).thenReturn(UserDirectory.of(List.of(user)));
         userCacheService.getUserIdNameMap();
 
         // Second call should not trigger userClient again
@@ -89,7 +148,7 @@ class UserCacheServiceTest {
         assertThat(result)
                 .hasSize(1)
                 .containsEntry(1, "John Doe");
-        verify(userClient, times(1)).getAllUsers(); // still only once
+        verify(userClient, times(1)).getUserDirectory(); // still only once
     }
 
     // -------------------- refreshUserCache --------------------
@@ -100,7 +159,7 @@ class UserCacheServiceTest {
         UserResponseDTO user2 = new UserResponseDTO(2, "jane", "456", "pwd",
                 "jane@mail.com", "Jane Doe", true, 2, "HR", null, null);
 
-        when(userClient.getAllUsers()).thenReturn(List.of(user1, user2));
+        when(userClient.getUserDirectory()).thenReturn(UserDirectory.of(List.of(user1, user2)));
 
         userCacheService.refreshUserCache();
 
@@ -110,6 +169,25 @@ class UserCacheServiceTest {
                 .hasSize(2)
                 .containsEntry(1, "John Doe")
                 .containsEntry(2, "Jane Doe");
-        verify(userClient, atLeastOnce()).getAllUsers();
+        verify(userClient, atLeastOnce()).getUserDirectory();
+    }
+
+    @Test
+    void refreshUserCache_shouldSwapSnapshotWithoutChangingEarlierOne() {
+        UserResponseDTO john = new UserResponseDTO(1, "john", "123", "pwd",
+                "john@mail.com", "John Doe", true, 1, "ADMIN", null, null);
+        UserResponseDTO jane = new UserResponseDTO(2, "jane", "456", "pwd",
+                "jane@mail.com", "Jane Doe", false, 2, "HR", null, null);
+        when(userClient.getUserDirectory()).thenReturn(UserDirectory.of(List.of(john)), UserDirectory.of(List.of(john, jane)));
+
+        UserDirectory before = userCacheService.getDirectory();
+        userCacheService.refreshUserCache();
+        UserDirectory after = userCacheService.getDirectory();
+
+        assertThat(before.size()).isEqualTo(1);
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.email(2)).isEqualTo("jane@mail.com");
+        assertThat(after.inactiveCount("HR")).isEqualTo(1);
+        verify(userClient, times(2)).getUserDirectory();
     }
 }
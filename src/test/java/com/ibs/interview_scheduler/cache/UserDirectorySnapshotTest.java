@@ -0,0 +1,137 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.dtos.responseDto.UserChangesResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import com.ibs.interview_scheduler.feign.UserClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserDirectorySnapshotTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2025, 3, 1, 10, 15, 30);
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void load_shouldReturnWhatWasSavedWithoutSecrets() {
+        UserDirectorySnapshot snapshot = new UserDirectorySnapshot(dir.resolve("users.bin").toString());
+        UserResponseDTO user = new UserResponseDTO(1, "john", "9876543210", "secret",
+                "john@mail.com", "John Dœ", true, 2, "HR", UPDATED.minusDays(1), UPDATED);
+        UserResponseDTO noRole = new UserResponseDTO(2, "jane", null, null,
+                null, "Jane", false, null, null, null, null);
+
+        snapshot.save(UserDirectory.of(List.of(user, noRole)), UPDATED.toString());
+        UserDirectorySnapshot.Saved saved = snapshot.load().orElseThrow();
+
+        assertThat(saved.syncToken()).isEqualTo(UPDATED.toString());
+        assertThat(saved.directory().name(1)).isEqualTo("John Dœ");
+        assertThat(saved.directory().email(1)).isEqualTo("john@mail.com");
+        assertThat(saved.directory().idsByRole("HR")).containsExactly(1);
+        UserResponseDTO restored = saved.directory().users().stream()
+                .filter(u -> u.getUserId() == 1).findFirst().orElseThrow();
+        assertThat(restored.getRoleId()).isEqualTo(2);
+        assertThat(restored.getPassword()).isNull();
+        assertThat(restored.getUserPhone()).isNull();
+        UserResponseDTO inactive = saved.directory().users().stream()
+                .filter(u -> u.getUserId() == 2).findFirst().orElseThrow();
+        assertThat(inactive.isActive()).isFalse();
+        assertThat(inactive.getRoleId()).isNull();
+    }
+
+    @Test
+    void load_shouldIgnoreCorruptedFile() throws Exception {
+        Path file = dir.resolve("users.bin");
+        UserDirectorySnapshot snapshot = new UserDirectorySnapshot(file.toString());
+        snapshot.save(UserDirectory.of(List.of(user(1, "john"))), "t1");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThat(snapshot.load()).isEmpty();
+    }
+
+    @Test
+    void load_shouldIgnoreTruncatedFile() throws Exception {
+        Path file = dir.resolve("users.bin");
+        UserDirectorySnapshot snapshot = new UserDirectorySnapshot(file.toString());
+        snapshot.save(UserDirectory.of(List.of(user(1, "john"))), "t1");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, 5));
+
+        assertThat(snapshot.load()).isEmpty();
+    }
+
+    @Test
+    void load_shouldIgnoreOtherVersion() throws Exception {
+        Path file = dir.resolve("users.bin");
+        byte[] bytes = UserDirectorySnapshot.encode(UserDirectory.of(List.of(user(1, "john"))), "t1",
+                Instant.now());
+        // bump the version and recompute the checksum so only the version check can reject it
+        bytes[5] = 9;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - 4, (int) crc.getValue());
+        Files.write(file, bytes);
+
+        assertThat(new UserDirectorySnapshot(file.toString()).load()).isEmpty();
+    }
+
+    @Test
+    void load_shouldReturnEmptyWhenNoFileOrDisabled() {
+        assertThat(new UserDirectorySnapshot(dir.resolve("missing.bin").toString()).load()).isEmpty();
+        assertThat(UserDirectorySnapshot.disabled().load()).isEmpty();
+    }
+
+    @Test
+    void save_shouldReplacePreviousSnapshot() {
+        UserDirectorySnapshot snapshot = new UserDirectorySnapshot(dir.resolve("nested/users.bin").toString());
+        snapshot.save(UserDirectory.of(List.of(user(1, "john"))), "t1");
+        snapshot.save(UserDirectory.of(List.of(user(1, "john"), user(2, "jane"))), "t2");
+
+        UserDirectorySnapshot.Saved saved = snapshot.load().orElseThrow();
+
+        assertThat(saved.syncToken()).isEqualTo("t2");
+        assertThat(saved.directory().size()).isEqualTo(2);
+    }
+
+    @Test
+    void restoreSnapshot_shouldServeNamesAndSyncFromSavedToken() {
+        UserDirectorySnapshot snapshot = new UserDirectorySnapshot(dir.resolve("users.bin").toString());
+        snapshot.save(UserDirectory.of(List.of(user(1, "john"))), "t1");
+        UserClient userClient = mock(UserClient.class);
+        UserChangesResponseDto changes = new UserChangesResponseDto();
+        changes.setUsers(List.of(user(2, "jane")));
+        changes.setNextToken("t2");
+        when(userClient.getUserChanges("t1")).thenReturn(changes);
+        UserCacheService userCacheService = new UserCacheService(userClient, new SimpleMeterRegistry(), snapshot);
+
+        userCacheService.restoreSnapshot();
+
+        assertThat(userCacheService.getUserIdNameMap()).containsEntry(1, "john");
+        userCacheService.refreshUserCache();
+        verify(userClient, never()).getUserDirectory();
+        verify(userClient).getUserChanges(anyString());
+        UserDirectorySnapshot.Saved saved = snapshot.load().orElseThrow();
+        assertThat(saved.syncToken()).isEqualTo("t2");
+        assertThat(saved.directory().names()).containsKeys(1, 2);
+    }
+
+    private static UserResponseDTO user(int id, String name) {
+        return new UserResponseDTO(id, name, null, null, name + "@mail.com", name, true, 1, "PANEL", null, UPDATED);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ibs.interview_scheduler.cache;
+
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserDirectoryTest {
+
+    private final List<UserResponseDTO> users = List.of(
+            new UserResponseDTO(1, "hr1", "111", "pwd", "hr1@mail", "HR One", true, 2, "HR", null, null),
+            new UserResponseDTO(2, "hr2", "222", "pwd", null, "HR Two", false, 2, "HR", null, null),
+            new UserResponseDTO(3, "p1", "333", "pwd", "p1@mail", null, true, 3, "PANEL", null, null),
+            new UserResponseDTO(4, "c1", "444", "pwd", "c1@mail", "Candidate", true, 4, "CANDIDATE", null, null));
+
+    @Test
+    void of_shouldIndexNamesEmailsAndRoles() {
+        UserDirectory directory = UserDirectory.of(users);
+
+        assertThat(directory.size()).isEqualTo(4);
+        assertThat(directory.name(1)).isEqualTo("HR One");
+        assertThat(directory.names()).doesNotContainKey(3);
+        assertThat(directory.email(3)).isEqualTo("p1@mail");
+        assertThat(directory.emails()).doesNotContainKey(2);
+        assertThat(directory.idsByRole("HR")).containsExactly(1, 2);
+        assertThat(directory.idsByRole("ADMIN")).isEmpty();
+    }
+
+    @Test
+    void of_shouldCountActiveAndInactivePerRole() {
+        UserDirectory directory = UserDirectory.of(users);
+
+        assertThat(directory.activeCount("HR")).isEqualTo(1);
+        assertThat(directory.inactiveCount("HR")).isEqualTo(1);
+        assertThat(directory.activeCount("PANEL")).isEqualTo(1);
+        assertThat(directory.inactiveCount("PANEL")).isZero();
+        assertThat(directory.activeCount("ADMIN")).isZero();
+    }
+
+    @Test
+    void of_shouldNotChangeWhenSourceListChanges() {
+        List<UserResponseDTO> source = new ArrayList<>(users);
+        UserDirectory directory = UserDirectory.of(source);
+
+        source.clear();
+
+        assertThat(directory.size()).isEqualTo(4);
+        assertThrows(UnsupportedOperationException.class, () -> directory.names().put(9, "x"));
+        assertThrows(UnsupportedOperationException.class, () -> directory.idsByRole("HR").add(9));
+    }
+
+    @Test
+    void of_shouldReturnEmptyDirectoryForNoUsers() {
+        assertThat(UserDirectory.of(List.of())).isSameAs(UserDirectory.EMPTY);
+        assertThat(UserDirectory.of(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void merge_shouldReplaceChangedUsersAndDropRemovedOnes() {
+        UserDirectory directory = UserDirectory.of(users);
+        UserResponseDTO renamed = new UserResponseDTO(3, "p1", "333", "pwd", "p1@mail", "Panel One", false, 3, "PANEL",
+                null, LocalDateTime.of(2025, 6, 1, 9, 0));
+
+        UserDirectory merged = directory.merge(List.of(renamed), List.of(4));
+
+        assertThat(merged.size()).isEqualTo(3);
+        assertThat(merged.name(3)).isEqualTo("Panel One");
+        assertThat(merged.inactiveCount("PANEL")).isEqualTo(1);
+        assertThat(merged.names()).doesNotContainKey(4);
+        assertThat(merged.lastChangedAt()).isEqualTo(LocalDateTime.of(2025, 6, 1, 9, 0));
+        assertThat(directory.name(3)).isNull();
+    }
+
+    @Test
+    void builder_shouldKeepLastRowPerIdInIdOrder() {
+        UserDirectory directory = new UserDirectory.Builder()
+                .add(9, "Old", null, 3, "PANEL", true)
+                .add(1, "First", "first@mail", null, null, true)
+                .add(9, "New", null, 3, "PANEL", false)
+                .build();
+
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(directory.names()).containsExactly(Map.entry(1, "First"), Map.entry(9, "New"));
+        assertThat(directory.names().get("9")).isNull();
+        assertThat(directory.inactiveCount("PANEL")).isEqualTo(1);
+    }
+
+    @Test
+    void users_shouldNotCarryPasswordsOrPhones() {
+        assertThat(UserDirectory.of(users).users()).hasSize(4).allSatisfy(u -> {
+            assertThat(u.getPassword()).isNull();
+            assertThat(u.getUserPhone()).isNull();
+            assertThat(u.getUserName()).isNull();
+        });
+    }
+}
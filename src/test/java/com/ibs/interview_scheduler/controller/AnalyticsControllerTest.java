@@ -0,0 +1,53 @@
+package com.ibs.interview_scheduler.controller;
+
+import com.ibs.interview_scheduler.dtos.responseDto.InterviewTrendsResponseDto;
+import com.ibs.interview_scheduler.service.AnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalyticsControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getInterviewTrends_shouldReturnTrendsWhenRoleIsHR() {
+        InterviewTrendsResponseDto dto = InterviewTrendsResponseDto.builder().granularity("WEEK").build();
+        when(analyticsService.getInterviewTrends(FROM, TO, "week", null)).thenReturn(dto);
+
+        ResponseEntity<InterviewTrendsResponseDto> response = analyticsController.getInterviewTrends(FROM, TO, "week", null, "HR");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(dto, response.getBody());
+    }
+
+    @Test
+    void getInterviewTrends_shouldReturnForbiddenWhenRoleIsNotHR() {
+        ResponseEntity<InterviewTrendsResponseDto> response = analyticsController.getInterviewTrends(FROM, TO, "week", null, "PANEL");
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(analyticsService, never()).getInterviewTrends(any(), any(), any(), any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.ibs.interview_scheduler.controller;
 
 import com.ibs.interview_scheduler.dtos.responseDto.*;
+import com.ibs.interview_scheduler.publisher.DashboardStreamPublisher;
 import com.ibs.interview_scheduler.service.DashboardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +23,9 @@ class DashboardControllerTest {
     @Mock
     private DashboardService dashboardService;
 
+    @Mock
+    private DashboardStreamPublisher dashboardStreamPublisher;
+
     @InjectMocks
     private DashboardController dashboardController;
 
@@ -105,4 +110,23 @@ class DashboardControllerTest {
         assertNull(response.getBody());
         verify(dashboardService, never()).getAdminDashboardSummary();
     }
+
+    @Test
+    void streamHrDashboard_shouldSubscribeWhenRoleIsHR() {
+        SseEmitter emitter = new SseEmitter();
+        when(dashboardStreamPublisher.subscribeHr()).thenReturn(emitter);
+
+        ResponseEntity<SseEmitter> response = dashboardController.streamHrDashboard("HR");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(emitter, response.getBody());
+    }
+
+    @Test
+    void streamPanelDashboard_shouldReturnForbiddenWhenRoleIsNotPanel() {
+        ResponseEntity<SseEmitter> response = dashboardController.streamPanelDashboard(5, "HR");
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verify(dashboardStreamPublisher, never()).subscribePanel(any());
+    }
 }
@@ -2,7 +2,11 @@ package com.ibs.interview_scheduler.controller;
 
 import com.ibs.interview_scheduler.context.UserContext;
 import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.BatchInterviewResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.InterviewResponseDto;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.service.InterviewBatchService;
 import com.ibs.interview_scheduler.service.InterviewService;
 import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
@@ -12,6 +16,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collections;
 import java.util.List;
 
 import static com.ibs.interview_scheduler.utils.RoleValidator.isAuthorized;
@@ -23,6 +28,9 @@ class InterviewControllerTest {
     @Mock
     private InterviewService interviewService;
 
+    @Mock
+    private InterviewBatchService interviewBatchService;
+
     @InjectMocks
     private InterviewController interviewController;
 
@@ -73,6 +81,34 @@ class InterviewControllerTest {
         verify(interviewService, never()).createInterview(any());
     }
 
+    // ---------------- BATCH CREATE ----------------
+    @Test
+    void createInterviews_shouldReturnOkWhenAuthorized() {
+        List<InterviewRequestDto> requests = List.of(new InterviewRequestDto(), new InterviewRequestDto());
+        BatchInterviewResponseDto expected = BatchInterviewResponseDto.builder().total(2).succeeded(2).build();
+
+        userContextMock.when(UserContext::getUserRole).thenReturn("HR");
+        roleValidatorMock.when(() -> isAuthorized("HR", List.of("HR"))).thenReturn(true);
+        when(interviewBatchService.createInterviews(requests)).thenReturn(expected);
+
+        ResponseEntity<BatchInterviewResponseDto> response = interviewController.createInterviews(requests);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+
+    @Test
+    void createInterviews_shouldReturnForbiddenWhenUnauthorized() {
+        userContextMock.when(UserContext::getUserRole).thenReturn("PANEL");
+        roleValidatorMock.when(() -> isAuthorized("PANEL", List.of("HR"))).thenReturn(false);
+
+        ResponseEntity<BatchInterviewResponseDto> response = interviewController.createInterviews(List.of());
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals("User permission denied", response.getBody().getAccessStatus());
+        verify(interviewBatchService, never()).createInterviews(any());
+    }
+
     // ---------------- GET ALL INTERVIEWS ----------------
     @Test
     void getAllInterviews_shouldReturnList() {
@@ -86,6 +122,38 @@ class InterviewControllerTest {
         verify(interviewService).getAllInterviews();
     }
 
+    @Test
+    void getInterviewPage_shouldPassFiltersToService() {
+        CursorPageResponseDto<InterviewResponseDto> expected = CursorPageResponseDto.<InterviewResponseDto>builder()
+                .items(List.of()).limit(50).build();
+        when(interviewService.getInterviewPage("abc", 50, "CONFIRMED", 10, null)).thenReturn(expected);
+
+        ResponseEntity<CursorPageResponseDto<InterviewResponseDto>> response =
+                interviewController.getInterviewPage(50, "abc", "CONFIRMED", 10, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+
+    @Test
+    void getInterviewsByIds_shouldReturnInterviewsFromBulkLookup() {
+        List<InterviewResponseDto> expected = List.of(new InterviewResponseDto());
+        when(interviewService.getInterviewsByIds(List.of(1, 2))).thenReturn(expected);
+
+        ResponseEntity<List<InterviewResponseDto>> response = interviewController.getInterviewsByIds(List.of(1, 2));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+
+    @Test
+    void getInterviewsByIds_shouldRejectTooManyIds() {
+        List<Integer> ids = Collections.nCopies(InterviewController.MAX_IDS + 1, 1);
+
+        assertThrows(CustomException.class, () -> interviewController.getInterviewsByIds(ids));
+        verifyNoInteractions(interviewService);
+    }
+
     // ---------------- GET INTERVIEW BY ID ----------------
     @Test
     void getInterview_shouldReturnInterview() {
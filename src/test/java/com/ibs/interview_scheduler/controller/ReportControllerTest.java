@@ -1,17 +1,24 @@
 package com.ibs.interview_scheduler.controller;
 
 import com.ibs.interview_scheduler.dtos.responseDto.ReportResponseDto;
+import com.ibs.interview_scheduler.enums.ReportExportFormat;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.service.ReportExportService;
 import com.ibs.interview_scheduler.service.ReportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class ReportControllerTest {
@@ -19,6 +26,9 @@ class ReportControllerTest {
     @Mock
     private ReportService reportService;
 
+    @Mock
+    private ReportExportService reportExportService;
+
     @InjectMocks
     private ReportController reportController;
 
@@ -75,4 +85,25 @@ class ReportControllerTest {
         assertEquals(responseDto, response.getBody());
         verify(reportService).getReport(type, startDate, endDate, 1, 25, null, "asc");
     }
+
+    // --------------------------- EXPORT TESTS ---------------------------
+    @Test
+    void exportReport_shouldStreamAsAttachment() {
+        StreamingResponseBody body = out -> { };
+        when(reportExportService.export("interview", null, null, ReportExportFormat.NDJSON)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = reportController.exportReport("interview", "ndjson", null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(body, response.getBody());
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertEquals("attachment; filename=\"interview-report.ndjson\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+    }
+
+    @Test
+    void exportReport_shouldRejectUnknownFormat() {
+        assertThrows(CustomException.class, () -> reportController.exportReport("slots", "xlsx", null, null));
+        verifyNoInteractions(reportExportService);
+    }
 }
@@ -1,7 +1,15 @@
 package com.ibs.interview_scheduler.controller;
 
 import com.ibs.interview_scheduler.dtos.requestDto.SlotRequestDto;
+import com.ibs.interview_scheduler.dtos.requestDto.SlotSeriesRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CommonAvailabilityResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotImportResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotSeriesResponseDto;
+import com.ibs.interview_scheduler.enums.SlotImportFormat;
+import com.ibs.interview_scheduler.service.SlotImportService;
+import com.ibs.interview_scheduler.service.SlotSeriesService;
 import com.ibs.interview_scheduler.service.SlotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +19,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -22,6 +33,12 @@ class SlotControllerTest {
     @Mock
     private SlotService slotService;
 
+    @Mock
+    private SlotSeriesService slotSeriesService;
+
+    @Mock
+    private SlotImportService slotImportService;
+
     @InjectMocks
     private SlotController slotController;
 
@@ -112,6 +129,92 @@ class SlotControllerTest {
         verify(slotService).getOverLappingSlot(startTime, endTime);
     }
 
+    // ---------------------- CREATE SLOT SERIES ----------------------
+    @Test
+    void createSlotSeries_shouldReturnSeriesResult() {
+        SlotSeriesRequestDto request = new SlotSeriesRequestDto();
+        SlotSeriesResponseDto expected = SlotSeriesResponseDto.builder().requested(4).created(4).build();
+        when(slotSeriesService.createSeries(request)).thenReturn(expected);
+
+        ResponseEntity<SlotSeriesResponseDto> response = slotController.createSlotSeries(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+
+    // ---------------------- IMPORT SLOTS ----------------------
+    @Test
+    void importSlotsCsv_shouldStreamBodyToService() {
+        SlotImportResponseDto expected = SlotImportResponseDto.builder().lines(1).imported(1).build();
+        when(slotImportService.importSlots(any(Reader.class), eq(SlotImportFormat.CSV))).thenReturn(expected);
+
+        ResponseEntity<SlotImportResponseDto> response = slotController.importSlotsCsv(
+                new ByteArrayInputStream("7,2025-11-04T10:00,2025-11-04T11:00".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+
+    @Test
+    void importSlotsNdjson_shouldUseNdjsonFormat() {
+        when(slotImportService.importSlots(any(Reader.class), eq(SlotImportFormat.NDJSON)))
+                .thenReturn(new SlotImportResponseDto());
+
+        slotController.importSlotsNdjson(new ByteArrayInputStream(new byte[0]));
+
+        verify(slotImportService).importSlots(any(Reader.class), eq(SlotImportFormat.NDJSON));
+    }
+
+    // ---------------------- GET COMMON AVAILABILITY ----------------------
+    @Test
+    void getCommonAvailability_shouldReturnWindowsFromService() {
+        LocalDateTime from = LocalDateTime.of(2025, 11, 4, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 11, 4, 18, 0);
+
+        List<CommonAvailabilityResponseDto> windows = List.of(new CommonAvailabilityResponseDto());
+        when(slotService.getCommonAvailability(List.of(1, 2), from, to, 45)).thenReturn(windows);
+
+        ResponseEntity<List<CommonAvailabilityResponseDto>> response =
+                slotController.getCommonAvailability(List.of(1, 2), from, to, 45);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(windows, response.getBody());
+    }
+
+    // ---------------------- GET FREE PANELISTS ----------------------
+    @Test
+    void getFreePanelists_shouldReturnPanelistIds() {
+        LocalDateTime startTime = LocalDateTime.of(2025, 11, 4, 10, 0);
+        LocalDateTime endTime = LocalDateTime.of(2025, 11, 4, 11, 0);
+        when(slotService.getFreePanelists(startTime, endTime)).thenReturn(List.of(3, 4));
+
+        ResponseEntity<List<Integer>> response = slotController.getFreePanelists(startTime, endTime);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(3, 4), response.getBody());
+    }
+
+    // ---------------------- SLOT PAGES ----------------------
+    @Test
+    void getAvailableSlotPage_shouldFilterOnUnbooked() {
+        CursorPageResponseDto<SlotResponseDto> expected = CursorPageResponseDto.<SlotResponseDto>builder()
+                .items(List.of()).limit(20).build();
+        when(slotService.getSlotPage(null, 20, 3, "UNBOOKED", null)).thenReturn(expected);
+
+        ResponseEntity<CursorPageResponseDto<SlotResponseDto>> response = slotController.getAvailableSlotPage(20, null, 3, null);
+
+        assertEquals(expected, response.getBody());
+        verify(slotService, never()).getAllAvailableSlots();
+    }
+
+    @Test
+    void getSlotPage_shouldPassFiltersToService() {
+        CursorPageResponseDto<SlotResponseDto> expected = new CursorPageResponseDto<>();
+        when(slotService.getSlotPage("c", 10, null, "BOOKED", null)).thenReturn(expected);
+
+        assertEquals(expected, slotController.getSlotPage(10, "c", null, "BOOKED", null).getBody());
+    }
+
     // ---------------------- GET ALL SLOTS BY PANEL ID ----------------------
     @Test
     void getAllSlotsByPanelID_shouldReturnListOfSlots() {
@@ -0,0 +1,84 @@
+package com.ibs.interview_scheduler.feign;
+
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import feign.Request;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class UserDirectoryDecoderTest {
+
+    private final Decoder delegate = mock(Decoder.class);
+    private final UserDirectoryDecoder decoder = new UserDirectoryDecoder(delegate);
+
+    @Test
+    void decode_shouldReadOnlyDirectoryFields() throws Exception {
+        String json = """
+                [
+                  {"userId": 7, "userName": "asha", "userPhone": "999", "password": "secret",
+                   "email": "asha@mail", "fullName": "Asha", "active": true, "roleId": 3, "roleName": "PANEL",
+                   "address": {"city": "Pune", "tags": ["a", {"b": 1}]},
+                   "createdAt": "2025-01-01T10:00:00", "updatedAt": "2025-06-01T09:05:00"},
+                  {"userId": 2, "fullName": "Ravi", "email": null, "active": false, "roleId": null, "roleName": null,
+                   "updatedAt": [2025, 6, 2, 8, 30, 15, 0]},
+                  {"userName": "no-id", "fullName": "Ghost"}
+                ]
+                """;
+
+        UserDirectory directory = (UserDirectory) decoder.decode(response(json), UserDirectory.class);
+
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(directory.names()).containsExactly(Map.entry(2, "Ravi"), Map.entry(7, "Asha"));
+        assertThat(directory.email(7)).isEqualTo("asha@mail");
+        assertThat(directory.emails()).doesNotContainKey(2);
+        assertThat(directory.idsByRole("PANEL")).containsExactly(7);
+        assertThat(directory.activeCount("PANEL")).isEqualTo(1);
+        assertThat(directory.lastChangedAt()).isEqualTo(LocalDateTime.of(2025, 6, 2, 8, 30, 15));
+        assertThat(directory.users()).allSatisfy(u -> {
+            assertThat(u.getPassword()).isNull();
+            assertThat(u.getUserPhone()).isNull();
+        });
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void decode_shouldReturnEmptyDirectoryForEmptyList() throws Exception {
+        assertThat(decoder.decode(response("[]"), UserDirectory.class)).isSameAs(UserDirectory.EMPTY);
+    }
+
+    @Test
+    void decode_shouldRejectNonArrayBody() {
+        assertThrows(DecodeException.class, () -> decoder.decode(response("{\"userId\": 1}"), UserDirectory.class));
+    }
+
+    @Test
+    void decode_shouldDelegateOtherTypes() throws Exception {
+        Response response = response("[]");
+        when(delegate.decode(response, List.class)).thenReturn(List.of());
+
+        assertThat(decoder.decode(response, List.class)).isEqualTo(List.of());
+        verify(delegate).decode(response, List.class);
+    }
+
+    private static Response response(String json) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://userservice/api/v1/users/all",
+                Map.<String, Collection<String>>of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of("Content-Type", List.of("application/json")))
+                .body(json, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ibs.interview_scheduler.migration;
+
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InterviewPanelistBackfillTest {
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    @Mock
+    private InterviewPanelistRepository interviewPanelistRepository;
+
+    @Mock
+    private PanelRollup panelRollup;
+
+    @Mock
+    private InterviewStatsRollup interviewStatsRollup;
+
+    @InjectMocks
+    private InterviewPanelistBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void backfill_shouldSplitCommaSeparatedPanelistsIntoRows() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 10, 0);
+        Interview first = Interview.builder().interviewId(7).panelistIds("3, 11").startTime(start).endTime(start.plusHours(1)).build();
+        Interview second = Interview.builder().interviewId(9).panelistIds("1").startTime(start).endTime(start.plusHours(1)).build();
+        when(interviewRepository.findWithoutPanelistRows(eq(0), any())).thenReturn(List.of(first, second));
+        when(interviewRepository.findWithoutPanelistRows(eq(9), any())).thenReturn(List.of());
+
+        backfill.backfill();
+
+        ArgumentCaptor<List<InterviewPanelist>> captor = ArgumentCaptor.forClass(List.class);
+        verify(interviewPanelistRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(InterviewPanelist::getInterviewId, InterviewPanelist::getPanelistId)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple(7, 3),
+                        org.assertj.core.groups.Tuple.tuple(7, 11),
+                        org.assertj.core.groups.Tuple.tuple(9, 1));
+        assertThat(captor.getValue()).allMatch(row -> start.equals(row.getStartTime()));
+        verify(panelRollup).panelistsChanged(captor.getValue());
+        verify(interviewStatsRollup).panelistsChanged(captor.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void backfill_shouldSkipMalformedInterviewAndKeepGoing() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 10, 0);
+        Interview first = Interview.builder().interviewId(7).panelistIds("3").startTime(start).endTime(start.plusHours(1)).build();
+        Interview malformed = Interview.builder().interviewId(8).panelistIds("3,abc").startTime(start).endTime(start.plusHours(1)).build();
+        Interview third = Interview.builder().interviewId(9).panelistIds("1").startTime(start).endTime(start.plusHours(1)).build();
+        Interview nextPage = Interview.builder().interviewId(12).panelistIds("4").startTime(start).endTime(start.plusHours(1)).build();
+        when(interviewRepository.findWithoutPanelistRows(eq(0), any())).thenReturn(List.of(first, malformed, third));
+        when(interviewRepository.findWithoutPanelistRows(eq(9), any())).thenReturn(List.of(nextPage));
+        when(interviewRepository.findWithoutPanelistRows(eq(12), any())).thenReturn(List.of());
+
+        backfill.backfill();
+
+        ArgumentCaptor<List<InterviewPanelist>> captor = ArgumentCaptor.forClass(List.class);
+        verify(interviewPanelistRepository, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues().get(0))
+                .extracting(InterviewPanelist::getInterviewId, InterviewPanelist::getPanelistId)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple(7, 3),
+                        org.assertj.core.groups.Tuple.tuple(9, 1));
+        assertThat(captor.getAllValues().get(1)).extracting(InterviewPanelist::getInterviewId).containsExactly(12);
+    }
+
+    @Test
+    void backfill_shouldDoNothingWhenEveryInterviewIsMapped() {
+        when(interviewRepository.findWithoutPanelistRows(eq(0), any())).thenReturn(List.of());
+
+        backfill.backfill();
+
+        verify(interviewPanelistRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void backfill_shouldSwallowRepositoryErrors() {
+        when(interviewRepository.findWithoutPanelistRows(anyInt(), any())).thenThrow(new RuntimeException("DB down"));
+
+        backfill.backfill();
+
+        verify(interviewPanelistRepository, never()).saveAll(any());
+    }
+}
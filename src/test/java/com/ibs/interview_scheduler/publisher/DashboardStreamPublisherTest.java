@@ -0,0 +1,269 @@
+package com.ibs.interview_scheduler.publisher;
+
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.responseDto.DashboardDeltaDto;
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.events.DashboardDeltaEvent;
+import com.ibs.interview_scheduler.events.PanelRollupRefreshedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DashboardStreamPublisherTest {
+
+    @Mock private PanelRollup panelRollup;
+    @Mock private UserCacheService userCacheService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DashboardStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // sends and fan out run on the calling thread, so every step below is deterministic
+        publisher = new DashboardStreamPublisher(panelRollup, userCacheService, meterRegistry,
+                new DirectExecutorService(), Duration.ofMinutes(1), 2);
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.of(List.of(
+                new UserResponseDTO(11, "c1", "444", "pwd", "c1@mail", "Candidate", true, 4, "CANDIDATE", null, null))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @Test
+    void subscribe_shouldStartWithResync() {
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        publisher.subscribe(DashboardStreamPublisher.HR, emitter);
+
+        assertThat(emitter.deltas).singleElement().satisfies(delta -> assertThat(delta.isResync()).isTrue());
+        assertThat(meterRegistry.get("dashboard.stream.subscribers").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void deltas_shouldCoalesceWhileSendIsInFlight() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        publisher.subscribe(DashboardStreamPublisher.HR, emitter);
+        // changes that arrive while the next send is running are merged into one event
+        emitter.duringSend = () -> {
+            publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of("availableSlots", 1L), List.of()));
+            publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of("availableSlots", 1L, "selected", 1L), List.of()));
+        };
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of("availableSlots", -1L), List.of()));
+
+        assertThat(emitter.deltas).extracting(DashboardDeltaDto::getCounters).containsExactly(
+                Map.of(),
+                Map.of("availableSlots", -1L),
+                Map.of("availableSlots", 2L, "selected", 1L));
+    }
+
+    @Test
+    void upcoming_shouldReachHrAndEachPanelistOfConfirmedInterview() {
+        RecordingEmitter hr = new RecordingEmitter();
+        RecordingEmitter panel = new RecordingEmitter();
+        RecordingEmitter otherPanel = new RecordingEmitter();
+        publisher.subscribe(DashboardStreamPublisher.HR, hr);
+        publisher.subscribe("panel:7", panel);
+        publisher.subscribe("panel:8", otherPanel);
+        Interview interview = Interview.builder().candidateId(11).panelistIds("7,9").interviewType("JAVA")
+                .interviewStatus("CONFIRMED").mode("Online").startTime(LocalDateTime.now().plusDays(1)).build();
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of(), List.of(interview)));
+
+        assertThat(hr.deltas).last().satisfies(delta -> {
+            assertThat(delta.getCounters()).containsEntry("scheduledInterviews", 1L);
+            assertThat(delta.getUpcoming()).singleElement()
+                    .satisfies(upcoming -> assertThat(upcoming.getCandidateName()).isEqualTo("Candidate"));
+        });
+        assertThat(panel.deltas).last().satisfies(delta -> assertThat(delta.getUpcoming()).hasSize(1));
+        assertThat(otherPanel.deltas).hasSize(1);
+    }
+
+    @Test
+    void deletedInterview_shouldResyncHrAndItsPanelistsOnly() {
+        RecordingEmitter hr = new RecordingEmitter();
+        RecordingEmitter panel = new RecordingEmitter();
+        RecordingEmitter otherPanel = new RecordingEmitter();
+        publisher.subscribe(DashboardStreamPublisher.HR, hr);
+        publisher.subscribe("panel:7", panel);
+        publisher.subscribe("panel:8", otherPanel);
+        Interview deleted = confirmed(LocalDateTime.now().plusDays(1));
+        deleted.setIsDeleted(true);
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of("selected", -1L), List.of(), List.of(deleted), false));
+
+        assertThat(hr.deltas).hasSize(2).last().satisfies(delta -> {
+            assertThat(delta.isResync()).isTrue();
+            assertThat(delta.getCounters()).isEmpty();
+        });
+        assertThat(panel.deltas).hasSize(2).last().satisfies(delta -> assertThat(delta.isResync()).isTrue());
+        assertThat(otherPanel.deltas).hasSize(1);
+    }
+
+    @Test
+    void rescheduledInterview_shouldResyncOldWindowAndAddNewOne() {
+        RecordingEmitter panel = new RecordingEmitter();
+        RecordingEmitter newPanel = new RecordingEmitter();
+        publisher.subscribe("panel:7", panel);
+        publisher.subscribe("panel:9", newPanel);
+        Interview previous = confirmed(LocalDateTime.now().plusDays(1));
+        Interview moved = confirmed(LocalDateTime.now().plusDays(2));
+        moved.setPanelistIds("9");
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of(), List.of(moved), List.of(previous), false));
+
+        assertThat(panel.deltas).last().satisfies(delta -> {
+            assertThat(delta.isResync()).isTrue();
+            assertThat(delta.getUpcoming()).isEmpty();
+        });
+        assertThat(newPanel.deltas).last().satisfies(delta -> {
+            assertThat(delta.isResync()).isFalse();
+            assertThat(delta.getUpcoming()).singleElement()
+                    .satisfies(upcoming -> assertThat(upcoming.getInterviewDate()).isEqualTo(moved.getStartTime()));
+        });
+    }
+
+    @Test
+    void recountResync_shouldReachHrSubscribers() {
+        RecordingEmitter hr = new RecordingEmitter();
+        RecordingEmitter panel = new RecordingEmitter();
+        publisher.subscribe(DashboardStreamPublisher.HR, hr);
+        publisher.subscribe("panel:7", panel);
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of(), List.of(), List.of(), true));
+
+        assertThat(hr.deltas).hasSize(2).last().satisfies(delta -> assertThat(delta.isResync()).isTrue());
+        assertThat(panel.deltas).hasSize(1);
+    }
+
+    @Test
+    void overflow_shouldDropBufferAndAskForResync() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        publisher.subscribe("panel:7", emitter);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Interview> added = List.of(confirmed(start), confirmed(start.plusHours(1)), confirmed(start.plusHours(2)));
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of(), added));
+
+        assertThat(emitter.deltas).hasSize(2).last().satisfies(delta -> {
+            assertThat(delta.isResync()).isTrue();
+            assertThat(delta.getUpcoming()).isEmpty();
+        });
+        assertThat(meterRegistry.get("dashboard.stream.overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rollupRefresh_shouldPushTotalsToSubscribedPanelists() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        publisher.subscribe("panel:7", emitter);
+        when(panelRollup.isReady()).thenReturn(true);
+        when(panelRollup.totals(eq(7), any(LocalDate.class))).thenReturn(new PanelRollup.Totals(12, 5, 3, 4));
+
+        publisher.onPanelRollupRefreshed(new PanelRollupRefreshedEvent(Set.of(7, 8)));
+
+        assertThat(emitter.deltas).last().satisfies(delta -> assertThat(delta.getTotals()).isEqualTo(Map.of(
+                "totalSlotsThisMonth", 12L, "appliedSlots", 5L, "weeklyPlanSlots", 3L, "totalAssignedThisMonth", 4L)));
+        verify(panelRollup, never()).totals(eq(8), any());
+    }
+
+    @Test
+    void failedSend_shouldDropSubscriber() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        publisher.subscribe(DashboardStreamPublisher.HR, emitter);
+        emitter.failing = true;
+
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of("selected", 1L), List.of()));
+        publisher.onDashboardDelta(new DashboardDeltaEvent(Map.of("selected", 1L), List.of()));
+
+        assertThat(emitter.deltas).hasSize(1);
+        assertThat(meterRegistry.get("dashboard.stream.subscribers").gauge().value()).isZero();
+    }
+
+    private static Interview confirmed(LocalDateTime start) {
+        return Interview.builder().candidateId(11).panelistIds("7").interviewStatus("CONFIRMED").startTime(start).build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<DashboardDeltaDto> deltas = new ArrayList<>();
+        private Runnable duringSend;
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            builder.build().stream()
+                    .filter(part -> part.getData() instanceof DashboardDeltaDto)
+                    .forEach(part -> deltas.add((DashboardDeltaDto) part.getData()));
+            Runnable hook = duringSend;
+            duringSend = null;
+            if (hook != null) {
+                hook.run();
+            }
+        }
+    }
+
+    private static class DirectExecutorService extends AbstractExecutorService {
+
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
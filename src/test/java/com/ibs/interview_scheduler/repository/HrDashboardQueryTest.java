@@ -0,0 +1,83 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
+import com.ibs.interview_scheduler.dtos.projection.IdCount;
+import com.ibs.interview_scheduler.dtos.projection.UpcomingInterviewView;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class HrDashboardQueryTest {
+
+    @Autowired private InterviewRepository interviewRepository;
+    @Autowired private SlotRepository slotRepository;
+    @Autowired private EntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.of(2030, 5, 6, 10, 0);
+
+    @Test
+    void interviewAggregates_shouldCountInsideWindowAndGroupResults() {
+        interviewRepository.save(interview(10, now.plusDays(1), "CONFIRMED", "SELECTED", false));
+        interviewRepository.save(interview(10, now.plusDays(2), "CONFIRMED", "REJECTED", true));
+        interviewRepository.save(interview(11, now.plusDays(9), "CONFIRMED", "SELECTED", false));
+        interviewRepository.save(interview(12, now.plusHours(3), "TENTATIVE", null, false));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(interviewRepository.findDistinctCandidateIds()).containsExactlyInAnyOrder(10, 11, 12);
+        assertThat(interviewRepository.countByCandidate())
+                .containsExactlyInAnyOrder(new IdCount(10, 2L), new IdCount(11, 1L), new IdCount(12, 1L));
+        assertThat(interviewRepository.countByStatusStartingBetween("CONFIRMED", now.minusDays(1), now.plusDays(4)))
+                .isEqualTo(2);
+        assertThat(interviewRepository.countByResult())
+                .containsExactlyInAnyOrder(new GroupCount("SELECTED", 2L), new GroupCount("REJECTED", 1L));
+        assertThat(interviewRepository.findUpcomingViews(now.minusDays(1), now.plusDays(4)))
+                .containsExactlyInAnyOrder(
+                        new UpcomingInterviewView(10, "TECHNICAL", now.plusDays(1), "ONLINE"),
+                        new UpcomingInterviewView(12, "TECHNICAL", now.plusHours(3), "ONLINE"));
+    }
+
+    @Test
+    void slotAggregates_shouldCountByStatusAndListPanelists() {
+        slotRepository.save(slot(101, SlotStatus.UNBOOKED));
+        slotRepository.save(slot(101, SlotStatus.BOOKED));
+        slotRepository.save(slot(102, SlotStatus.UNBOOKED));
+        entityManager.flush();
+
+        assertThat(slotRepository.countByStatus(SlotStatus.UNBOOKED.toString())).isEqualTo(2);
+        assertThat(slotRepository.findDistinctPanelistIds()).containsExactlyInAnyOrder(101, 102);
+        assertThat(slotRepository.countGroupedByStatus())
+                .containsExactlyInAnyOrder(new GroupCount("UNBOOKED", 2L), new GroupCount("BOOKED", 1L));
+        assertThat(slotRepository.countByPanelist())
+                .containsExactlyInAnyOrder(new IdCount(101, 2L), new IdCount(102, 1L));
+    }
+
+    private Interview interview(int candidateId, LocalDateTime start, String status, String result, boolean deleted) {
+        return Interview.builder()
+                .candidateId(candidateId).slotId(1).hrId(5).panelistIds("3")
+                .startTime(start).endTime(start.plusHours(1))
+                .interviewType("TECHNICAL").mode("ONLINE").interviewStatus(status).result(result)
+                .isDeleted(deleted).createdAt(now).createdBy("hr")
+                .build();
+    }
+
+    private Slot slot(int panelistId, SlotStatus status) {
+        return Slot.builder()
+                .panelistId(panelistId)
+                .startTime(now)
+                .endTime(now.plusHours(1))
+                .status(status.toString())
+                .isDeleted(false)
+                .createdAt(now)
+                .build();
+    }
+}
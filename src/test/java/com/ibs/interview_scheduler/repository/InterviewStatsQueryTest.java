@@ -0,0 +1,141 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewTypeDailyStats;
+import com.ibs.interview_scheduler.entity.PanelistResultDailyStats;
+import com.ibs.interview_scheduler.utils.PanelistIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// MySQL mode for ON DUPLICATE KEY UPDATE
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interview_stats;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "interview-stats.backfill-parallelism=3"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InterviewStatsJdbcRepository.class, InterviewStatsRollup.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InterviewStatsQueryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 12);
+
+    @Autowired private InterviewRepository interviewRepository;
+    @Autowired private InterviewPanelistRepository interviewPanelistRepository;
+    @Autowired private InterviewTypeDailyStatsRepository typeStatsRepository;
+    @Autowired private PanelistResultDailyStatsRepository panelistStatsRepository;
+    @Autowired private InterviewStatsRollup interviewStatsRollup;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM interview_type_daily_stats");
+        jdbcTemplate.update("DELETE FROM panelist_result_daily_stats");
+        jdbcTemplate.update("DELETE FROM interview_panelist");
+        jdbcTemplate.update("DELETE FROM interviews");
+    }
+
+    @Test
+    void backfill_shouldGroupEveryMonthByDayTypeAndPanelist() {
+        save(interview("TECHNICAL", "3,4", DAY.atTime(9, 0), "SELECTED", false));
+        save(interview("TECHNICAL", "3", DAY.atTime(23, 30), "REJECTED", false));
+        save(interview("HR", "3", DAY.atTime(11, 0), "ON_HOLD", false));
+        save(interview("TECHNICAL", "3", DAY.atTime(12, 0), "SELECTED", true));
+        save(interview("MANAGERIAL", "4", DAY.plusMonths(2).atTime(10, 0), "PENDING", false));
+        // a bucket no interview backs any more
+        jdbcTemplate.update("INSERT INTO interview_type_daily_stats (stat_date, interview_type, interviews) VALUES (?, 'HR', 5)",
+                Date.valueOf(DAY.minusYears(1)));
+
+        interviewStatsRollup.backfill();
+
+        assertThat(interviewStatsRollup.isReady()).isTrue();
+        assertThat(typeStatsRepository.findBetween(DAY.minusYears(2), DAY.plusYears(1)))
+                .extracting(InterviewTypeDailyStats::getStatDate, InterviewTypeDailyStats::getInterviewType,
+                        InterviewTypeDailyStats::getInterviews)
+                .containsExactlyInAnyOrder(
+                        tuple(DAY, "TECHNICAL", 2),
+                        tuple(DAY, "HR", 1),
+                        tuple(DAY.plusMonths(2), "MANAGERIAL", 1));
+        assertThat(panelistStatsRepository.findBetween(DAY, DAY.plusDays(1)))
+                .extracting(PanelistResultDailyStats::getPanelistId, PanelistResultDailyStats::getInterviews,
+                        PanelistResultDailyStats::getSelected, PanelistResultDailyStats::getRejected,
+                        PanelistResultDailyStats::getOnHold)
+                .containsExactlyInAnyOrder(tuple(3, 3, 1, 1, 1), tuple(4, 1, 1, 0, 0));
+    }
+
+    @Test
+    void interviewsChanged_shouldRefreshBucketsOnlyAfterCommit() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Interview saved = tx.execute(status -> {
+            Interview interview = save(interview("TECHNICAL", "3", DAY.atTime(9, 0), "PENDING", false));
+            interviewStatsRollup.interviewsChanged(List.of(interview));
+            assertThat(typeStatsRepository.count()).isZero();
+            return interview;
+        });
+
+        assertThat(typeStatsRepository.findBetween(DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getInterviews()).isEqualTo(1));
+
+        // outside a transaction the bucket is refreshed straight away
+        saved.setResult("SELECTED");
+        interviewRepository.save(saved);
+        interviewStatsRollup.interviewsChanged(List.of(saved));
+
+        assertThat(panelistStatsRepository.findByPanelistBetween(3, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getInterviews()).isEqualTo(1);
+                    assertThat(row.getSelected()).isEqualTo(1);
+                });
+
+        saved.setIsDeleted(true);
+        interviewRepository.save(saved);
+        interviewStatsRollup.interviewsChanged(List.of(saved));
+
+        // emptied buckets stay with zero counts and are skipped on read
+        assertThat(typeStatsRepository.count()).isEqualTo(1);
+        assertThat(typeStatsRepository.findBetween(DAY, DAY.plusDays(1))).isEmpty();
+    }
+
+    private Interview save(Interview interview) {
+        Interview saved = interviewRepository.save(interview);
+        interviewPanelistRepository.saveAll(PanelistIds.toPanelistRows(saved));
+        return saved;
+    }
+
+    private static Interview interview(String type, String panelistIds, LocalDateTime start, String result, boolean deleted) {
+        return Interview.builder()
+                .candidateId(10)
+                .interviewType(type)
+                .panelistIds(panelistIds)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .result(result)
+                .isDeleted(deleted)
+                .createdAt(start)
+                .build();
+    }
+}
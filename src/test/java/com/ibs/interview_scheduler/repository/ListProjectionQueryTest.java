@@ -0,0 +1,80 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.dtos.projection.InterviewView;
+import com.ibs.interview_scheduler.dtos.projection.SlotView;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ListProjectionQueryTest {
+
+    @Autowired private InterviewRepository interviewRepository;
+    @Autowired private InterviewPanelistRepository interviewPanelistRepository;
+    @Autowired private SlotRepository slotRepository;
+    @Autowired private EntityManager entityManager;
+
+    private final LocalDateTime start = LocalDateTime.of(2030, 5, 6, 10, 0);
+
+    @Test
+    void interviewViews_shouldCarryResponseColumnsWithoutManagingEntities() {
+        Interview saved = interviewRepository.save(Interview.builder()
+                .candidateId(10).slotId(20).hrId(5).panelistIds("3")
+                .startTime(start).endTime(start.plusHours(1))
+                .interviewType("TECHNICAL").interviewStatus("CONFIRMED").result("PENDING").feedback("good")
+                .isDeleted(false).createdAt(start.minusDays(1)).createdBy("hr")
+                .build());
+        interviewPanelistRepository.save(InterviewPanelist.builder()
+                .interviewId(saved.getInterviewId()).panelistId(3).startTime(start).endTime(start.plusHours(1))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<InterviewView> byPanel = interviewRepository.findConfirmedInterviewsByPanelId(3);
+        List<InterviewView> byCandidate = interviewRepository.findInterviewsByCandidateId(10);
+
+        InterviewView expected = new InterviewView(saved.getInterviewId(), 10, 20, 5, "3", start, start.plusHours(1),
+                "TECHNICAL", "CONFIRMED", "PENDING", "good", start.minusDays(1), false);
+        assertThat(byPanel).containsExactly(expected);
+        assertThat(byCandidate).containsExactly(expected);
+        assertThat(interviewRepository.findViewsByIdIn(List.of(saved.getInterviewId(), -1))).containsExactly(expected);
+        // nothing was put in the persistence context
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void slotViews_shouldSelectSlotResponseColumns() {
+        Slot free = slotRepository.save(slot(SlotStatus.UNBOOKED, start));
+        slotRepository.save(slot(SlotStatus.BOOKED, start.plusHours(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(slotRepository.findActiveSlotsByPanelistId(101))
+                .extracting(SlotView::status)
+                .containsExactly("UNBOOKED", "BOOKED");
+        assertThat(slotRepository.findAvailableSlotViewsInRange(start, start.plusHours(3)))
+                .containsExactly(new SlotView(free.getSlotId(), 101, start, start.plusHours(1), "UNBOOKED"));
+    }
+
+    private Slot slot(SlotStatus status, LocalDateTime slotStart) {
+        return Slot.builder()
+                .panelistId(101)
+                .startTime(slotStart)
+                .endTime(slotStart.plusHours(1))
+                .status(status.toString())
+                .isDeleted(false)
+                .createdAt(start)
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.entity.PanelDailyRollup;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL mode for ON DUPLICATE KEY UPDATE
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:panel_rollup;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PanelRollupJdbcRepository.class, PanelRollup.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PanelRollupQueryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 12);
+
+    @Autowired private SlotRepository slotRepository;
+    @Autowired private InterviewRepository interviewRepository;
+    @Autowired private InterviewPanelistRepository interviewPanelistRepository;
+    @Autowired private PanelDailyRollupRepository rollupRepository;
+    @Autowired private PanelRollupJdbcRepository rollupJdbcRepository;
+    @Autowired private PanelRollup panelRollup;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // plain deletes, the @Where on Slot would skip soft deleted rows
+        jdbcTemplate.update("DELETE FROM panel_daily_rollup");
+        jdbcTemplate.update("DELETE FROM interview_panelist");
+        jdbcTemplate.update("DELETE FROM slots");
+        jdbcTemplate.update("DELETE FROM interviews");
+    }
+
+    @Test
+    void rebuild_shouldGroupSlotsAndAssignmentsByPanelistAndDay() {
+        slotRepository.saveAll(List.of(
+                slot(7, DAY.atTime(9, 0), SlotStatus.BOOKED, false),
+                slot(7, DAY.atTime(23, 30), SlotStatus.UNBOOKED, false),
+                slot(7, DAY.atTime(11, 0), SlotStatus.UNBOOKED, true),
+                slot(7, DAY.plusDays(1).atTime(0, 0), SlotStatus.UNBOOKED, false)));
+        interviewPanelistRepository.saveAll(List.of(
+                assignment(interview(false), 7, DAY.atTime(9, 0)),
+                assignment(interview(true), 7, DAY.atTime(14, 0)),
+                assignment(interview(false), 8, DAY.atTime(10, 0))));
+
+        panelRollup.rebuild();
+
+        assertThat(panelRollup.isReady()).isTrue();
+        assertThat(rollupRepository.findByPanelistBetween(7, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getSlotsCreated()).isEqualTo(2);
+                    assertThat(row.getSlotsBooked()).isEqualTo(1);
+                    assertThat(row.getInterviewsAssigned()).isEqualTo(1);
+                });
+        assertThat(rollupRepository.findByPanelistBetween(7, DAY.plusDays(1), DAY.plusDays(2)))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getSlotsCreated()).isEqualTo(1));
+        // a bucket with assignments but no slots
+        assertThat(rollupRepository.findByPanelistBetween(8, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getSlotsCreated()).isZero();
+                    assertThat(row.getInterviewsAssigned()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void slotsChanged_shouldRefreshBucketOnlyAfterCommit() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Slot first = slotRepository.save(slot(7, DAY.atTime(9, 0), SlotStatus.UNBOOKED, false));
+
+        tx.executeWithoutResult(status -> {
+            Slot second = slotRepository.save(slot(7, DAY.atTime(10, 0), SlotStatus.BOOKED, false));
+            panelRollup.slotsChanged(List.of(first, second));
+            assertThat(rollupRepository.count()).isZero();
+        });
+
+        assertThat(rollupRepository.findByPanelistBetween(7, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getSlotsCreated()).isEqualTo(2);
+                    assertThat(row.getSlotsBooked()).isEqualTo(1);
+                });
+
+        tx.executeWithoutResult(status -> {
+            panelRollup.slotsChanged(List.of(slotRepository.save(slot(7, DAY.atTime(11, 0), SlotStatus.UNBOOKED, false))));
+            status.setRollbackOnly();
+        });
+
+        assertThat(rollupRepository.findByPanelistBetween(7, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getSlotsCreated()).isEqualTo(2));
+    }
+
+    @Test
+    void refresh_shouldKeepEmptiedBucketWithZeroCounts() {
+        Slot slot = slotRepository.save(slot(7, DAY.atTime(9, 0), SlotStatus.UNBOOKED, false));
+        rollupJdbcRepository.refresh(List.of(new PanelDailyRollup.Key(7, DAY)));
+
+        slot.setIsDeleted(true);
+        slotRepository.save(slot);
+        rollupJdbcRepository.refresh(List.of(new PanelDailyRollup.Key(7, DAY)));
+
+        assertThat(rollupRepository.findByPanelistBetween(7, DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getSlotsCreated()).isZero());
+    }
+
+    @Test
+    void totals_shouldSumMonthAndWeekBuckets() {
+        // Monday 2025-03-31 opens a week that runs into April
+        LocalDate monday = LocalDate.of(2025, 3, 31);
+        slotRepository.saveAll(List.of(
+                slot(7, monday.atTime(9, 0), SlotStatus.BOOKED, false),
+                slot(7, monday.plusDays(2).atTime(9, 0), SlotStatus.UNBOOKED, false),
+                slot(7, DAY.atTime(9, 0), SlotStatus.UNBOOKED, false),
+                slot(7, LocalDate.of(2025, 2, 28).atTime(9, 0), SlotStatus.UNBOOKED, false)));
+        interviewPanelistRepository.save(assignment(interview(false), 7, monday.atTime(9, 0)));
+        panelRollup.rebuild();
+
+        PanelRollup.Totals totals = panelRollup.totals(7, monday);
+
+        assertThat(totals).isEqualTo(new PanelRollup.Totals(2, 1, 2, 1));
+    }
+
+    @Test
+    void totals_shouldMatchFallbackRangeCountsWithSoftDeletedRows() {
+        LocalDate monday = LocalDate.of(2025, 3, 10);
+        slotRepository.saveAll(List.of(
+                slot(7, DAY.atTime(9, 0), SlotStatus.BOOKED, false),
+                slot(7, DAY.atTime(10, 0), SlotStatus.BOOKED, true),
+                slot(7, DAY.atTime(11, 0), SlotStatus.UNBOOKED, true),
+                slot(7, DAY.plusDays(10).atTime(9, 0), SlotStatus.UNBOOKED, false)));
+        interviewPanelistRepository.saveAll(List.of(
+                assignment(interview(false), 7, DAY.atTime(9, 0)),
+                assignment(interview(true), 7, DAY.atTime(10, 0))));
+        panelRollup.rebuild();
+        LocalDateTime monthStart = DAY.withDayOfMonth(1).atStartOfDay();
+        LocalDateTime weekStart = monday.atStartOfDay();
+
+        PanelRollup.Totals fallback = new PanelRollup.Totals(
+                slotRepository.countSlotsStartingBetween(7, monthStart, monthStart.plusMonths(1)),
+                slotRepository.countBookedSlotsStartingBetween(7, monthStart, monthStart.plusMonths(1)),
+                slotRepository.countSlotsStartingBetween(7, weekStart, weekStart.plusWeeks(1)),
+                interviewRepository.countAssignedInterviewsStartingBetween(7, monthStart, monthStart.plusMonths(1)));
+
+        assertThat(fallback).isEqualTo(new PanelRollup.Totals(2, 1, 1, 1));
+        assertThat(panelRollup.totals(7, DAY)).isEqualTo(fallback);
+    }
+
+    private static Slot slot(int panelistId, LocalDateTime start, SlotStatus status, boolean deleted) {
+        return Slot.builder()
+                .panelistId(panelistId)
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .status(status.toString())
+                .isDeleted(deleted)
+                .createdAt(start)
+                .build();
+    }
+
+    private int interview(boolean deleted) {
+        Interview interview = interviewRepository.save(Interview.builder()
+                .candidateId(10)
+                .isDeleted(deleted)
+                .createdAt(DAY.atStartOfDay())
+                .build());
+        return interview.getInterviewId();
+    }
+
+    private static InterviewPanelist assignment(int interviewId, int panelistId, LocalDateTime start) {
+        return InterviewPanelist.builder()
+                .interviewId(interviewId)
+                .panelistId(panelistId)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .build();
+    }
+}
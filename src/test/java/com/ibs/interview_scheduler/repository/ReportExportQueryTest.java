@@ -0,0 +1,117 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.ReportExportFormat;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.service.ReportExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(ReportJdbcRepository.class)
+class ReportExportQueryTest {
+
+    @Autowired private ReportJdbcRepository reportJdbcRepository;
+    @Autowired private InterviewRepository interviewRepository;
+    @Autowired private SlotRepository slotRepository;
+
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private ReportExportService reportExportService;
+
+    @BeforeEach
+    void setUp() {
+        when(userCacheService.getUserIdNameMap()).thenReturn(Map.of(1, "Asha, K", 2, "Ravi", 3, "Meera"));
+        reportExportService = new ReportExportService(reportJdbcRepository, userCacheService, new ObjectMapper());
+    }
+
+    @Test
+    void export_shouldWriteEnrichedCsvInIdOrder() throws Exception {
+        interviewRepository.saveAll(List.of(interview(1, "2,3"), interview(9, null)));
+
+        String csv = export("interview", null, null, ReportExportFormat.CSV);
+
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("interviewId,candidateId,candidateName,hrId,hrName,panelistIds,panelNames,"
+                + "startTime,endTime,status,createdAt,isDeleted");
+        assertThat(lines.get(1)).contains(",1,\"Asha, K\",2,Ravi,\"2,3\",\"Ravi, Meera\",2025-03-02T10:00,");
+        assertThat(lines.get(2)).contains(",9,Unknown,2,Ravi,,,");
+    }
+
+    @Test
+    void export_shouldWriteOneJsonObjectPerLineAndApplyCreatedAtRange() throws Exception {
+        slotRepository.saveAll(List.of(slot(1, createdAt), slot(3, createdAt.plusDays(10)), deletedSlot()));
+
+        String ndjson = export("slots", createdAt.minusDays(1), createdAt.plusDays(1), ReportExportFormat.NDJSON);
+
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(1);
+        JsonNode row = new ObjectMapper().readTree(lines.get(0));
+        assertThat(row.get("panelistId").asInt()).isEqualTo(1);
+        assertThat(row.get("panelistName").asText()).isEqualTo("Asha, K");
+        assertThat(row.get("status").asText()).isEqualTo("UNBOOKED");
+        assertThat(ndjson).endsWith("\n");
+    }
+
+    @Test
+    void export_shouldWriteOnlyHeaderWhenNothingMatches() throws Exception {
+        assertThat(export("slots", null, null, ReportExportFormat.CSV))
+                .isEqualTo("slotId,panelistId,panelistName,startTime,endTime,status,createdAt\n");
+        assertThat(export("slots", null, null, ReportExportFormat.NDJSON)).isEmpty();
+    }
+
+    private String export(String type, LocalDateTime from, LocalDateTime to, ReportExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.export(type, from, to, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Interview interview(int candidateId, String panelistIds) {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 2, 10, 0);
+        return Interview.builder()
+                .candidateId(candidateId)
+                .hrId(2)
+                .panelistIds(panelistIds)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .interviewStatus("SCHEDULED")
+                .isDeleted(false)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private Slot slot(int panelistId, LocalDateTime created) {
+        return Slot.builder()
+                .panelistId(panelistId)
+                .startTime(created.plusDays(1))
+                .endTime(created.plusDays(1).plusHours(1))
+                .status(SlotStatus.UNBOOKED.toString())
+                .isDeleted(false)
+                .createdAt(created)
+                .build();
+    }
+
+    private Slot deletedSlot() {
+        Slot slot = slot(2, createdAt);
+        slot.setIsDeleted(true);
+        return slot;
+    }
+}
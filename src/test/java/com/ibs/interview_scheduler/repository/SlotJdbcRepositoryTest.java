@@ -0,0 +1,47 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(SlotJdbcRepository.class)
+class SlotJdbcRepositoryTest {
+
+    @Autowired private SlotJdbcRepository slotJdbcRepository;
+    @Autowired private SlotRepository slotRepository;
+
+    @Test
+    void insertAll_shouldWriteBatchAndSetGeneratedIds() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        List<Slot> slots = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            slots.add(Slot.builder()
+                    .panelistId(7)
+                    .startTime(start.plusHours(i))
+                    .endTime(start.plusHours(i + 1))
+                    .status(SlotStatus.UNBOOKED.toString())
+                    .isDeleted(false)
+                    .createdBy("panel")
+                    .createdAt(start)
+                    .build());
+        }
+
+        slotJdbcRepository.insertAll(slots);
+
+        assertThat(slots).allSatisfy(slot -> assertThat(slot.getSlotId()).isNotNull());
+        List<Slot> stored = slotRepository.findOverlappingSlots(7, start, start.plusHours(5));
+        assertThat(stored).extracting(Slot::getSlotId)
+                .containsExactlyElementsOf(slots.stream().map(Slot::getSlotId).toList());
+        assertThat(stored).allSatisfy(slot -> assertThat(slot.getVersion()).isZero());
+    }
+}
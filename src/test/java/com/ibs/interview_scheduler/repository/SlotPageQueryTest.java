@@ -0,0 +1,59 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.utils.PageCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class SlotPageQueryTest {
+
+    @Autowired private SlotRepository slotRepository;
+
+    @Test
+    void findPageAfter_shouldWalkEveryMatchingSlotOnceAcrossEqualStartTimes() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+        List<Slot> slots = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // pairs of slots share a start time so the id tie-breaker is exercised
+            LocalDateTime slotStart = start.plusHours(i / 2);
+            slots.add(slot(100 + i % 2, slotStart, i == 3 ? SlotStatus.BOOKED : SlotStatus.UNBOOKED));
+        }
+        List<Integer> expected = slotRepository.saveAll(slots).stream()
+                .filter(s -> SlotStatus.UNBOOKED.toString().equals(s.getStatus()))
+                .map(Slot::getSlotId)
+                .toList();
+
+        List<Integer> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageCursor.Position after = PageCursor.decode(cursor);
+            List<Slot> rows = slotRepository.findPageAfter(null, "UNBOOKED", start, after.startTime(), after.id(),
+                    PageCursor.probe(2));
+            var page = PageCursor.toPage(rows, 2, Slot::getSlotId, Slot::getStartTime, Slot::getSlotId);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    private Slot slot(int panelistId, LocalDateTime start, SlotStatus status) {
+        return Slot.builder()
+                .panelistId(panelistId)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(status.toString())
+                .isDeleted(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
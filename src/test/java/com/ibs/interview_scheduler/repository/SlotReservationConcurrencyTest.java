@@ -0,0 +1,130 @@
+package com.ibs.interview_scheduler.repository;
+
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.service.SlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SlotReservationConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired private SlotRepository slotRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final SlotCalendar slotCalendar = mock(SlotCalendar.class);
+    private final DashboardCounters dashboardCounters = mock(DashboardCounters.class);
+    private final PanelRollup panelRollup = mock(PanelRollup.class);
+
+    @Test
+    void reserveSlots_shouldLetExactlyOneRequestWinEachSlot() throws Exception {
+        List<Integer> slotIds = createSlots(3);
+        SlotService slotService = new SlotService(slotRepository, null, event -> { }, slotCalendar, dashboardCounters, panelRollup);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // every request wants slot 0 plus one of the others, so the sets overlap on slot 0
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            List<Integer> wanted = List.of(slotIds.get(0), slotIds.get(1 + i % 2));
+            bookings.add(() -> reserve(tx, slotService, wanted));
+        }
+        AtomicInteger winners = new AtomicInteger();
+        for (Future<Boolean> result : runTogether(bookings)) {
+            if (result.get()) {
+                winners.incrementAndGet();
+            }
+        }
+
+        assertThat(winners.get()).isEqualTo(1);
+        List<Slot> slots = slotRepository.findAllById(slotIds);
+        assertThat(slots.stream().filter(s -> SlotStatus.BOOKED.toString().equals(s.getStatus())).count())
+                .isEqualTo(2);
+        assertThat(slots).allSatisfy(s -> assertThat(s.getVersion()).isLessThanOrEqualTo(1L));
+    }
+
+    @Test
+    void reserveSlots_shouldLetOneWinnerPerSlotWhenRequestsAreDisjoint() throws Exception {
+        List<Integer> slotIds = createSlots(4);
+        SlotService slotService = new SlotService(slotRepository, null, event -> { }, slotCalendar, dashboardCounters, panelRollup);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            List<Integer> wanted = List.of(slotIds.get(i % slotIds.size()));
+            bookings.add(() -> reserve(tx, slotService, wanted));
+        }
+        int winners = 0;
+        for (Future<Boolean> result : runTogether(bookings)) {
+            winners += result.get() ? 1 : 0;
+        }
+
+        assertThat(winners).isEqualTo(slotIds.size());
+        assertThat(slotRepository.findAllById(slotIds))
+                .allSatisfy(s -> assertThat(s.getStatus()).isEqualTo(SlotStatus.BOOKED.toString()));
+    }
+
+    private boolean reserve(TransactionTemplate tx, SlotService slotService, List<Integer> slotIds) {
+        try {
+            tx.executeWithoutResult(status -> slotService.reserveSlots(slotIds));
+            return true;
+        } catch (CustomException e) {
+            return false;
+        }
+    }
+
+    private List<Future<Boolean>> runTogether(List<Callable<Boolean>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Callable<Boolean> task : tasks) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private List<Integer> createSlots(int count) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Slot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            slots.add(Slot.builder()
+                    .panelistId(100 + i)
+                    .startTime(start)
+                    .endTime(start.plusHours(1))
+                    .status(SlotStatus.UNBOOKED.toString())
+                    .isDeleted(false)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return slotRepository.saveAll(slots).stream().map(Slot::getSlotId).toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.responseDto.InterviewTrendsResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
+import com.ibs.interview_scheduler.entity.InterviewTypeDailyStats;
+import com.ibs.interview_scheduler.entity.PanelistResultDailyStats;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.InterviewTypeDailyStatsRepository;
+import com.ibs.interview_scheduler.repository.PanelistResultDailyStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class AnalyticsServiceTest {
+
+    // Monday
+    private static final LocalDate WEEK = LocalDate.of(2025, 3, 10);
+
+    @Mock private InterviewStatsRollup interviewStatsRollup;
+    @Mock private InterviewTypeDailyStatsRepository typeStatsRepository;
+    @Mock private PanelistResultDailyStatsRepository panelistStatsRepository;
+    @Mock private UserCacheService userCacheService;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(interviewStatsRollup.isReady()).thenReturn(true);
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.of(List.of(
+                new UserResponseDTO(3, "p1", "333", "pwd", "p1@mail", "Panel", true, 3, "PANEL", null, null))));
+        when(typeStatsRepository.findBetween(any(), any())).thenReturn(List.of(
+                typeRow(WEEK, "TECHNICAL", 2),
+                typeRow(WEEK.plusDays(6), "TECHNICAL", 1),
+                typeRow(WEEK.plusDays(2), "HR", 4),
+                typeRow(WEEK.plusDays(7), "TECHNICAL", 5)));
+        when(panelistStatsRepository.findBetween(any(), any())).thenReturn(List.of(
+                panelistRow(WEEK, 3, 4, 2, 1, 0),
+                panelistRow(WEEK.plusDays(3), 3, 2, 0, 1, 1)));
+    }
+
+    @Test
+    void getInterviewTrends_shouldRollDaysUpToWeeks() {
+        InterviewTrendsResponseDto trends = analyticsService.getInterviewTrends(WEEK, WEEK.plusDays(13), "week", null);
+
+        assertThat(trends.getGranularity()).isEqualTo("WEEK");
+        assertThat(trends.getInterviewsByType())
+                .extracting(InterviewTrendsResponseDto.TypeCountDto::getPeriodStart,
+                        InterviewTrendsResponseDto.TypeCountDto::getInterviewType,
+                        InterviewTrendsResponseDto.TypeCountDto::getInterviews)
+                .containsExactly(
+                        tuple(WEEK, "HR", 4L),
+                        tuple(WEEK, "TECHNICAL", 3L),
+                        tuple(WEEK.plusWeeks(1), "TECHNICAL", 5L));
+        // the to day is inclusive
+        verify(typeStatsRepository).findBetween(WEEK, WEEK.plusDays(14));
+    }
+
+    @Test
+    void getInterviewTrends_shouldComputeRatesOverDecidedInterviews() {
+        InterviewTrendsResponseDto trends = analyticsService.getInterviewTrends(WEEK, WEEK.plusDays(13), "MONTH", null);
+
+        assertThat(trends.getPanelistResults()).singleElement().satisfies(result -> {
+            assertThat(result.getPeriodStart()).isEqualTo(LocalDate.of(2025, 3, 1));
+            assertThat(result.getPanelistName()).isEqualTo("Panel");
+            assertThat(result.getInterviews()).isEqualTo(6);
+            // 2 selected, 2 rejected and 1 on hold out of 5 with a result, 1 still pending
+            assertThat(result.getSelectedRate()).isEqualTo(0.4);
+            assertThat(result.getRejectedRate()).isEqualTo(0.4);
+            assertThat(result.getOnHoldRate()).isEqualTo(0.2);
+        });
+    }
+
+    @Test
+    void getInterviewTrends_shouldReadOnePanelistWhenGiven() {
+        analyticsService.getInterviewTrends(WEEK, WEEK, "day", 3);
+
+        verify(panelistStatsRepository).findByPanelistBetween(3, WEEK, WEEK.plusDays(1));
+        verify(panelistStatsRepository, never()).findBetween(any(), any());
+    }
+
+    @Test
+    void getInterviewTrends_shouldRejectInvalidRequests() {
+        assertThrows(CustomException.class, () -> analyticsService.getInterviewTrends(WEEK, WEEK.minusDays(1), "week", null));
+        assertThrows(CustomException.class, () -> analyticsService.getInterviewTrends(WEEK, WEEK, "hour", null));
+        verifyNoInteractions(typeStatsRepository);
+    }
+
+    @Test
+    void getInterviewTrends_shouldBeUnavailableUntilBackfilled() {
+        when(interviewStatsRollup.isReady()).thenReturn(false);
+
+        CustomException e = assertThrows(CustomException.class,
+                () -> analyticsService.getInterviewTrends(WEEK, WEEK, "week", null));
+
+        assertThat(e.getMessage()).contains("still being prepared");
+        verifyNoInteractions(typeStatsRepository);
+    }
+
+    private static InterviewTypeDailyStats typeRow(LocalDate day, String type, int interviews) {
+        return InterviewTypeDailyStats.builder().statDate(day).interviewType(type).interviews(interviews).build();
+    }
+
+    private static PanelistResultDailyStats panelistRow(LocalDate day, int panelistId, int interviews,
+                                                        int selected, int rejected, int onHold) {
+        return PanelistResultDailyStats.builder().statDate(day).panelistId(panelistId).interviews(interviews)
+                .selected(selected).rejected(rejected).onHold(onHold).build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.context.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardFanOutTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardFanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fanOut = new DashboardFanOut(Executors.newVirtualThreadPerTaskExecutor(), Duration.ofMillis(200), 3, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.close();
+        UserContext.clear();
+    }
+
+    @Test
+    void branch_shouldCarryUserContextOntoVirtualThread() {
+        UserContext.setUserName("panel_user");
+        UserContext.setUserRole("PANEL");
+        DashboardFanOut.Fork fork = fanOut.fork();
+
+        CompletableFuture<String> user = fork.branch("user",
+                () -> UserContext.getUserName() + "/" + UserContext.getUserRole() + "/" + Thread.currentThread().isVirtual(), "none");
+        fork.join(user);
+
+        assertThat(user.join()).isEqualTo("panel_user/PANEL/true");
+        assertThat(fork.degraded()).isEmpty();
+    }
+
+    @Test
+    void branch_shouldRunBranchesConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        DashboardFanOut.Fork fork = fanOut.fork();
+
+        // each branch only finishes once the other has started
+        CompletableFuture<Boolean> first = fork.branch("first", () -> await(bothStarted), false);
+        CompletableFuture<Boolean> second = fork.branch("second", () -> await(bothStarted), false);
+        fork.join(first, second);
+
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isTrue();
+    }
+
+    @Test
+    void branch_shouldFallBackOnErrorAndTimeout() {
+        DashboardFanOut.Fork fork = fanOut.fork();
+
+        CompletableFuture<Integer> failing = fork.branch("failing", () -> {
+            throw new IllegalStateException("query failed");
+        }, -1);
+        CompletableFuture<Integer> slow = fork.branch("slow", () -> {
+            sleep(Duration.ofSeconds(5));
+            return 1;
+        }, -2);
+        CompletableFuture<Integer> fast = fork.branch("fast", () -> 3, 0);
+        fork.join(failing, slow, fast);
+
+        assertThat(failing.join()).isEqualTo(-1);
+        assertThat(slow.join()).isEqualTo(-2);
+        assertThat(fast.join()).isEqualTo(3);
+        assertThat(fork.degraded()).containsExactly("failing", "slow");
+        assertThat(meterRegistry.counter("dashboard.branch.degraded", "branch", "slow", "reason", "timeout").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("dashboard.branch.degraded", "branch", "failing", "reason", "error").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void branch_shouldFallBackWithoutRunningWhenNoPermitFreesUpInTime() throws InterruptedException {
+        CountDownLatch held = new CountDownLatch(3);
+        AtomicBoolean ran = new AtomicBoolean();
+        DashboardFanOut.Fork fork = fanOut.fork();
+
+        // three slow queries hold every permit past the timeout
+        for (int i = 0; i < 3; i++) {
+            fork.branch("holder" + i, () -> {
+                sleep(Duration.ofMillis(400));
+                held.countDown();
+                return true;
+            }, false);
+        }
+        CompletableFuture<Integer> queued = fork.branch("queued", () -> {
+            ran.set(true);
+            return 1;
+        }, -1);
+        fork.join(queued);
+
+        assertThat(queued.join()).isEqualTo(-1);
+        assertThat(ran).isFalse();
+        assertThat(meterRegistry.counter("dashboard.branch.degraded", "branch", "queued", "reason", "timeout").count())
+                .isEqualTo(1.0);
+
+        // permits are released once the held queries return
+        assertThat(held.await(1, TimeUnit.SECONDS)).isTrue();
+        DashboardFanOut.Fork next = fanOut.fork();
+        CompletableFuture<Integer> after = next.branch("after", () -> 2, 0);
+        next.join(after);
+        assertThat(after.join()).isEqualTo(2);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.ibs.interview_scheduler.service;
 
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.projection.GroupCount;
+import com.ibs.interview_scheduler.dtos.projection.UpcomingInterviewView;
 import com.ibs.interview_scheduler.dtos.responseDto.*;
+import com.ibs.interview_scheduler.entity.Interview;
 import com.ibs.interview_scheduler.enums.InterviewResult;
-import com.ibs.interview_scheduler.feign.UserClient;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -22,11 +39,27 @@ class DashboardServiceTest {
     private InterviewService interviewService;
 
     @Mock
-    private UserClient userClient;
+    private InterviewRepository interviewRepository;
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private PanelRollup panelRollup;
 
     @Mock
     private SlotService slotService;
 
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Spy
+    private DashboardFanOut dashboardFanOut = new DashboardFanOut(Executors.newVirtualThreadPerTaskExecutor(),
+            Duration.ofMillis(300), 8, new SimpleMeterRegistry());
+
     @InjectMocks
     private DashboardService dashboardService;
 
@@ -35,53 +68,86 @@ class DashboardServiceTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterEach
+    void tearDown() {
+        dashboardFanOut.close();
+    }
+
     // --------------------- HR DASHBOARD ---------------------
     @Test
     void getHrDashboardSummary_shouldReturnValidSummary() {
         // Prepare mock data
         UserResponseDTO candidate = new UserResponseDTO(1, "cand", "999", "pwd", "c@mail", "Candidate 1", true, 4, "CANDIDATE", null, null);
+        UserResponseDTO waiting = new UserResponseDTO(5, "cand2", "777", "pwd", "c2@mail", "Candidate 2", true, 4, "CANDIDATE", null, null);
         UserResponseDTO panel = new UserResponseDTO(2, "panel", "888", "pwd", "p@mail", "Panel 1", true, 3, "PANEL", null, null);
-        List<UserResponseDTO> users = List.of(candidate, panel);
-
-        InterviewResponseDto interview = new InterviewResponseDto();
-        interview.setCandidateId(1);
-        interview.setInterviewStatus("CONFIRMED");
-        interview.setStartTime(LocalDateTime.now().plusDays(1));
-        interview.setResult(InterviewResult.SELECTED.toString());
-        interview.setInterviewType("TECHNICAL");
-        interview.setMode("ONLINE");
-        interview.setIsDeleted(false);
-
-        SlotResponseDto slot = new SlotResponseDto();
-        slot.setPanelistId(2);
-        slot.setStatus("UNBOOKED");
-
-        when(userClient.getAllUsers()).thenReturn(users);
-        when(interviewService.getAllInterviews()).thenReturn(List.of(interview));
-        when(slotService.getAllSlots()).thenReturn(List.of(slot));
+        UserResponseDTO idle = new UserResponseDTO(6, "panel2", "666", "pwd", "p2@mail", "Panel 2", true, 3, "PANEL", null, null);
+        UserResponseDTO admin = new UserResponseDTO(7, "admin", "555", "pwd", "a@mail", "Admin", true, null, null, null, null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.of(List.of(candidate, waiting, panel, idle, admin)));
+        when(interviewRepository.findDistinctCandidateIds()).thenReturn(List.of(1, 42));
+        when(interviewRepository.countByStatusStartingBetween(eq("CONFIRMED"), any(), any())).thenReturn(1L);
+        when(interviewRepository.findUpcomingViews(any(), any()))
+                .thenReturn(List.of(new UpcomingInterviewView(1, "TECHNICAL", start, "ONLINE")));
+        when(interviewRepository.countByResult()).thenReturn(List.of(new GroupCount(InterviewResult.SELECTED.toString(), 1L),
+                new GroupCount("PENDING", 3L)));
+        when(slotRepository.countByStatus("UNBOOKED")).thenReturn(1L);
+        when(slotRepository.findDistinctPanelistIds()).thenReturn(List.of(2));
 
         // Execute
         HrDashboardResponseDto result = dashboardService.getHrDashboardSummary();
 
         // Verify
         assertThat(result).isNotNull();
-        assertThat(result.getTotalCandidates()).isEqualTo(1);
+        assertThat(result.getTotalCandidates()).isEqualTo(2);
         assertThat(result.getAssigned()).isEqualTo(1);
-        assertThat(result.getPending()).isZero();
+        assertThat(result.getPending()).isEqualTo(1);
         assertThat(result.getAvailableSlots()).isEqualTo(1);
+        assertThat(result.getPendingPanelists()).isEqualTo(1);
         assertThat(result.getScheduledInterviews()).isEqualTo(1);
         assertThat(result.getSelected()).isEqualTo(1);
         assertThat(result.getRejected()).isZero();
-        assertThat(result.getUpcoming()).hasSize(1);
+        assertThat(result.getUpcoming()).containsExactly(
+                new UpcomingInterviewResponseDto("Candidate 1", "TECHNICAL", start, "ONLINE"));
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(interviewRepository).findUpcomingViews(from.capture(), to.capture());
+        assertThat(Duration.between(from.getValue(), to.getValue())).isEqualTo(Duration.ofDays(5));
+        verify(interviewService, never()).getAllInterviews();
+        verify(slotService, never()).getAllSlots();
+    }
 
-        verify(userClient, times(1)).getAllUsers();
-        verify(interviewService, times(1)).getAllInterviews();
-        verify(slotService, times(1)).getAllSlots();
+    @Test
+    void getHrDashboardSummary_shouldReadTotalsFromCountersOnceLoaded() {
+        UserResponseDTO candidate = new UserResponseDTO(1, "cand", "999", "pwd", "c@mail", "Candidate 1", true, 4, "CANDIDATE", null, null);
+        UserResponseDTO waiting = new UserResponseDTO(5, "cand2", "777", "pwd", "c2@mail", "Candidate 2", true, 4, "CANDIDATE", null, null);
+        UserResponseDTO panel = new UserResponseDTO(2, "panel", "888", "pwd", "p@mail", "Panel 1", true, 3, "PANEL", null, null);
+
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.of(List.of(candidate, waiting, panel)));
+        when(dashboardCounters.totals()).thenReturn(Optional.of(new DashboardCounters.Totals(7, 3, 2)));
+        when(dashboardCounters.coverageLoaded()).thenReturn(true);
+        when(dashboardCounters.hasInterviews(1)).thenReturn(true);
+        when(dashboardCounters.hasSlots(2)).thenReturn(false);
+
+        HrDashboardResponseDto result = dashboardService.getHrDashboardSummary();
+
+        assertThat(result.getTotalCandidates()).isEqualTo(2);
+        assertThat(result.getAssigned()).isEqualTo(1);
+        assertThat(result.getPending()).isEqualTo(1);
+        assertThat(result.getAvailableSlots()).isEqualTo(7);
+        assertThat(result.getPendingPanelists()).isEqualTo(1);
+        assertThat(result.getSelected()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        verify(interviewRepository, never()).findDistinctCandidateIds();
+        verify(interviewRepository, never()).countByResult();
+        verify(slotRepository, never()).countByStatus(any());
+        verify(slotRepository, never()).findDistinctPanelistIds();
     }
 
     @Test
     void getHrDashboardSummary_shouldThrowExceptionWhenServiceFails() {
-        when(userClient.getAllUsers()).thenThrow(new RuntimeException("Feign error"));
+        when(userCacheService.getDirectory()).thenThrow(new RuntimeException("Feign error"));
 
         assertThrows(RuntimeException.class, () -> dashboardService.getHrDashboardSummary());
     }
@@ -89,30 +155,71 @@ class DashboardServiceTest {
     // --------------------- PANEL DASHBOARD ---------------------
     @Test
     void getPanelDashboard_shouldReturnCombinedDashboard() {
-        SlotSummaryResponseDto slotSummary = new SlotSummaryResponseDto();
-        slotSummary.setAppliedSlots(5);
-
-        InterviewSummaryResponseDto interviewSummary = new InterviewSummaryResponseDto();
-        interviewSummary.setTotalAssignedThisMonth(3);
+        Interview upcoming = new Interview();
+        upcoming.setCandidateId(1);
+        upcoming.setInterviewType("TECH");
+        upcoming.setStartTime(LocalDateTime.now().plusDays(2));
+        upcoming.setMode("ONLINE");
+        UserResponseDTO candidate = new UserResponseDTO(1, "cand", "999", "pwd", "c@mail", "Candidate 1", true, 4, "CANDIDATE", null, null);
 
-        when(slotService.getSlotSummary(2)).thenReturn(slotSummary);
-        when(interviewService.getInterviewSummary("2")).thenReturn(interviewSummary);
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime weekStart = LocalDate.now().with(DayOfWeek.MONDAY).atStartOfDay();
+        when(slotRepository.countSlotsStartingBetween(2, monthStart, monthStart.plusMonths(1))).thenReturn(10);
+        when(slotRepository.countSlotsStartingBetween(2, weekStart, weekStart.plusWeeks(1))).thenReturn(4);
+        when(slotRepository.countBookedSlotsStartingBetween(2, monthStart, monthStart.plusMonths(1))).thenReturn(5);
+        when(interviewRepository.countAssignedInterviewsStartingBetween(2, monthStart, monthStart.plusMonths(1))).thenReturn(3);
+        when(interviewRepository.findUpcomingInterviewsForWeek(eq(2), any(), any())).thenReturn(List.of(upcoming));
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.of(List.of(candidate)));
 
         PanelDashboardResponseDto response = dashboardService.getPanelDashboard(2);
 
         assertThat(response).isNotNull();
+        assertThat(response.getSlotSummaryResponseDto().getTotalSlotsThisMonth()).isEqualTo(10);
         assertThat(response.getSlotSummaryResponseDto().getAppliedSlots()).isEqualTo(5);
+        assertThat(response.getSlotSummaryResponseDto().getWeeklyPlanSlots()).isEqualTo(4);
         assertThat(response.getInterviewSummaryResponseDto().getTotalAssignedThisMonth()).isEqualTo(3);
+        assertThat(response.getInterviewSummaryResponseDto().getUpcomingInterviews())
+                .extracting(UpcomingInterviewResponseDto::getCandidateName).containsExactly("Candidate 1");
+        assertThat(response.getDegraded()).isEmpty();
+    }
 
-        verify(slotService, times(1)).getSlotSummary(2);
-        verify(interviewService, times(1)).getInterviewSummary("2");
+    @Test
+    void getPanelDashboard_shouldDegradeFailedAndSlowBranches() {
+        when(slotRepository.countSlotsStartingBetween(eq(1), any(), any())).thenThrow(new RuntimeException("Slot error"));
+        when(slotRepository.countBookedSlotsStartingBetween(eq(1), any(), any())).thenReturn(4);
+        when(interviewRepository.countAssignedInterviewsStartingBetween(eq(1), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return 7;
+        });
+        when(interviewRepository.findUpcomingInterviewsForWeek(eq(1), any(), any())).thenReturn(List.of());
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.EMPTY);
+
+        long started = System.nanoTime();
+        PanelDashboardResponseDto response = dashboardService.getPanelDashboard(1);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+        assertThat(response.getSlotSummaryResponseDto().getTotalSlotsThisMonth()).isZero();
+        assertThat(response.getSlotSummaryResponseDto().getAppliedSlots()).isEqualTo(4);
+        assertThat(response.getInterviewSummaryResponseDto().getTotalAssignedThisMonth()).isZero();
+        assertThat(response.getDegraded()).containsExactly("totalAssignedThisMonth", "totalSlotsThisMonth", "weeklyPlanSlots");
     }
 
     @Test
-    void getPanelDashboard_shouldThrowExceptionWhenDependentServiceFails() {
-        when(slotService.getSlotSummary(1)).thenThrow(new RuntimeException("Slot error"));
+    void getPanelDashboard_shouldReadTotalsFromRollupWhenReady() {
+        when(panelRollup.isReady()).thenReturn(true);
+        when(panelRollup.totals(eq(2), any())).thenReturn(new PanelRollup.Totals(12, 6, 3, 4));
+        when(interviewRepository.findUpcomingInterviewsForWeek(eq(2), any(), any())).thenReturn(List.of());
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.EMPTY);
+
+        PanelDashboardResponseDto response = dashboardService.getPanelDashboard(2);
 
-        assertThrows(RuntimeException.class, () -> dashboardService.getPanelDashboard(1));
+        assertThat(response.getSlotSummaryResponseDto().getTotalSlotsThisMonth()).isEqualTo(12);
+        assertThat(response.getSlotSummaryResponseDto().getAppliedSlots()).isEqualTo(6);
+        assertThat(response.getSlotSummaryResponseDto().getWeeklyPlanSlots()).isEqualTo(3);
+        assertThat(response.getInterviewSummaryResponseDto().getTotalAssignedThisMonth()).isEqualTo(4);
+        assertThat(response.getDegraded()).isEmpty();
+        verify(slotRepository, never()).countSlotsStartingBetween(anyInt(), any(), any());
+        verify(interviewRepository, never()).countAssignedInterviewsStartingBetween(anyInt(), any(), any());
     }
 
     // --------------------- ADMIN DASHBOARD ---------------------
@@ -124,7 +231,8 @@ class DashboardServiceTest {
         UserResponseDTO candidateActive = new UserResponseDTO(4, "c1", "444", "pwd", "c1@mail", "Candidate", true, 4, "CANDIDATE", null, null);
         UserResponseDTO candidateInactive = new UserResponseDTO(5, "c2", "555", "pwd", "c2@mail", "Candidate 2", false, 4, "CANDIDATE", null, null);
 
-        when(userClient.getAllUsers()).thenReturn(List.of(hrActive, hrInactive, panelActive, candidateActive, candidateInactive));
+        when(userCacheService.getDirectory())
+                .thenReturn(UserDirectory.of(List.of(hrActive, hrInactive, panelActive, candidateActive, candidateInactive)));
 
         AdminDashboardResponseDto result = dashboardService.getAdminDashboardSummary();
 
@@ -135,12 +243,12 @@ class DashboardServiceTest {
         assertThat(result.getCandidates().getActiveCount()).isEqualTo(1);
         assertThat(result.getCandidates().getInactiveCount()).isEqualTo(1);
 
-        verify(userClient, times(1)).getAllUsers();
+        verify(userCacheService, times(1)).getDirectory();
     }
 
     @Test
     void getAdminDashboardSummary_shouldThrowExceptionOnFailure() {
-        when(userClient.getAllUsers()).thenThrow(new RuntimeException("User service unavailable"));
+        when(userCacheService.getDirectory()).thenThrow(new RuntimeException("User service unavailable"));
 
         assertThrows(RuntimeException.class, () -> dashboardService.getAdminDashboardSummary());
     }
@@ -0,0 +1,191 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.AvailabilityIndex;
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.BatchInterviewItemResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.BatchInterviewResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
+import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
+import com.ibs.interview_scheduler.enums.EventType;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.publisher.InterviewEventPublisher;
+import com.ibs.interview_scheduler.repository.InterviewJdbcRepository;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
+import com.ibs.interview_scheduler.repository.InterviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InterviewBatchServiceTest {
+
+    @Mock private InterviewRepository interviewRepository;
+    @Mock private InterviewPanelistRepository interviewPanelistRepository;
+    @Mock private InterviewJdbcRepository interviewJdbcRepository;
+    @Mock private SlotService slotService;
+    @Mock private InterviewService interviewService;
+    @Mock private AvailabilityIndex availabilityIndex;
+    @Mock private DashboardCounters dashboardCounters;
+    @Mock private PanelRollup panelRollup;
+    @Mock private InterviewStatsRollup interviewStatsRollup;
+    @Mock private UserCacheService userCacheService;
+    @Mock private InterviewEventPublisher interviewEventPublisher;
+
+    @InjectMocks private InterviewBatchService interviewBatchService;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        base = LocalDateTime.now().plusDays(2).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        doAnswer(invocation -> {
+            List<Interview> interviews = invocation.getArgument(0);
+            for (int i = 0; i < interviews.size(); i++) {
+                interviews.get(i).setInterviewId(100 + i);
+            }
+            return null;
+        }).when(interviewJdbcRepository).insertAll(anyList());
+    }
+
+    @Test
+    void createInterviews_shouldRejectConflictsInsideTheBatch() {
+        List<InterviewRequestDto> requests = List.of(
+                request(10, List.of(3), base.plusHours(1), base.plusHours(2)),
+                request(11, List.of(3, 4), base.plusMinutes(45), base.plusMinutes(105)),
+                request(10, List.of(5), base.plusMinutes(30), base.plusMinutes(75)),
+                request(12, List.of(4), base, base.plusHours(1)));
+
+        BatchInterviewResponseDto result = interviewBatchService.createInterviews(requests);
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(BatchInterviewItemResponseDto::getStatus)
+                .containsExactly("FAILED", "FAILED", "CREATED", "CREATED");
+        assertThat(result.getResults().get(0).getMessage()).contains("Candidate");
+        assertThat(result.getResults().get(1).getMessage()).contains("Panelist (ID: 4)");
+        verify(interviewJdbcRepository, times(1)).insertAll(argThat(list -> list.size() == 2));
+        verify(interviewService).publishNotifications(anyList(), eq(EventType.INTERVIEWCREATED));
+    }
+
+    @Test
+    void createInterviews_shouldRejectConflictsWithExistingBookings() {
+        when(interviewPanelistRepository.findActiveOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                InterviewPanelist.builder().interviewId(1).panelistId(3).startTime(base).endTime(base.plusHours(1)).build()));
+        when(interviewRepository.findActiveCandidateInterviewsOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                Interview.builder().interviewId(2).candidateId(20).startTime(base.plusHours(3)).endTime(base.plusHours(4)).build()));
+
+        BatchInterviewResponseDto result = interviewBatchService.createInterviews(List.of(
+                request(10, List.of(3), base.plusMinutes(30), base.plusMinutes(90)),
+                request(20, List.of(6), base.plusHours(3), base.plusHours(4)),
+                request(30, List.of(3), base.plusHours(1), base.plusHours(2))));
+
+        assertThat(result.getResults()).extracting(BatchInterviewItemResponseDto::getStatus)
+                .containsExactly("FAILED", "FAILED", "CREATED");
+        assertThat(result.getResults().get(2).getInterviewId()).isEqualTo(100);
+        verify(interviewPanelistRepository, times(1)).findActiveOverlapping(anyCollection(), any(), any());
+        verify(interviewRepository, times(1)).findActiveCandidateInterviewsOverlapping(anyCollection(), any(), any());
+    }
+
+    @Test
+    void createInterviews_shouldAgreeWithSingleBookingOnEveryConflict() {
+        when(interviewPanelistRepository.findActiveOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                InterviewPanelist.builder().interviewId(1).panelistId(3).startTime(base).endTime(base.plusHours(1)).build()));
+        when(interviewRepository.findActiveCandidateInterviewsOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                Interview.builder().interviewId(2).candidateId(20).startTime(base.plusHours(3)).endTime(base.plusHours(4)).build()));
+        when(interviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userCacheService.getDirectory()).thenReturn(UserDirectory.EMPTY);
+        InterviewService singleBooking = new InterviewService(interviewRepository, interviewPanelistRepository, slotService,
+                userCacheService, interviewEventPublisher, availabilityIndex, dashboardCounters, panelRollup, interviewStatsRollup);
+
+        List<InterviewRequestDto> bookings = List.of(
+                request(10, List.of(3), base.plusMinutes(30), base.plusMinutes(90)),
+                request(11, List.of(3), base.minusMinutes(45), base.plusMinutes(15)),
+                request(12, List.of(3), base.plusHours(1), base.plusHours(2)),
+                request(20, List.of(6), base.plusMinutes(150), base.plusMinutes(210)),
+                request(20, List.of(6), base.plusHours(4), base.plusHours(5)));
+
+        for (InterviewRequestDto booking : bookings) {
+            BatchInterviewItemResponseDto batch = interviewBatchService.createInterviews(List.of(booking)).getResults().get(0);
+            String single;
+            try {
+                singleBooking.createInterview(booking);
+                single = null;
+            } catch (CustomException e) {
+                single = e.getMessage();
+            }
+            assertThat(batch.getMessage()).as("booking at %s", booking.getStartTime()).isEqualTo(single);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createInterviews_shouldReserveCoveredSlotsWithOneUpdate() {
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(List.of(
+                new SlotResponseDto(7, 3, base, base.plusHours(1), "UNBOOKED", null, null),
+                new SlotResponseDto(8, 4, base, base.plusHours(1), "UNBOOKED", null, null),
+                new SlotResponseDto(6, 4, base, base.plusHours(1), "BOOKED", null, null),
+                new SlotResponseDto(9, 3, base.plusHours(5), base.plusHours(6), "UNBOOKED", null, null)));
+
+        interviewBatchService.createInterviews(List.of(
+                request(10, List.of(3, 4), base, base.plusHours(1)),
+                request(11, List.of(4), base.plusHours(6), base.plusHours(7))));
+
+        ArgumentCaptor<Collection<Integer>> slotIds = ArgumentCaptor.forClass(Collection.class);
+        verify(slotService, times(1)).reserveSlots(slotIds.capture());
+        assertThat(slotIds.getValue()).containsExactlyInAnyOrder(7, 8);
+        verify(interviewJdbcRepository).insertPanelists(argThat(rows -> rows.size() == 3));
+        verify(availabilityIndex, times(2)).put(any(Interview.class));
+    }
+
+    @Test
+    void createInterviews_shouldReportInvalidItemsWithoutQueryingWhenNothingIsValid() {
+        InterviewRequestDto invalid = request(10, List.of(3), base.plusHours(1), base);
+
+        BatchInterviewResponseDto result = interviewBatchService.createInterviews(List.of(invalid));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getMessage()).contains("end time");
+        verifyNoInteractions(interviewPanelistRepository, interviewJdbcRepository, interviewService);
+    }
+
+    @Test
+    void createInterviews_shouldRejectOversizedBatch() {
+        List<InterviewRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i <= InterviewBatchService.MAX_BATCH_SIZE; i++) {
+            requests.add(request(i, List.of(3), base, base.plusHours(1)));
+        }
+
+        assertThrows(CustomException.class, () -> interviewBatchService.createInterviews(requests));
+    }
+
+    private InterviewRequestDto request(int candidateId, List<Integer> panelistIds, LocalDateTime start, LocalDateTime end) {
+        InterviewRequestDto request = new InterviewRequestDto();
+        request.setCandidateId(candidateId);
+        request.setHrId(5);
+        request.setInterviewType("TECHNICAL");
+        request.setPanelistIds(panelistIds);
+        request.setStartTime(start);
+        request.setEndTime(end);
+        return request;
+    }
+}
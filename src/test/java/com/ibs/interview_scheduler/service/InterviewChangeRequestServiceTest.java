@@ -7,10 +7,12 @@ import com.ibs.interview_scheduler.dtos.responseDto.InterviewResponseDto;
 import com.ibs.interview_scheduler.entity.InterviewChangeRequest;
 import com.ibs.interview_scheduler.enums.RequestStatus;
 import com.ibs.interview_scheduler.repository.InterviewChangeRequestRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 
 import java.util.*;
@@ -33,9 +35,17 @@ class InterviewChangeRequestServiceTest {
     @InjectMocks
     private InterviewChangeRequestService service;
 
+    private MockedStatic<UserContext> userContextMock;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userContextMock = mockStatic(UserContext.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userContextMock.close();
     }
 
     // --------------------------- CREATE ---------------------------
@@ -61,11 +71,10 @@ class InterviewChangeRequestServiceTest {
                 .createdBy("panel_user")
                 .build();
 
-        mockStatic(UserContext.class);
-        when(UserContext.getUserName()).thenReturn("panel_user");
-
         when(changeRequestRepository.save(any(InterviewChangeRequest.class))).thenReturn(savedEntity);
 
+        userContextMock.when(UserContext::getUserName).thenReturn("panel_user");
+
         InterviewChangeRequestResponseDto response = service.createChangeRequest(dto);
 
         assertThat(response).isNotNull();
@@ -86,14 +95,26 @@ class InterviewChangeRequestServiceTest {
                 .reason("Schedule clash")
                 .build();
 
-        when(changeRequestRepository.findByStatus("PENDING")).thenReturn(List.of(entity));
-        when(interviewService.getInterviewById(1)).thenReturn(new InterviewResponseDto());
+        InterviewChangeRequest other = InterviewChangeRequest.builder()
+                .interviewChangeRequestId(104)
+                .interviewId(1)
+                .panelId(6)
+                .status("PENDING")
+                .build();
+        InterviewResponseDto interview = new InterviewResponseDto();
+        interview.setInterviewId(1);
+
+        when(changeRequestRepository.findByStatus("PENDING")).thenReturn(List.of(entity, other));
+        when(interviewService.getInterviewsByIds(List.of(1, 1))).thenReturn(List.of(interview));
 
         List<InterviewChangeRequestResponseDto> result = service.getPendingRequests();
 
-        assertThat(result).hasSize(1);
+        assertThat(result).hasSize(2);
         assertThat(result.get(0).getPanelId()).isEqualTo(5);
+        assertThat(result).allSatisfy(r -> assertThat(r.getInterviewResponseDto()).isSameAs(interview));
         verify(changeRequestRepository, times(1)).findByStatus("PENDING");
+        verify(interviewService, times(1)).getInterviewsByIds(any());
+        verify(interviewService, never()).getInterviewById(anyInt());
     }
 
     // --------------------------- GET PENDING BY PANEL ---------------------------
@@ -108,12 +129,13 @@ class InterviewChangeRequestServiceTest {
                 .build();
 
         when(changeRequestRepository.findByPanelId(9)).thenReturn(List.of(entity));
-        when(interviewService.getInterviewById(2)).thenReturn(new InterviewResponseDto());
+        when(interviewService.getInterviewsByIds(any())).thenThrow(new RuntimeException("DB failure"));
 
         List<InterviewChangeRequestResponseDto> result = service.getPendingRequestsByPanelId(9);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getReason()).isEqualTo("Personal reason");
+        assertThat(result.get(0).getInterviewResponseDto()).isNull();
         verify(changeRequestRepository).findByPanelId(9);
     }
 
@@ -134,7 +156,7 @@ class InterviewChangeRequestServiceTest {
         interview.setInterviewId(1);
         interview.setSlotId(20);
 
-        when(UserContext.getUserName()).thenReturn("HR");
+        userContextMock.when(UserContext::getUserName).thenReturn("HR");
 
         when(changeRequestRepository.findById(103)).thenReturn(Optional.of(existing));
         when(interviewService.getInterviewById(1)).thenReturn(interview);
@@ -172,20 +194,23 @@ class InterviewChangeRequestServiceTest {
         interview.setInterviewId(1);
         interview.setSlotId(30);
 
-        when(UserContext.getUserName()).thenReturn("HR");
+        userContextMock.when(UserContext::getUserName).thenReturn("HR");
 
         when(changeRequestRepository.findAllById(List.of(201))).thenReturn(List.of(req1));
-        when(interviewService.getInterviewById(1)).thenReturn(interview);
-        when(changeRequestRepository.save(any())).thenReturn(req1);
+        when(interviewService.getInterviewsByIds(List.of(1))).thenReturn(List.of(interview));
+        when(changeRequestRepository.saveAll(any())).thenReturn(List.of(req1));
 
         List<InterviewChangeRequestResponseDto> result = service.bulkApproveRequests(List.of(201));
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStatus()).isEqualTo(RequestStatus.APPROVED.toString());
 
-        verify(slotService).deleteSlot(30);
+        verify(slotService).deleteSlots(List.of(30));
+        verify(slotService, never()).deleteSlot(anyInt());
         verify(interviewService).deleteInterview(1);
-        verify(changeRequestRepository, times(1)).save(any());
+        verify(changeRequestRepository, times(1)).saveAll(List.of(req1));
+        verify(changeRequestRepository, never()).save(any());
+        verify(interviewService, never()).getInterviewById(anyInt());
     }
 
     @Test
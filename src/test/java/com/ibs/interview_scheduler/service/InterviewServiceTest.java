@@ -1,15 +1,26 @@
 package com.ibs.interview_scheduler.service;
 
+import com.ibs.interview_scheduler.cache.AvailabilityIndex;
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.InterviewStatsRollup;
+import com.ibs.interview_scheduler.cache.PanelRollup;
 import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
+import com.ibs.interview_scheduler.dtos.projection.InterviewView;
 import com.ibs.interview_scheduler.dtos.requestDto.InterviewRequestDto;
 import com.ibs.interview_scheduler.dtos.responseDto.*;
 import com.ibs.interview_scheduler.entity.Interview;
+import com.ibs.interview_scheduler.entity.InterviewPanelist;
 import com.ibs.interview_scheduler.enums.InterviewResult;
 import com.ibs.interview_scheduler.enums.InterviewStatus;
+import com.ibs.interview_scheduler.enums.SlotStatus;
 import com.ibs.interview_scheduler.events.NotificationEvent;
 import com.ibs.interview_scheduler.exception.CustomException;
 import com.ibs.interview_scheduler.publisher.InterviewEventPublisher;
+import com.ibs.interview_scheduler.repository.InterviewPanelistRepository;
 import com.ibs.interview_scheduler.repository.InterviewRepository;
+import com.ibs.interview_scheduler.utils.PageCursor;
+import com.ibs.interview_scheduler.utils.PanelistIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -17,6 +28,7 @@ import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -25,9 +37,14 @@ import static org.mockito.Mockito.*;
 class InterviewServiceTest {
 
     @Mock private InterviewRepository interviewRepository;
+    @Mock private InterviewPanelistRepository interviewPanelistRepository;
     @Mock private SlotService slotService;
     @Mock private UserCacheService userCacheService;
     @Mock private InterviewEventPublisher interviewEventPublisher;
+    @Mock private AvailabilityIndex availabilityIndex;
+    @Mock private DashboardCounters dashboardCounters;
+    @Mock private PanelRollup panelRollup;
+    @Mock private InterviewStatsRollup interviewStatsRollup;
 
     @InjectMocks private InterviewService interviewService;
 
@@ -37,6 +54,7 @@ class InterviewServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        stubUsers();
        // mockStatic(UserContext.class);
 //        when(UserContext.getUserName()).thenReturn("HRUser");
 
@@ -65,36 +83,130 @@ class InterviewServiceTest {
     // -------------------- createInterview --------------------
     @Test
     void createInterview_shouldCreateSuccessfully() {
-        when(interviewRepository.existsByCandidateIdAndStartTimeBetween(anyInt(), any(), any())).thenReturn(false);
-        when(interviewRepository.existsByPanelistIdsContainingAndStartTimeBetween(anyString(), any(), any())).thenReturn(false);
         when(interviewRepository.save(any())).thenReturn(interview);
         when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(
                 List.of(new SlotResponseDto(20, 3, LocalDateTime.now(), LocalDateTime.now(), "UNBOOKED","",""))
         );
-        doNothing().when(slotService).updateSlotStatus(anyInt(), anyString());
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
+        when(slotService.reserveSlots(anyCollection())).thenReturn(1);
 
         InterviewResponseDto result = interviewService.createInterview(request);
 
         assertThat(result).isNotNull();
         assertThat(result.getCandidateId()).isEqualTo(10);
         verify(interviewRepository).save(any());
-        verify(slotService, atLeastOnce()).updateSlotStatus(anyInt(), eq("BOOKED"));
+        verify(interviewPanelistRepository).saveAll(argThat(rows -> rows.iterator().hasNext()));
+        verify(slotService).reserveSlots(List.of(20));
         verify(interviewEventPublisher, atLeastOnce()).publishInterviewCreated(any(NotificationEvent.class));
+        verify(interviewStatsRollup).interviewsChanged(List.of(interview));
+    }
+
+    @Test
+    void createInterview_shouldNotSaveWhenSlotWasReservedConcurrently() {
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(
+                List.of(new SlotResponseDto(20, 3, LocalDateTime.now(), LocalDateTime.now(), "UNBOOKED","",""))
+        );
+        when(slotService.reserveSlots(anyCollection()))
+                .thenThrow(new CustomException("One or more slots were booked by another request.", HttpStatus.CONFLICT));
+
+        CustomException ex = assertThrows(CustomException.class, () -> interviewService.createInterview(request));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        verify(interviewRepository, never()).save(any());
+        verify(availabilityIndex, never()).put(any());
+    }
+
+    @Test
+    void createInterview_shouldOnlyReserveUnbookedSlots() {
+        when(interviewRepository.save(any())).thenReturn(interview);
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(List.of(
+                new SlotResponseDto(20, 3, LocalDateTime.now(), LocalDateTime.now(), "UNBOOKED","",""),
+                new SlotResponseDto(21, 4, LocalDateTime.now(), LocalDateTime.now(), "BOOKED","","")
+        ));
+
+        interviewService.createInterview(request);
+
+        verify(slotService).reserveSlots(List.of(20));
     }
 
     @Test
     void createInterview_shouldThrowCustomExceptionWhenCandidateBusy() {
-        when(interviewRepository.existsByCandidateIdAndStartTimeBetween(anyInt(), any(), any())).thenReturn(true);
+        when(interviewRepository.findActiveCandidateInterviewsOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                Interview.builder().interviewId(7).candidateId(10)
+                        .startTime(request.getStartTime().minusMinutes(30)).endTime(request.getStartTime().plusMinutes(30)).build()));
 
         CustomException ex = assertThrows(CustomException.class, () -> interviewService.createInterview(request));
         assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
     }
 
+    @Test
+    void createInterview_shouldCheckAllPanelistsWithOneQuery() {
+        when(interviewRepository.save(any())).thenReturn(interview);
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(List.of());
+
+        interviewService.createInterview(request);
+
+        verify(interviewPanelistRepository, times(1))
+                .findActiveOverlapping(List.of(3, 4), request.getStartTime(), request.getEndTime());
+        verify(interviewRepository, times(1))
+                .findActiveCandidateInterviewsOverlapping(List.of(10), request.getStartTime(), request.getEndTime());
+    }
+
+    @Test
+    void createInterview_shouldAcceptBookingThatStartsWhenAnotherEnds() {
+        when(interviewPanelistRepository.findActiveOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                panelistRow(7, 3, request.getStartTime().minusHours(1), request.getStartTime())));
+        when(interviewRepository.save(any())).thenReturn(interview);
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(List.of());
+
+        interviewService.createInterview(request);
+
+        verify(interviewRepository).save(any());
+    }
+
+    @Test
+    void createInterview_shouldStillCheckDatabaseWhenIndexCoversTheWindow() {
+        when(availabilityIndex.covers(any())).thenReturn(true);
+        when(interviewRepository.save(any())).thenReturn(interview);
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any())).thenReturn(List.of());
+
+        interviewService.createInterview(request);
+
+        verify(availabilityIndex).isCandidateBusy(eq(10), any(), any());
+        verify(availabilityIndex, times(2)).isPanelistBusy(anyInt(), any(), any());
+        verify(availabilityIndex).put(interview);
+        // a booking made on another replica is only visible to the database
+        verify(interviewRepository).findActiveCandidateInterviewsOverlapping(eq(List.of(10)), any(), any());
+        verify(interviewPanelistRepository).findActiveOverlapping(eq(List.of(3, 4)), any(), any());
+    }
+
+    @Test
+    void createInterview_shouldRejectBookingMadeOnAnotherReplica() {
+        when(availabilityIndex.covers(any())).thenReturn(true);
+        // starts before the new booking and runs into it, a start-time window alone would miss it
+        when(interviewPanelistRepository.findActiveOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+                panelistRow(7, 4, request.getStartTime().minusMinutes(45), request.getStartTime().plusMinutes(15))));
+
+        CustomException ex = assertThrows(CustomException.class, () -> interviewService.createInterview(request));
+
+        assertThat(ex.getMessage()).contains("Panelist (ID: 4)");
+        verify(interviewRepository, never()).save(any());
+    }
+
+    @Test
+    void createInterview_shouldRejectBusyPanelistFromAvailabilityIndex() {
+        when(availabilityIndex.covers(any())).thenReturn(true);
+        when(availabilityIndex.isPanelistBusy(eq(4), any(), any())).thenReturn(true);
+
+        CustomException ex = assertThrows(CustomException.class, () -> interviewService.createInterview(request));
+
+        assertThat(ex.getMessage()).contains("Panelist (ID: 4)");
+        verify(interviewRepository, never()).save(any());
+        verify(interviewPanelistRepository, never()).findActiveOverlapping(anyCollection(), any(), any());
+    }
+
     // -------------------- getAllInterviews --------------------
     @Test
     void getAllInterviews_shouldReturnListOfResponses() {
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
         when(interviewRepository.findAll()).thenReturn(List.of(interview));
 
         List<InterviewResponseDto> result = interviewService.getAllInterviews();
@@ -103,10 +215,24 @@ class InterviewServiceTest {
         assertThat(result.get(0).getCandidateId()).isEqualTo(10);
     }
 
+    // -------------------- getInterviewPage --------------------
+    @Test
+    void getInterviewPage_shouldReadAfterCursorAndOmitCursorOnLastPage() {
+        LocalDateTime after = LocalDateTime.of(2025, 11, 4, 10, 0);
+        when(interviewRepository.findPageAfter(eq("CONFIRMED"), isNull(), isNull(), eq(after), eq(7), any()))
+                .thenReturn(List.of(interview));
+
+        CursorPageResponseDto<InterviewResponseDto> page =
+                interviewService.getInterviewPage(PageCursor.encode(after, 7), 20, "CONFIRMED", null, null);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getLimit()).isEqualTo(20);
+    }
+
     // -------------------- getInterviewById --------------------
     @Test
     void getInterviewById_shouldReturnInterviewResponse() {
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
         when(interviewRepository.findById(1)).thenReturn(Optional.of(interview));
 
         InterviewResponseDto result = interviewService.getInterviewById(1);
@@ -115,6 +241,31 @@ class InterviewServiceTest {
         assertThat(result.getCandidateId()).isEqualTo(10);
     }
 
+    // -------------------- getInterviewsByIds --------------------
+    @Test
+    void getInterviewsByIds_shouldLoadOnceAndKeepRequestOrder() {
+        Interview second = Interview.builder().interviewId(2).candidateId(10).panelistIds("3").build();
+        when(userCacheService.getUserIdNameMap()).thenReturn(Map.of(10, "Candidate", 3, "Panel"));
+        when(interviewRepository.findViewsByIdIn(List.of(2, 1, 99))).thenReturn(List.of(view(interview), view(second)));
+
+        List<InterviewResponseDto> result = interviewService.getInterviewsByIds(List.of(2, 1, 2, 99));
+
+        assertThat(result).extracting(InterviewResponseDto::getInterviewId).containsExactly(2, 1);
+        assertThat(result.get(0).getPanellistNames()).containsExactly("Panel");
+        verify(interviewRepository, times(1)).findViewsByIdIn(any());
+        verify(interviewRepository, never()).findById(anyInt());
+        verify(userCacheService, times(1)).getUserIdNameMap();
+    }
+
+    @Test
+    void getInterviewsByIds_shouldSplitLargeIdListsIntoChunks() {
+        List<Integer> ids = IntStream.rangeClosed(1, InterviewService.IDS_PER_QUERY + 1).boxed().toList();
+        when(interviewRepository.findViewsByIdIn(any())).thenReturn(List.of());
+
+        assertThat(interviewService.getInterviewsByIds(ids)).isEmpty();
+        verify(interviewRepository, times(2)).findViewsByIdIn(any());
+    }
+
     // -------------------- updateInterview --------------------
     @Test
     void updateInterview_shouldUpdateResultBasedOnRating() {
@@ -132,6 +283,9 @@ class InterviewServiceTest {
         assertThat(result).isNotNull();
         verify(interviewEventPublisher).publishInterviewCreated(any(NotificationEvent.class));
         verify(interviewRepository).save(any());
+        verify(dashboardCounters).interviewResultChanged(null, "SELECTED");
+        verify(dashboardCounters).interviewChanged(argThat(previous -> "3,4".equals(previous.getPanelistIds())), eq(existing));
+        verify(interviewStatsRollup).interviewsChanged(List.of(existing));
     }
 
     @Test
@@ -149,70 +303,94 @@ class InterviewServiceTest {
         interviewService.deleteInterview(1);
 
         verify(interviewRepository).save(any(Interview.class));
-        verify(slotService).updateSlotStatus(20, "UNBOOKED");
-    }
-
-    // -------------------- getInterviewSummary --------------------
-    @Test
-    void getInterviewSummary_shouldReturnSummary() {
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
-        when(interviewRepository.countAssignedInterviewsThisMonth(anyString())).thenReturn(5);
-        Interview i = new Interview();
-        i.setCandidateId(10);
-        i.setInterviewType("TECH");
-        i.setStartTime(LocalDateTime.now());
-        i.setMode("ONLINE");
-        when(interviewRepository.findUpcomingInterviewsForWeek(anyString(), any(), any())).thenReturn(List.of(i));
-
-        InterviewSummaryResponseDto result = interviewService.getInterviewSummary("3");
-
-        assertThat(result.getTotalAssignedThisMonth()).isEqualTo(5);
-        assertThat(result.getUpcomingInterviews()).hasSize(1);
+        verify(availabilityIndex).remove(1);
+        verify(dashboardCounters).interviewsRemoved(List.of(interview));
+        verify(panelRollup).panelistsChanged(PanelistIds.toPanelistRows(interview));
+        verify(interviewStatsRollup).interviewsChanged(List.of(interview));
+        verify(slotService).transitionSlots(Set.of(20), SlotStatus.BOOKED, SlotStatus.UNBOOKED);
     }
 
     // -------------------- getInterviewsByPanelId --------------------
     @Test
     void getInterviewsByPanelId_shouldReturnInterviews() {
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
-        when(interviewRepository.findConfirmedInterviewsByPanelId(anyString())).thenReturn(List.of(interview));
+        when(interviewRepository.findConfirmedInterviewsByPanelId(anyInt())).thenReturn(List.of(view(interview)));
 
         List<InterviewResponseDto> result = interviewService.getInterviewsByPanelId(3);
 
         assertThat(result).hasSize(1);
-        verify(interviewRepository).findConfirmedInterviewsByPanelId("3");
+        assertThat(result.get(0).getCandidateName()).isEqualTo("Candidate");
+        assertThat(result.get(0).getPanellistIds()).containsExactly("3", "4");
+        assertThat(result.get(0).getPanellistNames()).containsExactly("Panel", null);
+        verify(interviewRepository).findConfirmedInterviewsByPanelId(3);
     }
 
     // -------------------- getInterviewsByCandidateId --------------------
     @Test
     void getInterviewsByCandidateId_shouldReturnInterviews() {
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
-        when(interviewRepository.findInterviewsByCandidateId(10)).thenReturn(List.of(interview));
+        when(interviewRepository.findInterviewsByCandidateId(10)).thenReturn(List.of(view(interview)));
 
         List<InterviewResponseDto> result = interviewService.getInterviewsByCandidateId(10);
 
         assertThat(result).hasSize(1);
+        assertThat(result.get(0).getInterviewId()).isEqualTo(1);
+        assertThat(result.get(0).getInterviewStatus()).isEqualTo(InterviewStatus.CONFIRMED.toString());
         verify(interviewRepository).findInterviewsByCandidateId(10);
     }
 
     // -------------------- rescheduleInterview --------------------
     @Test
+    @SuppressWarnings("unchecked")
     void rescheduleInterview_shouldUpdateSlotAndSave() {
+        interview.setStartTime(LocalDateTime.now().plusHours(2));
+        interview.setEndTime(LocalDateTime.now().plusHours(3));
         when(interviewRepository.findById(1)).thenReturn(Optional.of(interview));
-        when(slotService.getSlotsByPanelIdStartTimeEndTime(anyList(), any(), any()))
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(eq(List.of(3, 4)), any(), any()))
+                .thenReturn(List.of(new SlotResponseDto(21, 4, LocalDateTime.now(), LocalDateTime.now(), "BOOKED","","")));
+        when(slotService.getSlotsByPanelIdStartTimeEndTime(eq(List.of(3)), any(), any()))
                 .thenReturn(List.of(new SlotResponseDto(30, 3, LocalDateTime.now(), LocalDateTime.now(), "UNBOOKED","","")));
         when(interviewRepository.save(any())).thenReturn(interview);
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
 
         request.setSlotId(99);
         request.setPanelistIds(List.of(3));
         InterviewResponseDto result = interviewService.rescheduleInterview(1, request);
 
         assertThat(result).isNotNull();
-        verify(slotService, atLeastOnce()).updateSlotStatus(anyInt(), anyString());
+        verify(slotService).transitionSlots(Set.of(20, 21), SlotStatus.BOOKED, SlotStatus.UNBOOKED);
+        verify(slotService).reserveSlots(List.of(30));
         verify(interviewRepository).save(any(Interview.class));
+        verify(interviewPanelistRepository).deleteByInterviewId(1);
+        verify(interviewPanelistRepository).saveAll(anyList());
+        verify(availabilityIndex).put(interview);
+        // buckets of the panelists it had and of the ones it has now
+        ArgumentCaptor<List<InterviewPanelist>> rollup = ArgumentCaptor.forClass(List.class);
+        verify(panelRollup, times(2)).panelistsChanged(rollup.capture());
+        assertThat(rollup.getAllValues().get(0)).extracting(InterviewPanelist::getPanelistId).containsExactly(3, 4);
+        assertThat(rollup.getAllValues().get(1)).extracting(InterviewPanelist::getPanelistId).containsExactly(3);
+        // the stats buckets of the old day and panelists too
+        ArgumentCaptor<List<Interview>> stats = ArgumentCaptor.forClass(List.class);
+        verify(interviewStatsRollup).interviewsChanged(stats.capture());
+        assertThat(stats.getValue()).extracting(Interview::getPanelistIds).containsExactly("3,4", "3");
+        // open dashboards drop it from its old window
+        verify(dashboardCounters).interviewChanged(stats.getValue().get(0), interview);
     }
 
     // -------------------- helpers --------------------
+    private void stubUsers() {
+        UserDirectory directory = UserDirectory.of(mockUsers());
+        when(userCacheService.getDirectory()).thenReturn(directory);
+        when(userCacheService.getUserIdNameMap()).thenReturn(directory.names());
+    }
+
+    private InterviewPanelist panelistRow(Integer interviewId, Integer panelistId, LocalDateTime start, LocalDateTime end) {
+        return InterviewPanelist.builder().interviewId(interviewId).panelistId(panelistId).startTime(start).endTime(end).build();
+    }
+
+    private InterviewView view(Interview i) {
+        return new InterviewView(i.getInterviewId(), i.getCandidateId(), i.getSlotId(), i.getHrId(), i.getPanelistIds(),
+                i.getStartTime(), i.getEndTime(), i.getInterviewType(), i.getInterviewStatus(), i.getResult(),
+                i.getFeedback(), i.getCreatedAt(), i.getIsDeleted());
+    }
+
     private List<UserResponseDTO> mockUsers() {
         return List.of(
                 new UserResponseDTO(10, "cand", "999", "pwd", "cand@mail", "Candidate", true, 4, "CANDIDATE", null, null),
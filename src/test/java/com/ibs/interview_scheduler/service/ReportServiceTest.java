@@ -1,6 +1,7 @@
 package com.ibs.interview_scheduler.service;
 
 import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.cache.UserDirectory;
 import com.ibs.interview_scheduler.dtos.responseDto.ReportResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.UserResponseDTO;
 import com.ibs.interview_scheduler.feign.UserClient;
@@ -42,7 +43,7 @@ class ReportServiceTest {
     void getReport_shouldCallInterviewReport() {
         mockInterviewQuery();
 
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
+        when(userCacheService.getUserIdNameMap()).thenReturn(UserDirectory.of(mockUsers()).names());
         when(entityManager.createNativeQuery(anyString())).thenReturn(mockQuery);
         when(mockQuery.getResultList()).thenReturn(mockInterviewRows());
         when(entityManager.createNativeQuery("SELECT COUNT(*) FROM interviews ")).thenReturn(mockQuery);
@@ -109,7 +110,7 @@ class ReportServiceTest {
     @Test
     void getInterviewReport_shouldThrowRuntimeExceptionOnError() {
         when(entityManager.createNativeQuery(anyString())).thenThrow(new RuntimeException("DB Error"));
-        when(userCacheService.getAllUsers()).thenReturn(mockUsers());
+        when(userCacheService.getUserIdNameMap()).thenReturn(UserDirectory.of(mockUsers()).names());
 
         assertThrows(RuntimeException.class, () ->
                 reportService.getReport("interview", start, end, 1, 10, "created_at", "asc"));
@@ -0,0 +1,114 @@
+package com.ibs.interview_scheduler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotImportErrorDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotImportResponseDto;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.enums.SlotImportFormat;
+import com.ibs.interview_scheduler.repository.SlotJdbcRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SlotImportServiceTest {
+
+    @Mock private SlotRepository slotRepository;
+    @Mock private SlotJdbcRepository slotJdbcRepository;
+    @Mock private SlotCalendar slotCalendar;
+    @Mock private DashboardCounters dashboardCounters;
+    @Mock private PanelRollup panelRollup;
+
+    private SlotImportService slotImportService;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 11, 4, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        slotImportService = new SlotImportService(slotRepository, slotJdbcRepository, new ObjectMapper(), slotCalendar, dashboardCounters, panelRollup);
+    }
+
+    @Test
+    void importSlots_shouldImportValidCsvLinesAndReportEachBadLine() {
+        Slot existing = Slot.builder().slotId(1).panelistId(7).startTime(base.plusHours(5)).endTime(base.plusHours(6)).build();
+        when(slotRepository.findOverlappingSlotsForPanelists(anyCollection(), any(), any())).thenReturn(List.of(existing));
+        String csv = """
+                panelistId,startTime,endTime
+                7,2025-11-04T10:00,2025-11-04T11:00
+                7,2025-11-04T10:30,2025-11-04T11:30
+                8,2025-11-04T12:00,2025-11-04T11:00
+                7,2025-11-04T15:00,2025-11-04T16:00
+                not-a-line
+
+                8,2025-11-04T10:00,2025-11-04T11:00
+                """;
+
+        SlotImportResponseDto result = slotImportService.importSlots(new StringReader(csv), SlotImportFormat.CSV);
+
+        assertThat(result.getLines()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(SlotImportErrorDto::getLine).containsExactlyInAnyOrder(3L, 4L, 5L, 6L);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        ArgumentCaptor<List<Slot>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(slotJdbcRepository, times(1)).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(Slot::getPanelistId).containsExactly(7, 8);
+    }
+
+    @Test
+    void importSlots_shouldReadNdjson() {
+        String ndjson = """
+                {"panelistId":7,"startTime":"2025-11-04T10:00","endTime":"2025-11-04T11:00"}
+                {"panelistId":7,"startTime":"2025-11-04T11:00"}
+                {broken
+                """;
+
+        SlotImportResponseDto result = slotImportService.importSlots(new StringReader(ndjson), SlotImportFormat.NDJSON);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(SlotImportErrorDto::getLine).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void importSlots_shouldQueryAndWriteOncePerChunk() {
+        int lines = SlotImportService.CHUNK_SIZE * 2 + 500;
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            LocalDateTime start = base.plusMinutes(30L * i);
+            csv.append(7).append(',').append(start).append(',').append(start.plusMinutes(30)).append('\n');
+        }
+
+        SlotImportResponseDto result = slotImportService.importSlots(new StringReader(csv.toString()), SlotImportFormat.CSV);
+
+        assertThat(result.getImported()).isEqualTo(lines);
+        verify(slotRepository, times(3)).findOverlappingSlotsForPanelists(anyCollection(), any(), any());
+        verify(slotJdbcRepository, times(3)).insertAll(anyList());
+        verify(slotCalendar, times(3)).put(anyList());
+    }
+
+    @Test
+    void importSlots_shouldCapReportedErrors() {
+        String csv = "x\n".repeat(SlotImportService.MAX_REPORTED_ERRORS + 5);
+
+        SlotImportResponseDto result = slotImportService.importSlots(new StringReader(csv), SlotImportFormat.NDJSON);
+
+        assertThat(result.getFailed()).isEqualTo(SlotImportService.MAX_REPORTED_ERRORS + 5);
+        assertThat(result.getErrors()).hasSize(SlotImportService.MAX_REPORTED_ERRORS);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        verifyNoInteractions(slotRepository, slotJdbcRepository, slotCalendar);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ibs.interview_scheduler.service;
+
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
+import com.ibs.interview_scheduler.dtos.requestDto.SlotSeriesRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.SlotSeriesResponseDto;
+import com.ibs.interview_scheduler.entity.Slot;
+import com.ibs.interview_scheduler.exception.CustomException;
+import com.ibs.interview_scheduler.repository.SlotJdbcRepository;
+import com.ibs.interview_scheduler.repository.SlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SlotSeriesServiceTest {
+
+    @Mock private SlotRepository slotRepository;
+    @Mock private SlotJdbcRepository slotJdbcRepository;
+    @Mock private SlotCalendar slotCalendar;
+    @Mock private DashboardCounters dashboardCounters;
+    @Mock private PanelRollup panelRollup;
+
+    @InjectMocks private SlotSeriesService slotSeriesService;
+
+    // a Monday
+    private final LocalDate startDate = LocalDate.of(2025, 11, 3);
+    private SlotSeriesRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        request = new SlotSeriesRequestDto(101, startDate, 12, Set.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY),
+                LocalTime.of(10, 0), LocalTime.of(13, 0), 45);
+    }
+
+    @Test
+    void expand_shouldGenerateBackToBackSlotsOnSelectedDays() {
+        List<Slot> slots = SlotSeriesService.expand(request);
+
+        // 12 weeks x 2 days x 4 slots of 45 minutes in 10:00-13:00
+        assertThat(slots).hasSize(96);
+        assertThat(slots.get(0).getStartTime()).isEqualTo(LocalDateTime.of(2025, 11, 4, 10, 0));
+        assertThat(slots.get(3).getEndTime()).isEqualTo(LocalDateTime.of(2025, 11, 4, 13, 0));
+        assertThat(slots.get(4).getStartTime()).isEqualTo(LocalDateTime.of(2025, 11, 6, 10, 0));
+        assertThat(slots).allSatisfy(slot -> assertThat(slot.getStartTime().getDayOfWeek())
+                .isIn(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY));
+    }
+
+    @Test
+    void createSeries_shouldSkipOverlapsFoundWithOneQueryAndBatchInsertTheRest() {
+        Slot existing = Slot.builder().slotId(5).panelistId(101)
+                .startTime(LocalDateTime.of(2025, 11, 4, 10, 30))
+                .endTime(LocalDateTime.of(2025, 11, 4, 11, 0)).build();
+        when(slotRepository.findOverlappingSlots(eq(101), any(), any())).thenReturn(List.of(existing));
+
+        SlotSeriesResponseDto result = slotSeriesService.createSeries(request);
+
+        assertThat(result.getRequested()).isEqualTo(96);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getCreated()).isEqualTo(94);
+        assertThat(result.getConflicts()).extracting(c -> c.getStartTime().toLocalTime())
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(10, 45));
+        verify(slotRepository, times(1)).findOverlappingSlots(eq(101),
+                eq(LocalDateTime.of(2025, 11, 4, 10, 0)), eq(LocalDateTime.of(2026, 1, 22, 13, 0)));
+        ArgumentCaptor<List<Slot>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(slotJdbcRepository, times(1)).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(94);
+        verify(slotCalendar).put(inserted.getValue());
+        verify(slotRepository, never()).save(any());
+    }
+
+    @Test
+    void createSeries_shouldRejectInvalidRule() {
+        request.setWeeks(SlotSeriesService.MAX_WEEKS + 1);
+        CustomException ex = assertThrows(CustomException.class, () -> slotSeriesService.createSeries(request));
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        request.setWeeks(1);
+        request.setSlotDurationMinutes(240);
+        assertThrows(CustomException.class, () -> slotSeriesService.createSeries(request));
+
+        verifyNoInteractions(slotRepository, slotJdbcRepository);
+    }
+}
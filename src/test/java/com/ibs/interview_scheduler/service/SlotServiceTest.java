@@ -1,15 +1,25 @@
 package com.ibs.interview_scheduler.service;
 
+import com.ibs.interview_scheduler.cache.DashboardCounters;
+import com.ibs.interview_scheduler.cache.PanelRollup;
+import com.ibs.interview_scheduler.cache.SlotCalendar;
 import com.ibs.interview_scheduler.cache.UserCacheService;
+import com.ibs.interview_scheduler.dtos.projection.SlotView;
 import com.ibs.interview_scheduler.dtos.requestDto.SlotRequestDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CommonAvailabilityResponseDto;
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
 import com.ibs.interview_scheduler.dtos.responseDto.SlotResponseDto;
-import com.ibs.interview_scheduler.dtos.responseDto.SlotSummaryResponseDto;
 import com.ibs.interview_scheduler.entity.Slot;
 import com.ibs.interview_scheduler.enums.SlotStatus;
+import com.ibs.interview_scheduler.events.SlotsTransitionedEvent;
+import com.ibs.interview_scheduler.exception.CustomException;
 import com.ibs.interview_scheduler.repository.SlotRepository;
+import com.ibs.interview_scheduler.utils.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -21,6 +31,10 @@ class SlotServiceTest {
 
     @Mock private SlotRepository slotRepository;
     @Mock private UserCacheService userCacheService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private SlotCalendar slotCalendar;
+    @Mock private DashboardCounters dashboardCounters;
+    @Mock private PanelRollup panelRollup;
 
     @InjectMocks private SlotService slotService;
 
@@ -65,6 +79,9 @@ class SlotServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getPanelistId()).isEqualTo(101);
         verify(slotRepository).save(any(Slot.class));
+        verify(slotCalendar).put(List.of(slot));
+        verify(dashboardCounters).slotsAdded(List.of(slot));
+        verify(panelRollup).slotsChanged(List.of(slot));
     }
 
     @Test
@@ -142,6 +159,8 @@ class SlotServiceTest {
 
         verify(slotRepository).save(any(Slot.class));
         assertThat(slot.getIsDeleted()).isTrue();
+        verify(dashboardCounters).slotsRemoved(List.of(slot));
+        verify(panelRollup).slotsChanged(List.of(slot));
     }
 
     // -------------------- getOverLappingSlot --------------------
@@ -149,7 +168,7 @@ class SlotServiceTest {
     @Test
     void getOverLappingSlot_shouldReturnList() {
         when(userCacheService.getUserIdNameMap()).thenReturn(Map.of(101, "Panel"));
-        when(slotRepository.findAvailablePanelistIdsInSlot(any(), any())).thenReturn(List.of(slot));
+        when(slotRepository.findAvailableSlotViewsInRange(start, end)).thenReturn(List.of(view(slot)));
 
         List<SlotResponseDto> result = slotService.getOverLappingSlot(start, end);
 
@@ -162,51 +181,82 @@ class SlotServiceTest {
     @Test
     void getAllSlotsByPanelID_shouldReturnList() {
         when(userCacheService.getUserIdNameMap()).thenReturn(Map.of(101, "Panel"));
-        when(slotRepository.findActiveSlotsByPanelistId(101)).thenReturn(List.of(slot));
+        when(slotRepository.findActiveSlotsByPanelistId(101)).thenReturn(List.of(view(slot)));
 
         List<SlotResponseDto> result = slotService.getAllSlotsByPanelID(101);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getPanelistId()).isEqualTo(101);
+        assertThat(result.get(0).getStartTime()).isEqualTo(start);
+        assertThat(result.get(0).getStatus()).isEqualTo(SlotStatus.UNBOOKED.toString());
+        assertThat(result.get(0).getPanelistName()).isEqualTo("Panel");
     }
 
-    // -------------------- updateSlotStatus --------------------
+    // -------------------- transitionSlots --------------------
 
     @Test
-    void updateSlotStatus_shouldUpdateSuccessfully() {
-        when(slotRepository.findById(1)).thenReturn(Optional.of(slot));
+    void transitionSlots_shouldUpdateOnceAndPublishOneEvent() {
+        when(slotRepository.transitionStatus(anyCollection(), eq("BOOKED"), eq("UNBOOKED"), any(), any())).thenReturn(2);
+
+        int moved = slotService.transitionSlots(List.of(1, 2, 3, 3), SlotStatus.BOOKED, SlotStatus.UNBOOKED);
+
+        assertThat(moved).isEqualTo(2);
+        verify(slotRepository, times(1)).transitionStatus(eq(Set.of(1, 2, 3)), any(), any(), any(), any());
+        ArgumentCaptor<SlotsTransitionedEvent> event = ArgumentCaptor.forClass(SlotsTransitionedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getSlotIds()).containsExactly(1, 2, 3);
+        assertThat(event.getValue().getAffected()).isEqualTo(2);
+        assertThat(event.getValue().getTo()).isEqualTo(SlotStatus.UNBOOKED);
+    }
 
-        slotService.updateSlotStatus(1, "BOOKED");
+    @Test
+    void transitionSlots_shouldNotPublishWhenNothingMoved() {
+        when(slotRepository.transitionStatus(anyCollection(), any(), any(), any(), any())).thenReturn(0);
 
-        assertThat(slot.getStatus()).isEqualTo("BOOKED");
+        assertThat(slotService.transitionSlots(List.of(1), SlotStatus.BOOKED, SlotStatus.UNBOOKED)).isZero();
+        verifyNoInteractions(eventPublisher);
     }
 
+    // -------------------- reserveSlots --------------------
+
     @Test
-    void updateSlotStatus_shouldThrowWhenNotFound() {
-        when(slotRepository.findById(999)).thenReturn(Optional.empty());
+    void reserveSlots_shouldReserveDistinctSlotsWithOneUpdate() {
+        when(slotRepository.transitionStatus(eq(Set.of(1, 2)), eq("UNBOOKED"), eq("BOOKED"), any(), any())).thenReturn(2);
 
-        assertThrows(RuntimeException.class, () -> slotService.updateSlotStatus(999, "BOOKED"));
-    }
+        int reserved = slotService.reserveSlots(List.of(1, 2, 2));
 
-    // -------------------- getSlotSummary --------------------
+        assertThat(reserved).isEqualTo(2);
+        verify(slotRepository, times(1)).transitionStatus(anyCollection(), any(), any(), any(), any());
+    }
 
     @Test
-    void getSlotSummary_shouldReturnSummary() {
-        when(slotRepository.countTotalSlotsThisMonth(anyInt())).thenReturn(10);
-        when(slotRepository.countAppliedSlotsThisMonth(anyInt())).thenReturn(3);
+    void reserveSlots_shouldThrowConflictWhenAnySlotWasAlreadyBooked() {
+        when(slotRepository.transitionStatus(anyCollection(), any(), any(), any(), any())).thenReturn(1);
+
+        CustomException ex = assertThrows(CustomException.class, () -> slotService.reserveSlots(List.of(1, 2)));
 
-        SlotSummaryResponseDto result = slotService.getSlotSummary(101);
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+    }
 
-        assertThat(result.getTotalSlotsThisMonth()).isEqualTo(10);
-        assertThat(result.getAppliedSlots()).isEqualTo(3);
-        assertThat(result.getWeeklyPlanSlots()).isEqualTo(2);
+    @Test
+    void reserveSlots_shouldSkipQueryWhenNothingToReserve() {
+        assertThat(slotService.reserveSlots(List.of())).isZero();
+        verifyNoInteractions(slotRepository);
     }
 
+    // -------------------- deleteSlots --------------------
+
     @Test
-    void getSlotSummary_shouldThrowRuntimeExceptionOnError() {
-        when(slotRepository.countTotalSlotsThisMonth(anyInt())).thenThrow(new RuntimeException("DB error"));
+    void deleteSlots_shouldSoftDeleteWithOneUpdate() {
+        when(slotRepository.softDeleteBySlotIds(eq(Set.of(1, 2)), any(), any())).thenReturn(2);
 
-        assertThrows(RuntimeException.class, () -> slotService.getSlotSummary(101));
+        when(slotRepository.findAllById(Set.of(1, 2))).thenReturn(List.of(slot));
+
+        assertThat(slotService.deleteSlots(List.of(1, 2))).isEqualTo(2);
+        verify(slotRepository, never()).save(any());
+        verify(slotCalendar).remove(List.of(slot));
+        verify(dashboardCounters).slotsRemoved(List.of(slot));
+        verify(panelRollup).slotsChanged(List.of(slot));
     }
 
     // -------------------- getSlotsByPanelIdStartTimeEndTime --------------------
@@ -232,17 +282,99 @@ class SlotServiceTest {
                 slotService.getSlotsByPanelIdStartTimeEndTime(List.of(101), start, end));
     }
 
+    // -------------------- getCommonAvailability --------------------
+
+    @Test
+    void getCommonAvailability_shouldIntersectFreeSlotsFromOneQuery() {
+        Slot other = Slot.builder().slotId(2).panelistId(102).startTime(start.plusHours(1)).endTime(end.plusHours(1))
+                .status(SlotStatus.UNBOOKED.toString()).build();
+        when(slotRepository.findFreeSlotsOverlapping(anyCollection(), any(), any())).thenReturn(List.of(slot, other));
+
+        List<CommonAvailabilityResponseDto> result =
+                slotService.getCommonAvailability(List.of(101, 102), start.minusHours(1), end.plusHours(2), 30);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStartTime()).isEqualTo(start.plusHours(1));
+        assertThat(result.get(0).getEndTime()).isEqualTo(end);
+        assertThat(result.get(0).getDurationMinutes()).isEqualTo(60);
+        verify(slotRepository, times(1)).findFreeSlotsOverlapping(anyCollection(), any(), any());
+    }
+
+    @Test
+    void getCommonAvailability_shouldReturnEmptyWhenAPanelistHasNoFreeSlots() {
+        when(slotRepository.findFreeSlotsOverlapping(anyCollection(), any(), any())).thenReturn(List.of(slot));
+
+        assertThat(slotService.getCommonAvailability(List.of(101, 102), start, end, 30)).isEmpty();
+    }
+
+    @Test
+    void getCommonAvailability_shouldRejectInvalidRange() {
+        CustomException ex = assertThrows(CustomException.class,
+                () -> slotService.getCommonAvailability(List.of(101), end, start, 30));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThrows(CustomException.class,
+                () -> slotService.getCommonAvailability(List.of(101), start, start.plusDays(60), 30));
+        verifyNoInteractions(slotRepository);
+    }
+
+    // -------------------- getFreePanelists --------------------
+
+    @Test
+    void getFreePanelists_shouldUseCalendarWhenItCoversTheWindow() {
+        when(slotCalendar.covers(start, end)).thenReturn(true);
+        when(slotCalendar.freePanelists(start, end)).thenReturn(List.of(9, 3));
+
+        assertThat(slotService.getFreePanelists(start, end)).containsExactly(3, 9);
+        verifyNoInteractions(slotRepository);
+    }
+
+    @Test
+    void getFreePanelists_shouldFallBackToSlotsCoveringTheWholeWindow() {
+        Slot partial = Slot.builder().slotId(2).panelistId(102).startTime(start.plusMinutes(30)).endTime(end)
+                .status(SlotStatus.UNBOOKED.toString()).build();
+        when(slotRepository.findAvailablePanelistIdsInSlot(start, end)).thenReturn(List.of(slot, partial));
+
+        assertThat(slotService.getFreePanelists(start, end)).containsExactly(101);
+    }
+
     // -------------------- getAllAvailableSlots --------------------
 
     @Test
     void getAllAvailableSlots_shouldReturnFilteredSlots() {
         when(userCacheService.getUserIdNameMap()).thenReturn(Map.of(101, "Panel"));
-        Slot slot2 = Slot.builder().slotId(2).panelistId(101).status("BOOKED").isDeleted(false).build();
-        when(slotRepository.findAll()).thenReturn(List.of(slot, slot2));
+        when(slotRepository.findByStatusOrderByStartTimeAsc("UNBOOKED")).thenReturn(List.of(slot));
 
         List<SlotResponseDto> result = slotService.getAllAvailableSlots();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStatus()).isEqualTo("UNBOOKED");
+        verify(slotRepository, never()).findAll();
+    }
+
+    // -------------------- getSlotPage --------------------
+
+    @Test
+    void getSlotPage_shouldReturnCursorOfLastRowWhenMoreRowsFollow() {
+        Slot next = Slot.builder().slotId(2).panelistId(101).startTime(end).endTime(end.plusHours(1))
+                .status(SlotStatus.UNBOOKED.toString()).build();
+        when(userCacheService.getUserIdNameMap()).thenReturn(Map.of(101, "Panel"));
+        when(slotRepository.findPageAfter(eq(101), eq("UNBOOKED"), isNull(), any(), eq(0), any()))
+                .thenReturn(List.of(slot, next));
+
+        CursorPageResponseDto<SlotResponseDto> page = slotService.getSlotPage(null, 1, 101, "UNBOOKED", null);
+
+        assertThat(page.getItems()).extracting(SlotResponseDto::getSlotId).containsExactly(1);
+        assertThat(PageCursor.decode(page.getNextCursor())).isEqualTo(new PageCursor.Position(start, 1));
+    }
+
+    @Test
+    void getSlotPage_shouldRejectLimitAboveMaximum() {
+        assertThrows(CustomException.class, () -> slotService.getSlotPage(null, PageCursor.MAX_LIMIT + 1, null, null, null));
+        verifyNoInteractions(slotRepository);
+    }
+
+    private SlotView view(Slot s) {
+        return new SlotView(s.getSlotId(), s.getPanelistId(), s.getStartTime(), s.getEndTime(), s.getStatus());
     }
 }
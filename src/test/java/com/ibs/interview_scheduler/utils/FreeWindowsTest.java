@@ -0,0 +1,71 @@
+package com.ibs.interview_scheduler.utils;
+
+import com.ibs.interview_scheduler.entity.Slot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreeWindowsTest {
+
+    private final LocalDateTime day = LocalDateTime.of(2025, 11, 4, 0, 0);
+
+    // ---------------- common ----------------
+
+    @Test
+    void common_shouldReturnIntersectionOfAllPanelists() {
+        List<FreeWindows.Window> windows = FreeWindows.common(List.of(
+                List.of(slot(9, 12), slot(14, 17)),
+                List.of(slot(10, 11), slot(15, 18)),
+                List.of(slot(8, 16))), at(0), at(24), Duration.ofMinutes(30));
+
+        assertThat(windows).containsExactly(
+                new FreeWindows.Window(at(10), at(11)),
+                new FreeWindows.Window(at(15), at(16)));
+    }
+
+    @Test
+    void common_shouldMergeBackToBackSlotsOfOnePanelist() {
+        List<FreeWindows.Window> windows = FreeWindows.common(List.of(
+                List.of(slot(9, 10), slot(10, 11)),
+                List.of(slot(9, 11))), at(0), at(24), Duration.ofMinutes(90));
+
+        assertThat(windows).containsExactly(new FreeWindows.Window(at(9), at(11)));
+    }
+
+    @Test
+    void common_shouldNotReturnWindowWhenPanelistsOnlyTouch() {
+        List<FreeWindows.Window> windows = FreeWindows.common(List.of(
+                List.of(slot(9, 10)),
+                List.of(slot(10, 11))), at(0), at(24), Duration.ofMinutes(1));
+
+        assertThat(windows).isEmpty();
+    }
+
+    @Test
+    void common_shouldDropWindowsShorterThanMinimumAndClipToRange() {
+        List<FreeWindows.Window> windows = FreeWindows.common(List.of(
+                List.of(slot(8, 13)),
+                List.of(slot(8, 9), slot(11, 13))), at(9), at(12), Duration.ofMinutes(30));
+
+        assertThat(windows).containsExactly(new FreeWindows.Window(at(11), at(12)));
+    }
+
+    @Test
+    void common_shouldReturnEmptyWhenAPanelistHasNoFreeTime() {
+        assertThat(FreeWindows.common(List.of(List.of(slot(9, 10)), List.of()), at(0), at(24), Duration.ofMinutes(1)))
+                .isEmpty();
+        assertThat(FreeWindows.common(List.of(), at(0), at(24), Duration.ofMinutes(1))).isEmpty();
+    }
+
+    private LocalDateTime at(int hour) {
+        return day.plusHours(hour);
+    }
+
+    private Slot slot(int startHour, int endHour) {
+        return Slot.builder().startTime(at(startHour)).endTime(at(endHour)).status("UNBOOKED").build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ibs.interview_scheduler.utils;
+
+import com.ibs.interview_scheduler.dtos.responseDto.CursorPageResponseDto;
+import com.ibs.interview_scheduler.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    private final LocalDateTime time = LocalDateTime.of(2025, 11, 4, 10, 30);
+
+    @Test
+    void decode_shouldReturnEncodedPosition() {
+        assertThat(PageCursor.decode(PageCursor.encode(time, 42))).isEqualTo(new PageCursor.Position(time, 42));
+    }
+
+    @Test
+    void decode_shouldStartBeforeEverythingWithoutCursor() {
+        PageCursor.Position first = PageCursor.decode(null);
+
+        assertThat(first.startTime()).isBefore(time);
+        assertThat(first.id()).isZero();
+    }
+
+    @Test
+    void decode_shouldRejectTamperedCursor() {
+        CustomException ex = assertThrows(CustomException.class, () -> PageCursor.decode("not a cursor"));
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThrows(CustomException.class, () -> PageCursor.decode(PageCursor.encode(time, 1).substring(3)));
+    }
+
+    @Test
+    void probe_shouldAskForOneExtraRow() {
+        assertThat(PageCursor.probe(25).getPageSize()).isEqualTo(26);
+        assertThrows(CustomException.class, () -> PageCursor.probe(0));
+    }
+
+    @Test
+    void toPage_shouldTrimExtraRowAndPointCursorAtLastItem() {
+        List<Integer> rows = List.of(1, 2, 3);
+
+        CursorPageResponseDto<String> page = PageCursor.toPage(rows, 2, String::valueOf, id -> time.plusHours(id), Function.identity());
+
+        assertThat(page.getItems()).containsExactly("1", "2");
+        assertThat(PageCursor.decode(page.getNextCursor())).isEqualTo(new PageCursor.Position(time.plusHours(2), 2));
+        assertThat(PageCursor.toPage(rows, 3, String::valueOf, id -> time, Function.identity()).getNextCursor()).isNull();
+    }
+}